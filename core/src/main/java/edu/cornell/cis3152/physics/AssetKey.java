@@ -0,0 +1,56 @@
+package edu.cornell.cis3152.physics;
+
+import edu.cornell.gdiac.assets.AssetDirectory;
+
+/**
+ * A typed handle for one entry of an asset directory.
+ *
+ * <p>The handles themselves are generated at build time by the {@code generateAssetKeys} task:
+ * {@code AssetKeys} holds one per entry of {@code assets.json} and {@code BootKeys} one per entry
+ * of {@code loading/boot.json}, grouped by section ({@code AssetKeys.Textures.SHARED_LOTUS},
+ * {@code AssetKeys.Sounds.PLATFORM_JUMP}, ...). The task fails the build if a directory, a level or
+ * a string lookup in code names an asset that is not there, so a handle that compiles refers to an
+ * entry that exists.
+ *
+ * @param <T> the type the entry loads as
+ */
+public final class AssetKey<T> {
+    private final String key;
+    private final Class<T> type;
+
+    public AssetKey(String key, Class<T> type) {
+        this.key = key;
+        this.type = type;
+    }
+
+    /** Returns the key of the entry in its directory */
+    public String key() {
+        return key;
+    }
+
+    /** Returns the type the entry loads as */
+    public Class<T> type() {
+        return type;
+    }
+
+    /**
+     * Returns this entry from a loaded asset directory.
+     *
+     * @param assets the directory the entry was loaded into
+     *
+     * @return the loaded asset
+     * @throws IllegalStateException if the directory has not loaded the entry
+     */
+    public T get(AssetDirectory assets) {
+        T asset = assets.getEntry(key, type);
+        if (asset == null) {
+            throw new IllegalStateException(type.getSimpleName() + " not loaded: " + key);
+        }
+        return asset;
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
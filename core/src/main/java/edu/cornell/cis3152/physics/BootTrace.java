@@ -0,0 +1,350 @@
+package edu.cornell.cis3152.physics;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.utils.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Opt-in timeline of the boot sequence, from process start to the first frame in which the level
+ * select screen takes input.
+ *
+ * <p>Enable with {@code -Dfrog.bootTrace=true} (written to {@value #DEFAULT_FILE} in the working
+ * directory) or {@code -Dfrog.bootTrace=<path>}. Events are kept in memory and written once, as
+ * Chrome trace JSON, by {@link #finish(String)}; open the file in {@code chrome://tracing} or
+ * Perfetto. Timestamps count from the start of the process (of the first process, when
+ * {@code StartupHelper} relaunches the JVM), so the trace covers JVM startup as well.
+ *
+ * <p>There are three kinds of event. {@link #start()} and {@link #span} time a block of work on
+ * the calling thread; {@link #begin} and {@link #end} bracket a phase that spans several frames,
+ * shown on its own row; {@link #instant} marks a moment. {@link #traceLoads(AssetManager)} adds a
+ * span for every asset a manager loads, named by file. Every call is a single check while the
+ * trace is off or already written. Thread: any.
+ */
+public final class BootTrace {
+    /** System property that turns the trace on, and optionally names the output file */
+    public static final String PROPERTY = "frog.bootTrace";
+    /** System property a relaunched JVM gets, holding the first process's start (epoch millis) */
+    public static final String ORIGIN_PROPERTY = "frog.bootTrace.origin";
+    /** Output file when the property is just {@code true} */
+    public static final String DEFAULT_FILE = "boot-trace.json";
+
+    private static final String FILE = resolveFile();
+    private static final long ORIGIN_MILLIS = resolveOrigin();
+    /** Clock pair that converts {@link System#nanoTime()} into microseconds since the origin */
+    private static final long ANCHOR_NANOS = System.nanoTime();
+    private static final long ANCHOR_MICROS = (System.currentTimeMillis() - ORIGIN_MILLIS) * 1000;
+    private static final long PID = ProcessHandle.current().pid();
+
+    /** Cleared once the file is written */
+    private static volatile boolean recording = FILE != null;
+
+    private static final Object lock = new Object();
+    /** Serialised events; guarded by {@link #lock} */
+    private static final StringBuilder events = new StringBuilder();
+    /** Threads already given a name record; guarded by {@link #lock} */
+    private static final Set<Long> namedThreads = new HashSet<>();
+    private static int count;
+
+    private BootTrace() {
+    }
+
+    private static String resolveFile() {
+        String value = System.getProperty(PROPERTY);
+        if (value == null || value.isEmpty() || value.equalsIgnoreCase("false")) {
+            return null;
+        }
+        return value.equalsIgnoreCase("true") ? DEFAULT_FILE : value;
+    }
+
+    private static long resolveOrigin() {
+        String inherited = System.getProperty(ORIGIN_PROPERTY);
+        if (inherited != null) {
+            try {
+                return Long.parseLong(inherited);
+            } catch (NumberFormatException e) {
+                // Fall back to this process's own start
+            }
+        }
+        return processStartMillis();
+    }
+
+    private static long processStartMillis() {
+        return ProcessHandle.current().info().startInstant()
+                .map(Instant::toEpochMilli)
+                .orElse(System.currentTimeMillis());
+    }
+
+    public static boolean isEnabled() {
+        return recording;
+    }
+
+    /** Returns the start of the traced launch, for passing to a relaunched JVM */
+    public static long originMillis() {
+        return ORIGIN_MILLIS;
+    }
+
+    /**
+     * Records the time before {@code main} was reached. Call first thing in {@code main}.
+     *
+     * <p>This is one span for JVM startup, preceded by one for the first JVM when this process
+     * is a relaunch.
+     */
+    public static void markMain() {
+        if (!recording) {
+            return;
+        }
+        long now = System.nanoTime();
+        long main = micros(now);
+        long self = Math.min(main, Math.max(0, (processStartMillis() - ORIGIN_MILLIS) * 1000));
+        if (self > 0) {
+            append("X", "jvm", "First JVM (StartupHelper relaunch)", null, 0, self);
+        }
+        append("X", "jvm", "JVM startup", null, self, main - self);
+    }
+
+    /**
+     * Returns a start time for {@link #span}, or 0 when the trace is off.
+     *
+     * @return the current {@link System#nanoTime()}, or 0
+     */
+    public static long start() {
+        return recording ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records a block of work on the calling thread that began at {@code start}.
+     *
+     * @param category the event category
+     * @param name     the event name
+     * @param start    the value {@link #start()} returned
+     */
+    public static void span(String category, String name, long start) {
+        span(category, name, null, start);
+    }
+
+    /**
+     * Records a block of work on the calling thread that began at {@code start}.
+     *
+     * @param category the event category
+     * @param name     the event name
+     * @param detail   shown with the event (e.g. a file); only converted to a string when tracing
+     * @param start    the value {@link #start()} returned
+     */
+    public static void span(String category, String name, Object detail, long start) {
+        if (recording && start != 0) {
+            complete(category, name, detail, start, System.nanoTime());
+        }
+    }
+
+    /**
+     * Records a block of work on the calling thread between two {@link System#nanoTime()} values.
+     *
+     * @param category the event category
+     * @param name     the event name
+     * @param detail   shown with the event, or null
+     * @param start    the start time in nanoseconds
+     * @param end      the end time in nanoseconds
+     */
+    public static void complete(String category, String name, Object detail, long start, long end) {
+        if (recording) {
+            append("X", category, name, detail, micros(start), micros(end) - micros(start));
+        }
+    }
+
+    /**
+     * Opens a phase that may last several frames. Close it with {@link #end} and the same names.
+     *
+     * @param category the event category
+     * @param name     the phase name
+     */
+    public static void begin(String category, String name) {
+        if (recording) {
+            append("b", category, name, null, micros(System.nanoTime()), 0);
+        }
+    }
+
+    /**
+     * Closes a phase opened by {@link #begin}.
+     *
+     * @param category the event category
+     * @param name     the phase name
+     */
+    public static void end(String category, String name) {
+        if (recording) {
+            append("e", category, name, null, micros(System.nanoTime()), 0);
+        }
+    }
+
+    /**
+     * Marks a moment in the boot sequence.
+     *
+     * @param category the event category
+     * @param name     the event name
+     */
+    public static void instant(String category, String name) {
+        if (recording) {
+            append("i", category, name, null, micros(System.nanoTime()), 0);
+        }
+    }
+
+    /**
+     * Adds a span for every asset the manager loads from now on.
+     *
+     * <p>The asset manager times each load itself when its logger is at debug level, and reports
+     * it as {@code "Loaded: <ms>ms <file>, <type>"}. This installs a logger that turns those
+     * reports into events (named by file, categorised by type) instead of printing them.
+     *
+     * @param manager the manager to trace, before it queues anything
+     */
+    public static void traceLoads(AssetManager manager) {
+        if (recording) {
+            manager.setLogger(new LoadLogger());
+        }
+    }
+
+    /**
+     * Marks the end of the boot sequence and writes the trace. Later calls do nothing.
+     *
+     * @param milestone the name of the final event
+     */
+    public static void finish(String milestone) {
+        if (!recording) {
+            return;
+        }
+        instant("boot", milestone);
+        String json;
+        int total;
+        synchronized (lock) {
+            if (!recording) {
+                return;
+            }
+            recording = false;
+            total = count;
+            json = "{\"displayTimeUnit\":\"ms\",\"traceEvents\":[" + events + "\n]}\n";
+            events.setLength(0);
+        }
+        try {
+            Files.writeString(Path.of(FILE), json, StandardCharsets.UTF_8);
+            GameLog.info("BootTrace", "Wrote {} events to {}", total, FILE);
+        } catch (IOException e) {
+            GameLog.error("BootTrace", "Could not write {}", FILE, e);
+        }
+    }
+
+    private static long micros(long nanos) {
+        return ANCHOR_MICROS + (nanos - ANCHOR_NANOS) / 1000;
+    }
+
+    private static void append(String phase, String category, String name, Object detail,
+                               long ts, long dur) {
+        Thread thread = Thread.currentThread();
+        long tid = thread.getId();
+        String args = detail == null ? null : detail.toString();
+        synchronized (lock) {
+            if (!recording) {
+                return;
+            }
+            if (namedThreads.add(tid)) {
+                events.append(count == 0 ? "\n" : ",\n");
+                events.append("{\"ph\":\"M\",\"name\":\"thread_name\",\"pid\":").append(PID)
+                        .append(",\"tid\":").append(tid).append(",\"args\":{\"name\":");
+                quote(thread.getName());
+                events.append("}}");
+                count++;
+            }
+            events.append(",\n{\"ph\":\"").append(phase).append("\",\"cat\":");
+            quote(category);
+            events.append(",\"name\":");
+            quote(name);
+            events.append(",\"pid\":").append(PID).append(",\"tid\":").append(tid)
+                    .append(",\"ts\":").append(ts);
+            switch (phase) {
+                case "X" -> events.append(",\"dur\":").append(Math.max(0, dur));
+                case "b", "e" -> {
+                    events.append(",\"id\":");
+                    quote(name);
+                }
+                case "i" -> events.append(",\"s\":\"p\"");
+                default -> { }
+            }
+            if (args != null) {
+                events.append(",\"args\":{\"detail\":");
+                quote(args);
+                events.append('}');
+            }
+            events.append('}');
+            count++;
+        }
+    }
+
+    /** Appends a JSON string literal; the caller holds {@link #lock} */
+    private static void quote(String text) {
+        events.append('"');
+        for (int ii = 0; ii < text.length(); ii++) {
+            char c = text.charAt(ii);
+            switch (c) {
+                case '"' -> events.append("\\\"");
+                case '\\' -> events.append("\\\\");
+                case '\n' -> events.append("\\n");
+                case '\r' -> events.append("\\r");
+                case '\t' -> events.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        events.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        events.append(c);
+                    }
+                }
+            }
+        }
+        events.append('"');
+    }
+
+    /** Asset manager logger that records load reports instead of printing them */
+    private static final class LoadLogger extends Logger {
+        private static final String LOADED = "Loaded: ";
+
+        LoadLogger() {
+            // Debug level is what makes the manager time each load
+            super("AssetManager", Logger.DEBUG);
+        }
+
+        @Override
+        public void debug(String message) {
+            if (!recording || !message.startsWith(LOADED)) {
+                return;
+            }
+            int unit = message.indexOf("ms ", LOADED.length());
+            if (unit < 0) {
+                return;
+            }
+            long end = System.nanoTime();
+            long nanos;
+            try {
+                nanos = (long) (Float.parseFloat(message.substring(LOADED.length(), unit)) * 1_000_000);
+            } catch (NumberFormatException e) {
+                return;
+            }
+            String asset = message.substring(unit + 3);
+            String type = "asset";
+            int comma = asset.lastIndexOf(", ");
+            if (comma >= 0) {
+                type = asset.substring(Math.max(comma + 2, asset.lastIndexOf('.') + 1));
+                asset = asset.substring(0, comma);
+            }
+            complete(type, asset, null, end - nanos, end);
+        }
+
+        @Override
+        public void info(String message) {
+            // Queued/loading notices; the spans already cover them
+        }
+    }
+}
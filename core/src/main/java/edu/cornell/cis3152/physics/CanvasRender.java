@@ -1,18 +1,52 @@
 package edu.cornell.cis3152.physics;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ScreenUtils;
+import edu.cornell.gdiac.graphics.SpriteBatch;
+
+import java.nio.IntBuffer;
 
 /**
  * Tracks the game's letterboxed viewport and input coordinate conversion.
+ *
+ * <p>Gameplay scenes draw between {@link #beginScene()} and {@link #endScene(SpriteBatch)}. That
+ * renders them into an offscreen buffer of the design size times a small integer factor (at most
+ * {@code -Dfrog.renderScale}, default {@value #DEFAULT_RENDER_SCALE}; 0 draws straight to the
+ * window), which is then blitted into the letterbox of whatever target was bound before. The
+ * factor is the largest one that divides the letterbox exactly, so the blit is a whole-number
+ * nearest upscale and every source pixel covers the same number of window pixels; only a
+ * letterbox that is not a whole multiple of the design size is filtered linearly. Fill-rate cost
+ * is then independent of the monitor. While the buffer is bound, {@link #apply()} and
+ * {@link #reset()} both target the whole buffer, so scene code is unchanged. Menus still draw at
+ * window resolution.
+ *
+ * <p>With {@code -Dfrog.integerScale=true} the letterbox is also snapped to a whole multiple of
+ * the design size whenever the window is at least that large.
  */
-public class CanvasRender {
+public class CanvasRender implements Disposable {
     /** The original game design resolution */
     public static final int DESIGN_WIDTH = 640;
     /** The original game design resolution */
     public static final int DESIGN_HEIGHT = 360;
 
+    /** Largest offscreen scale factor unless overridden */
+    public static final int DEFAULT_RENDER_SCALE = 2;
+    /** Maximum offscreen scale factor; 0 disables the offscreen pass */
+    private static final int MAX_RENDER_SCALE =
+            Math.max(0, Integer.getInteger("frog.renderScale", DEFAULT_RENDER_SCALE));
+    /** Whether the letterbox snaps to whole multiples of the design size */
+    private static final boolean INTEGER_SCALE = Boolean.getBoolean("frog.integerScale");
+
     /** Reference size UI constants were authored against (letterboxed logical canvas). */
     private static final float REFERENCE_WIDTH = 1280f;
     private static final float REFERENCE_HEIGHT = 720f;
@@ -38,7 +72,24 @@ public class CanvasRender {
     /** Letterboxed viewport height */
     private int viewportHeight;
 
+    /** Offscreen target for gameplay scenes (allocated on first use) */
+    private FrameBuffer sceneBuffer;
+    private final TextureRegion sceneRegion = new TextureRegion();
+    private final OrthographicCamera blitCamera = new OrthographicCamera();
+    /** Scale factor of the offscreen target for the current viewport */
+    private int renderScale;
+    /** Whether the blit of the current viewport is a whole-number upscale */
+    private boolean exactScale;
+    /** Whether {@link #sceneBuffer} is currently set up for {@link #exactScale} */
+    private boolean bufferExact;
+    /** Whether drawing currently goes to {@link #sceneBuffer} */
+    private boolean offscreen;
+    /** Framebuffer and viewport bound before {@link #beginScene()}, restored by {@link #endScene} */
+    private final IntBuffer previousBinding = BufferUtils.newIntBuffer(16);
+    private final IntBuffer previousViewport = BufferUtils.newIntBuffer(16);
+
     public CanvasRender() {
+        blitCamera.setToOrtho(false, DESIGN_WIDTH, DESIGN_HEIGHT);
         resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
     }
 
@@ -53,25 +104,112 @@ public class CanvasRender {
                 (float) screenWidth / DESIGN_WIDTH,
                 (float) screenHeight / DESIGN_HEIGHT
         );
+        if (INTEGER_SCALE && scale >= 1.0f) {
+            scale = (float) Math.floor(scale);
+        }
 
         viewportWidth = Math.max(1, Math.round(DESIGN_WIDTH * scale));
         viewportHeight = Math.max(1, Math.round(DESIGN_HEIGHT * scale));
         viewportX = (screenWidth - viewportWidth) / 2;
         viewportY = (screenHeight - viewportHeight) / 2;
+
+        // No point rendering offscreen at more pixels than the letterbox will show
+        int ideal = Math.min(MAX_RENDER_SCALE,
+                Math.max(1, (int) Math.ceil((float) viewportWidth / DESIGN_WIDTH)));
+        renderScale = ideal;
+        exactScale = false;
+        for (int factor = ideal; factor >= 1; factor--) {
+            if (viewportWidth % (DESIGN_WIDTH * factor) == 0 && viewportHeight % (DESIGN_HEIGHT * factor) == 0) {
+                renderScale = factor;
+                exactScale = true;
+                break;
+            }
+        }
     }
 
     /**
      * Applies the letterboxed viewport before drawing.
      */
     public void apply() {
-        Gdx.gl.glViewport(viewportX, viewportY, viewportWidth, viewportHeight);
+        if (offscreen) {
+            Gdx.gl.glViewport(0, 0, sceneBuffer.getWidth(), sceneBuffer.getHeight());
+        } else {
+            Gdx.gl.glViewport(viewportX, viewportY, viewportWidth, viewportHeight);
+        }
     }
 
     /**
      * Restores the full window viewport after drawing.
      */
     public void reset() {
-        Gdx.gl.glViewport(0, 0, screenWidth, screenHeight);
+        if (offscreen) {
+            Gdx.gl.glViewport(0, 0, sceneBuffer.getWidth(), sceneBuffer.getHeight());
+        } else {
+            Gdx.gl.glViewport(0, 0, screenWidth, screenHeight);
+        }
+    }
+
+    /**
+     * Redirects drawing into the low-resolution scene buffer until {@link #endScene}. Does
+     * nothing if the offscreen pass is disabled.
+     */
+    public void beginScene() {
+        if (renderScale <= 0 || offscreen) {
+            return;
+        }
+        int width = DESIGN_WIDTH * renderScale;
+        int height = DESIGN_HEIGHT * renderScale;
+        if (sceneBuffer == null || sceneBuffer.getWidth() != width || sceneBuffer.getHeight() != height) {
+            if (sceneBuffer != null) {
+                sceneBuffer.dispose();
+            }
+            sceneBuffer = new FrameBuffer(Pixmap.Format.RGB888, width, height, false);
+            // The buffer is y-up; flip so it draws upright.
+            sceneRegion.setRegion(sceneBuffer.getColorBufferTexture());
+            sceneRegion.flip(false, true);
+            // Forces the filter below to be set on the new texture
+            bufferExact = !exactScale;
+        }
+        if (bufferExact != exactScale) {
+            // Nearest keeps pixels square on a whole-number upscale; anything else is filtered
+            // evenly rather than leaving some source pixels a window pixel wider than others
+            Texture.TextureFilter mag = exactScale ? Texture.TextureFilter.Nearest : Texture.TextureFilter.Linear;
+            sceneBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, mag);
+            bufferExact = exactScale;
+        }
+        // FrameBuffer.end() always rebinds the window, which would lose an enclosing capture
+        Gdx.gl.glGetIntegerv(GL20.GL_FRAMEBUFFER_BINDING, previousBinding);
+        Gdx.gl.glGetIntegerv(GL20.GL_VIEWPORT, previousViewport);
+        sceneBuffer.bind();
+        offscreen = true;
+        reset();
+    }
+
+    /**
+     * Ends the scene started by {@link #beginScene()} and draws it into the letterbox of
+     * whatever target was bound before (the window, or a capture buffer), then restores that
+     * target's viewport.
+     *
+     * @param batch the shared sprite batch (not already begun)
+     */
+    public void endScene(SpriteBatch batch) {
+        if (!offscreen) {
+            return;
+        }
+        Gdx.gl.glBindFramebuffer(GL20.GL_FRAMEBUFFER, previousBinding.get(0));
+        offscreen = false;
+
+        reset();
+        ScreenUtils.clear(0.0f, 0.0f, 0.0f, 1.0f);
+        apply();
+        batch.begin(blitCamera);
+        batch.disableBlending();
+        batch.setColor(1f, 1f, 1f, 1f);
+        batch.draw(sceneRegion, 0f, 0f, DESIGN_WIDTH, DESIGN_HEIGHT);
+        batch.end();
+        batch.enableBlending();
+        Gdx.gl.glViewport(previousViewport.get(0), previousViewport.get(1),
+                previousViewport.get(2), previousViewport.get(3));
     }
 
     /**
@@ -94,4 +232,13 @@ public class CanvasRender {
     public float getHeight() {
         return DESIGN_HEIGHT;
     }
+
+    @Override
+    public void dispose() {
+        if (sceneBuffer != null) {
+            sceneBuffer.dispose();
+            sceneBuffer = null;
+        }
+        offscreen = false;
+    }
 }
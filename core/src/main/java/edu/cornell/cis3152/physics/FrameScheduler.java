@@ -0,0 +1,165 @@
+package edu.cornell.cis3152.physics;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Timer;
+
+/**
+ * Singleton that decides, frame by frame, whether the game needs to keep rendering.
+ *
+ * <p>Use {@link #getInstance()} for the shared instance. {@link FrogRoot} brackets every frame
+ * with {@link #beginFrame()} and {@link #endFrame()}. Rendering is continuous by default; a scene
+ * with nothing moving calls {@link #allowIdle(float)} while it draws, passing the seconds until its
+ * next visible change (the next frame of the title animation, say) or {@link #FOREVER}, and
+ * anything that must animate that frame (transitions) calls {@link #keepAwake()}, which wins.
+ * After {@link #SETTLE_FRAMES} quiet frames in a row the scheduler turns continuous rendering off
+ * and arms a {@link Timer} for the wake-up, so the application loop only polls input until then.
+ *
+ * <p>The backend draws a frame for every input event. A frame that was not woken by the timer
+ * restarts the settle count, so the menus render continuously for a few frames after each event,
+ * long enough for choices that the game reads a frame later to go through, and switch back to
+ * continuous rendering for good if the input started an animation.
+ *
+ * <p>While the window is in the background the scenes are ignored and at most
+ * {@link #BACKGROUND_FPS} frames are drawn a second; while it is minimized nothing is drawn.
+ *
+ * <p>A frame after an idle stretch would see the whole stretch as its delta, so
+ * {@link #getDeltaTime()} clamps it to the scheduled wake-up (or one 60 FPS frame after input).
+ */
+public final class FrameScheduler {
+    /** Wake-up delay for a scene that only changes on input */
+    public static final float FOREVER = Float.POSITIVE_INFINITY;
+    /** Frame rate while the window does not have focus */
+    public static final int BACKGROUND_FPS = 5;
+    /** Consecutive quiet frames before continuous rendering is turned off */
+    private static final int SETTLE_FRAMES = 4;
+    /** Longest delta handed out for the first frame after an input wake-up */
+    private static final float MAX_WAKE_DELTA = 1f / 60f;
+
+    /** The singleton instance of the scheduler */
+    private static FrameScheduler theScheduler = null;
+
+    /**
+     * Returns the singleton instance of the scheduler
+     *
+     * @return the singleton instance of the scheduler
+     */
+    public static FrameScheduler getInstance() {
+        if (theScheduler == null) {
+            theScheduler = new FrameScheduler();
+        }
+        return theScheduler;
+    }
+
+    // Per-frame requests from the scenes
+    private boolean idleAllowed;
+    private boolean awake;
+    private float wakeAfter;
+
+    private boolean foreground = true;
+    private boolean minimized;
+    /** Whether continuous rendering is currently off */
+    private boolean idling;
+    private int quietFrames;
+    /** Delay the wake-up timer was armed with */
+    private float scheduledWake;
+    private boolean timerFired;
+    private float delta;
+
+    private final Timer.Task wakeTask = new Timer.Task() {
+        @Override
+        public void run() {
+            timerFired = true;
+            Gdx.graphics.requestRendering();
+        }
+    };
+
+    private FrameScheduler() { }
+
+    /** Starts a frame; called by {@link FrogRoot} before the screen renders. */
+    public void beginFrame() {
+        float raw = Gdx.graphics.getDeltaTime();
+        if (!idling) {
+            delta = raw;
+        } else if (timerFired) {
+            delta = Math.min(raw, scheduledWake + MAX_WAKE_DELTA);
+        } else {
+            delta = Math.min(raw, MAX_WAKE_DELTA);
+        }
+        idleAllowed = false;
+        awake = false;
+        wakeAfter = FOREVER;
+    }
+
+    /** Returns the delta the screens should use this frame. */
+    public float getDeltaTime() {
+        return delta;
+    }
+
+    /**
+     * Reports that the scene drawn this frame is still.
+     *
+     * @param wakeAfter seconds until the scene next changes on its own, or {@link #FOREVER}
+     */
+    public void allowIdle(float wakeAfter) {
+        idleAllowed = true;
+        this.wakeAfter = Math.min(this.wakeAfter, wakeAfter);
+    }
+
+    /** Forces continuous rendering for this frame, overriding {@link #allowIdle}. */
+    public void keepAwake() {
+        awake = true;
+    }
+
+    /** Ends a frame and switches continuous rendering on or off for the frames that follow. */
+    public void endFrame() {
+        if (!idleAllowed || awake) {
+            quietFrames = 0;
+        } else if (idling && !timerFired) {
+            quietFrames = 1;
+        } else {
+            quietFrames++;
+        }
+        timerFired = false;
+
+        float wake;
+        if (minimized) {
+            wake = FOREVER;
+        } else if (!foreground) {
+            wake = 1f / BACKGROUND_FPS;
+        } else if (quietFrames >= SETTLE_FRAMES) {
+            wake = wakeAfter;
+        } else {
+            wake = -1f;
+        }
+
+        boolean idle = wake >= 0f;
+        if (idle != idling) {
+            idling = idle;
+            Gdx.graphics.setContinuousRendering(!idle);
+        }
+        wakeTask.cancel();
+        if (idle && wake != FOREVER) {
+            scheduledWake = wake;
+            Timer.schedule(wakeTask, wake);
+        }
+    }
+
+    /** Returns true if continuous rendering is currently off. */
+    public boolean isIdling() {
+        return idling;
+    }
+
+    /** Records whether the window has focus; called by the platform window listener. */
+    public void setForeground(boolean foreground) {
+        this.foreground = foreground;
+        quietFrames = 0;
+        Gdx.graphics.requestRendering();
+    }
+
+    /** Records whether the window is minimized; called by the platform window listener. */
+    public void setMinimized(boolean minimized) {
+        this.minimized = minimized;
+        quietFrames = 0;
+        Gdx.graphics.requestRendering();
+    }
+}
@@ -16,6 +16,8 @@ package edu.cornell.cis3152.physics;
 import com.badlogic.gdx.*;
 import com.badlogic.gdx.graphics.Cursor;
 import com.badlogic.gdx.graphics.Pixmap;
+import edu.cornell.cis3152.physics.graphics.CountingSpriteBatch;
+import edu.cornell.cis3152.physics.graphics.TextureRegistry;
 import edu.cornell.cis3152.physics.screen.LoadingScene;
 import edu.cornell.gdiac.util.*;
 import edu.cornell.gdiac.assets.*;
@@ -44,6 +46,10 @@ public class FrogRoot extends Game implements ScreenListener {
     private LoadingScene loading;
     /** Player mode for the the game proper (CONTROLLER CLASS) */
     private GameMode gameMode;
+    /** Custom mouse cursor, created once and reapplied after window changes */
+    private Cursor cursor;
+    /** Platform-specific setup run at the end of {@link #create()}, or null */
+    private Runnable platformSetup;
 
     /**
      * Creates a new game from the configuration settings.
@@ -53,6 +59,16 @@ public class FrogRoot extends Game implements ScreenListener {
      */
     public FrogRoot() { }
 
+    /**
+     * Sets platform-specific setup to run once the application exists (e.g. installing a desktop
+     * window listener). Must be called before the application starts.
+     *
+     * @param setup the setup to run at the end of {@link #create()}
+     */
+    public void setPlatformSetup(Runnable setup) {
+        platformSetup = setup;
+    }
+
     /**
      * Called when the Application is first created.
      *
@@ -60,13 +76,25 @@ public class FrogRoot extends Game implements ScreenListener {
      * prepares the asynchronous loader for all other assets.
      */
     public void create() {
-        batch = new SpriteBatch();
+        BootTrace.end("launcher", "GDXApp startup");
+        long start = BootTrace.start();
+        batch = new CountingSpriteBatch();
         viewport = new CanvasRender();
 
+        Pixmap cursorPix = new Pixmap(Gdx.files.internal("shared/cursor.png"));
+        cursor = Gdx.graphics.newCursor(cursorPix,0,0);
+        cursorPix.dispose();
+        Gdx.graphics.setCursor(cursor);
+
         // Create the loading scene
         loading = new LoadingScene("assets.json", batch, viewport, 1);
         loading.setScreenListener(this);
         setScreen(loading);
+
+        if (platformSetup != null) {
+            platformSetup.run();
+        }
+        BootTrace.span("root", "FrogRoot.create", start);
     }
 
     /** Sets windowed size on desktop (exits fullscreen if needed). Temporary until display options exist. */
@@ -83,12 +111,15 @@ public class FrogRoot extends Game implements ScreenListener {
      */
     @Override
     public void render() {
-        super.render();
-        Pixmap cursorPix = new Pixmap(Gdx.files.internal("shared/cursor.png"));
-        Cursor cursor = Gdx.graphics.newCursor(cursorPix,0,0);
-        Gdx.graphics.setCursor(cursor);
-        cursorPix.dispose();
-
+        FrameScheduler frames = FrameScheduler.getInstance();
+        frames.beginFrame();
+        if (batch instanceof CountingSpriteBatch counting) {
+            counting.resetCounts();
+        }
+        if (screen != null) {
+            screen.render(frames.getDeltaTime());
+        }
+        frames.endFrame();
     }
 
     /**
@@ -97,6 +128,8 @@ public class FrogRoot extends Game implements ScreenListener {
      * This is preceded by a call to pause().
      */
     public void dispose() {
+        // Quitting before the level select took input still leaves a trace
+        BootTrace.finish("Exit");
         // Call dispose on our children
         setScreen(null);
         if (gameMode != null) {
@@ -112,7 +145,14 @@ public class FrogRoot extends Game implements ScreenListener {
             batch.dispose();
             batch = null;
         }
-        viewport = null;
+        if (viewport != null) {
+            viewport.dispose();
+            viewport = null;
+        }
+        if (cursor != null) {
+            cursor.dispose();
+            cursor = null;
+        }
 
         // Unload all of the resources
         if (directory != null) {
@@ -120,7 +160,12 @@ public class FrogRoot extends Game implements ScreenListener {
             directory.dispose();
             directory = null;
         }
+        TextureRegistry registry = TextureRegistry.getInstance();
+        registry.reportLeaks();
+        registry.dispose();
         super.dispose();
+        SoundPlayer.getInstance().logStats();
+        GameLog.shutdown();
     }
 
     /**
@@ -136,6 +181,9 @@ public class FrogRoot extends Game implements ScreenListener {
         if (viewport != null) {
             viewport.resize(width, height);
         }
+        if (cursor != null) {
+            Gdx.graphics.setCursor(cursor);
+        }
         if (loading != null) {
             loading.resize(width,height);
         }
@@ -157,8 +205,10 @@ public class FrogRoot extends Game implements ScreenListener {
         if (screen == loading) {
             directory = loading.getAssets();
             if (gameMode == null) {
+                long start = BootTrace.start();
                 gameMode = new GameMode(directory, batch, viewport);
                 gameMode.setScreenListener(this);
+                BootTrace.span("root", "GameMode", start);
             }
             setScreen(gameMode);
         } else if (screen == gameMode) {
@@ -0,0 +1,93 @@
+package edu.cornell.cis3152.physics;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ScreenUtils;
+import edu.cornell.gdiac.graphics.SpriteBatch;
+
+/**
+ * One captured frame of the scene under an overlay or transition.
+ *
+ * <p>{@link GameMode} draws the scene between {@link #begin()} and {@link #end()} once when an
+ * overlay opens (or a transition reaches a new scene), then calls {@link #draw} every frame until
+ * it {@link #invalidate()}s the capture. Drawing the backdrop is one opaque full-window quad, so a
+ * paused level costs about as much as a static image instead of a full parallax, tile and sprite
+ * pass under the scrim.
+ *
+ * <p>The buffer matches the back buffer, letterbox bars included, and is reallocated when the
+ * window size changes.
+ */
+final class FrozenBackdrop implements Disposable {
+    private FrameBuffer buffer;
+    private final TextureRegion region = new TextureRegion();
+    private final OrthographicCamera camera = new OrthographicCamera();
+    private boolean valid;
+
+    /** Returns true if a frame has been captured since the last {@link #invalidate()}. */
+    boolean isValid() {
+        return valid;
+    }
+
+    /** Drops the capture; the next frame must capture again before drawing. */
+    void invalidate() {
+        valid = false;
+    }
+
+    /** Redirects drawing into the capture buffer, (re)allocating it for the current window size. */
+    void begin() {
+        int width = Math.max(1, Gdx.graphics.getBackBufferWidth());
+        int height = Math.max(1, Gdx.graphics.getBackBufferHeight());
+        if (buffer == null || buffer.getWidth() != width || buffer.getHeight() != height) {
+            if (buffer != null) {
+                buffer.dispose();
+            }
+            buffer = new FrameBuffer(Pixmap.Format.RGB888, width, height, false);
+            // The buffer is y-up; flip so it draws upright.
+            region.setRegion(buffer.getColorBufferTexture());
+            region.flip(false, true);
+            camera.setToOrtho(false, width, height);
+        }
+        buffer.begin();
+    }
+
+    /** Ends the capture started by {@link #begin()}. */
+    void end() {
+        buffer.end();
+        valid = true;
+    }
+
+    /**
+     * Draws the captured frame over the whole window.
+     *
+     * @param batch the shared sprite batch (not already begun)
+     * @param dim   how far to darken the frame, from 0 (as captured) to 1 (black)
+     */
+    void draw(SpriteBatch batch, float dim) {
+        if (buffer == null) {
+            return;
+        }
+        Gdx.gl.glViewport(0, 0, buffer.getWidth(), buffer.getHeight());
+        ScreenUtils.clear(0f, 0f, 0f, 1f);
+        float shade = 1f - dim;
+        batch.begin(camera);
+        batch.disableBlending();
+        batch.setColor(shade, shade, shade, 1f);
+        batch.draw(region, 0f, 0f, camera.viewportWidth, camera.viewportHeight);
+        batch.setColor(1f, 1f, 1f, 1f);
+        batch.end();
+        batch.enableBlending();
+    }
+
+    @Override
+    public void dispose() {
+        if (buffer != null) {
+            buffer.dispose();
+            buffer = null;
+        }
+        valid = false;
+    }
+}
@@ -1,10 +1,7 @@
 package edu.cornell.cis3152.physics;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.utils.Array;
-import edu.cornell.gdiac.audio.SoundEffectManager;
-import edu.cornell.gdiac.assets.AssetDirectory;
 
 /**
  * Global audio preferences for music and sound effects. Register {@link Music} instances so
@@ -21,13 +18,6 @@ public final class GameAudio {
     private static final Array<Music> registeredMusic = new Array<>();
     private static final Array<Music> pausedByMute = new Array<>();
 
-    private static Music titleIntro;
-    private static Music titleLoop;
-    private static boolean titleLoopStarted = false;
-    private static float titleLoopPlayTime = 0f;
-    private static final float TITLE_LOOP_POINT = 16.8f; // when intro transitions to loop
-    private static final float TITLE_LOOP_DURATION = 16.8f; // actual loop length in seconds
-
     private GameAudio() {
     }
 
@@ -39,6 +29,8 @@ public final class GameAudio {
         musicOn = on;
         if (!on) {
             stopRegisteredMusic();
+        } else {
+            MusicScheduler.getInstance().resume();
         }
     }
 
@@ -79,6 +71,7 @@ public final class GameAudio {
                         }
                     }
                     pausedByMute.clear();
+                    MusicScheduler.getInstance().resume();
                 } else {
                     for (Music m : registeredMusic) {
                         if (m != null) m.setVolume(musicVolume);
@@ -146,87 +139,6 @@ public final class GameAudio {
     }
 
     private static void stopTaggedSoundEffects() {
-        SoundEffectManager mgr = SoundEffectManager.getInstance();
-        mgr.stop("jump");
-        mgr.stop("hover");
-        mgr.stop("fire");
-        mgr.stop("plop");
-    }
-
-    public static void startTitleMusic(AssetDirectory assets) {
-        if (!isMusicOn()) return;
-
-        if (titleIntro == null) {
-            titleIntro = assets.getEntry("platform-introost", Music.class);
-            titleLoop = assets.getEntry("platform-introost2", Music.class);
-            registerMusic(titleIntro);
-            registerMusic(titleLoop);
-        }
-
-        if (titleIntro == null || titleLoop == null) return;
-
-        titleIntro.stop();
-        titleLoop.stop();
-
-        titleIntro.setVolume(musicVolume);
-        titleLoop.setVolume(musicVolume);
-
-        titleLoop.setLooping(false);
-        titleIntro.play();
-
-        titleLoopStarted = false;  // always reset
-        titleLoopPlayTime = 0f;    // always reset
-    }
-
-    public static void updateTitleMusic() {
-        if (!musicOn || titleIntro == null || titleLoop == null) return;
-
-        if (musicOn && titleLoopStarted && !titleLoop.isPlaying()) {
-            titleLoop.setVolume(musicVolume);
-            titleLoop.play();
-        }
-
-        if (musicOn && !titleLoopStarted && !titleIntro.isPlaying()) {
-            titleIntro.setVolume(musicVolume);
-            titleIntro.play();
-        }
-
-        // Transition from intro to loop
-        if (!titleLoopStarted && titleIntro.isPlaying()
-                && titleIntro.getPosition() >= TITLE_LOOP_POINT) {
-            titleIntro.stop();
-            titleLoop.setVolume(musicVolume);
-            titleLoop.setLooping(false);
-            titleLoop.play();
-            titleLoopStarted = true;
-            titleLoopPlayTime = 0f;
-        }
-
-        // Restart loop by elapsed time instead of position
-        if (titleLoopStarted && titleLoop.isPlaying()) {
-            titleLoopPlayTime += Gdx.graphics.getDeltaTime();
-            if (titleLoopPlayTime >= TITLE_LOOP_DURATION) {
-                titleLoop.stop();
-                titleLoop.setVolume(musicVolume);
-                titleLoop.play();
-                titleLoopPlayTime = 0f;
-            }
-        }
-    }
-
-    public static void stopTitleMusic() {
-        if (titleIntro != null) titleIntro.stop();
-        if (titleLoop != null) titleLoop.stop();
-
-        titleLoopStarted = false;
-    }
-
-    public static void fadeOutTitleMusic(float duration) {
-        // simplest version for now: just lower volume over time elsewhere
-    }
-
-    public static void setTitleMusicVolume(float volume) {
-        if (titleIntro != null) titleIntro.setVolume(volume);
-        if (titleLoop != null) titleLoop.setVolume(volume);
+        SoundPlayer.getInstance().stopAll();
     }
 }
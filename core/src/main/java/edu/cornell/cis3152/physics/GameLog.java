@@ -0,0 +1,251 @@
+package edu.cornell.cis3152.physics;
+
+import java.io.PrintStream;
+
+/**
+ * Small leveled logger for gameplay diagnostics that must stay cheap on the render thread.
+ *
+ * <p>The level is fixed at startup from the {@code frog.log} system property ({@code trace},
+ * {@code debug}, {@code info}, {@code warn}, {@code error} or {@code off}; default {@code info}).
+ * Messages are parameterised with {@code {}} placeholders and are never formatted on the caller's
+ * thread: a call below the current level is a single comparison, and an enabled call copies its
+ * arguments into a preallocated ring buffer. A daemon writer thread formats and prints the records.
+ * If the buffer fills up, new records are dropped and the drop count is reported by the writer.
+ *
+ * <p>Guard calls whose arguments are expensive to compute (or would box primitives) with
+ * {@link #isDebugEnabled()}. Call {@link #shutdown()} on exit to drain pending records.
+ */
+public final class GameLog {
+
+    public static final int TRACE = 0;
+    public static final int DEBUG = 1;
+    public static final int INFO = 2;
+    public static final int WARN = 3;
+    public static final int ERROR = 4;
+    public static final int OFF = 5;
+
+    private static final String[] LEVEL_NAMES = { "TRACE", "DEBUG", "INFO", "WARN", "ERROR" };
+    /** Ring capacity; must be a power of two */
+    private static final int CAPACITY = 1024;
+    private static final int MASK = CAPACITY - 1;
+
+    /** Minimum level that is recorded; fixed at class initialisation */
+    private static final int LEVEL = parseLevel(System.getProperty("frog.log", "info"));
+
+    /** One preallocated log slot */
+    private static final class Record {
+        int level;
+        long millis;
+        String tag;
+        String format;
+        Object arg0;
+        Object arg1;
+        Object arg2;
+        Throwable error;
+    }
+
+    private static final Record[] ring = new Record[CAPACITY];
+    private static final Object lock = new Object();
+    /** Next slot to write (producers) and next slot to read (writer); guarded by {@link #lock} */
+    private static long head;
+    private static long tail;
+    private static long dropped;
+    private static boolean running = true;
+    private static Thread writer;
+
+    static {
+        for (int ii = 0; ii < CAPACITY; ii++) {
+            ring[ii] = new Record();
+        }
+    }
+
+    private GameLog() {
+    }
+
+    private static int parseLevel(String name) {
+        switch (name.trim().toLowerCase()) {
+            case "trace": return TRACE;
+            case "debug": return DEBUG;
+            case "warn":  return WARN;
+            case "error": return ERROR;
+            case "off":   return OFF;
+            default:      return INFO;
+        }
+    }
+
+    public static boolean isEnabled(int level) {
+        return level >= LEVEL;
+    }
+
+    public static boolean isDebugEnabled() {
+        return DEBUG >= LEVEL;
+    }
+
+    public static void debug(String tag, String format) {
+        if (DEBUG >= LEVEL) enqueue(DEBUG, tag, format, null, null, null, null);
+    }
+
+    public static void debug(String tag, String format, Object arg0) {
+        if (DEBUG >= LEVEL) enqueue(DEBUG, tag, format, arg0, null, null, null);
+    }
+
+    public static void debug(String tag, String format, Object arg0, Object arg1) {
+        if (DEBUG >= LEVEL) enqueue(DEBUG, tag, format, arg0, arg1, null, null);
+    }
+
+    public static void debug(String tag, String format, Object arg0, Object arg1, Object arg2) {
+        if (DEBUG >= LEVEL) enqueue(DEBUG, tag, format, arg0, arg1, arg2, null);
+    }
+
+    public static void info(String tag, String format) {
+        if (INFO >= LEVEL) enqueue(INFO, tag, format, null, null, null, null);
+    }
+
+    public static void info(String tag, String format, Object arg0) {
+        if (INFO >= LEVEL) enqueue(INFO, tag, format, arg0, null, null, null);
+    }
+
+    public static void info(String tag, String format, Object arg0, Object arg1) {
+        if (INFO >= LEVEL) enqueue(INFO, tag, format, arg0, arg1, null, null);
+    }
+
+    public static void info(String tag, String format, Object arg0, Object arg1, Object arg2) {
+        if (INFO >= LEVEL) enqueue(INFO, tag, format, arg0, arg1, arg2, null);
+    }
+
+    public static void warn(String tag, String format) {
+        if (WARN >= LEVEL) enqueue(WARN, tag, format, null, null, null, null);
+    }
+
+    public static void warn(String tag, String format, Object arg0) {
+        if (WARN >= LEVEL) enqueue(WARN, tag, format, arg0, null, null, null);
+    }
+
+    public static void error(String tag, String format) {
+        if (ERROR >= LEVEL) enqueue(ERROR, tag, format, null, null, null, null);
+    }
+
+    public static void error(String tag, String format, Throwable error) {
+        if (ERROR >= LEVEL) enqueue(ERROR, tag, format, null, null, null, error);
+    }
+
+    public static void error(String tag, String format, Object arg0, Throwable error) {
+        if (ERROR >= LEVEL) enqueue(ERROR, tag, format, arg0, null, null, error);
+    }
+
+    private static void enqueue(int level, String tag, String format,
+                                Object arg0, Object arg1, Object arg2, Throwable error) {
+        synchronized (lock) {
+            if (!running) {
+                return;
+            }
+            if (head - tail >= CAPACITY) {
+                dropped++;
+                return;
+            }
+            Record r = ring[(int) (head & MASK)];
+            r.level = level;
+            r.millis = System.currentTimeMillis();
+            r.tag = tag;
+            r.format = format;
+            r.arg0 = arg0;
+            r.arg1 = arg1;
+            r.arg2 = arg2;
+            r.error = error;
+            head++;
+            if (writer == null) {
+                writer = new Thread(GameLog::drainLoop, "game-log");
+                writer.setDaemon(true);
+                writer.start();
+            }
+            lock.notify();
+        }
+    }
+
+    /** Writer thread: formats records outside the lock, one at a time. */
+    private static void drainLoop() {
+        StringBuilder line = new StringBuilder(256);
+        Record copy = new Record();
+        while (true) {
+            long lost;
+            synchronized (lock) {
+                while (head == tail && running) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (head == tail) {
+                    lock.notifyAll();
+                    return;
+                }
+                Record r = ring[(int) (tail & MASK)];
+                copy.level = r.level;
+                copy.millis = r.millis;
+                copy.tag = r.tag;
+                copy.format = r.format;
+                copy.arg0 = r.arg0;
+                copy.arg1 = r.arg1;
+                copy.arg2 = r.arg2;
+                copy.error = r.error;
+                r.tag = null;
+                r.format = null;
+                r.arg0 = r.arg1 = r.arg2 = null;
+                r.error = null;
+                tail++;
+                lost = dropped;
+                dropped = 0;
+                if (head == tail) {
+                    lock.notifyAll();
+                }
+            }
+            if (lost > 0) {
+                System.err.println("[WARN] GameLog: dropped " + lost + " records (buffer full)");
+            }
+            write(copy, line);
+        }
+    }
+
+    private static void write(Record r, StringBuilder line) {
+        line.setLength(0);
+        line.append('[').append(LEVEL_NAMES[r.level]).append("] ").append(r.tag).append(": ");
+        Object[] args = { r.arg0, r.arg1, r.arg2 };
+        int next = 0;
+        String format = r.format;
+        int start = 0;
+        int idx;
+        while (next < args.length && (idx = format.indexOf("{}", start)) >= 0) {
+            line.append(format, start, idx).append(args[next++]);
+            start = idx + 2;
+        }
+        line.append(format, start, format.length());
+
+        PrintStream out = r.level >= WARN ? System.err : System.out;
+        out.println(line);
+        if (r.error != null) {
+            r.error.printStackTrace(out);
+        }
+    }
+
+    /** Stops accepting records and waits briefly for the writer to print what is queued. */
+    public static void shutdown() {
+        synchronized (lock) {
+            running = false;
+            lock.notifyAll();
+            long deadline = System.currentTimeMillis() + 500;
+            while (writer != null && head != tail) {
+                long wait = deadline - System.currentTimeMillis();
+                if (wait <= 0) {
+                    break;
+                }
+                try {
+                    lock.wait(wait);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -3,13 +3,11 @@ package edu.cornell.cis3152.physics;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import edu.cornell.cis3152.physics.screen.*;
 import edu.cornell.cis3152.physics.screen.levels.LevelBaseScene;
 import edu.cornell.cis3152.physics.screen.levels.LevelController;
 import edu.cornell.gdiac.assets.AssetDirectory;
-import edu.cornell.gdiac.audio.SoundEffect;
 import edu.cornell.gdiac.graphics.SpriteBatch;
 import edu.cornell.gdiac.util.ScreenListener;
 import com.badlogic.gdx.graphics.Color;
@@ -52,23 +50,12 @@ public class GameMode implements Screen, ScreenListener {
     private static final float DEATH_TRANSITION_DURATION = 0.7f;
 
     private Texture pixel;
+    /** Sound handle for the shutter played halfway through a screen transition */
+    private final int shutterHandle;
+    /** Captured scene drawn under overlays and transitions */
+    private final FrozenBackdrop backdrop = new FrozenBackdrop();
 
-    private Music levelIntro;
-    private Music levelLoopA;
-    private Music levelLoopB;
-    private boolean usingA = true;
-    private static final float LOOP_RESTART_TIME = 72.0f; // start crossfade 2s before end
-    private float crossfadeTimer = -1f; // -1 means not crossfading
-    private boolean introPlayed = false;
-    private static final float INTRO_TO_LOOP_TIME = 18.0f;
-    private boolean loopStarted = false;
     private boolean musicWasOn = true;
-    private float loopPlayTime = 0f;
-    private static final float LOOP_MIN_PLAY_TIME = 5.0f; // ignore "finished" in first 5s
-
-    private boolean fadingTitleToLevel = false;
-    private float musicFadeTimer = 0f;
-    private static final float MUSIC_FADE_DURATION = 0.2f;
 
     private int width;
     private int height;
@@ -77,7 +64,7 @@ public class GameMode implements Screen, ScreenListener {
     private boolean showingLevelSelect;
     private boolean paused;
     private boolean showingWin;
-    /** Level select Menu/Esc: defer {@link ScreenListener#exitScreen} until after {@link #draw()} (avoid disposing mid-render). */
+    /** Level select Menu/Esc: defer {@link ScreenListener#exitScreen} until after {@link #draw(float)} (avoid disposing mid-render). */
     private boolean pendingReturnToTitle;
     private boolean showingHowToPlay;
 
@@ -102,13 +89,14 @@ public class GameMode implements Screen, ScreenListener {
         gameplayOptionsOverlay = new GameplayOptionsOverlay(assets, batch, viewport);
         winScene = new WinScene(assets, batch, viewport);
         howToPlayScene = new HowToPlayScene(assets, batch, viewport);
+        shutterHandle = SoundPlayer.getInstance().register(AssetKeys.Sounds.PLATFORM_PLOP.get(assets),
+                SoundPlayer.UI, SoundPlayer.PRIORITY_NORMAL, 0f);
 
         camera = new OrthographicCamera();
         resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
         active = true;
         showingLevelSelect = true;
-        stopLevelMusic();
         Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
         pixmap.setColor(Color.WHITE);
         pixmap.fill();
@@ -145,8 +133,7 @@ public class GameMode implements Screen, ScreenListener {
             showingLevelSelect = false;
         } else if (exitCode == PhysicsScene.EXIT_QUIT) {
             showingLevelSelect = true;
-            stopLevelMusic();
-            GameAudio.startTitleMusic(assets);
+            MusicScheduler.getInstance().play(MusicScheduler.TITLE);
             levelSelectScene.show();
         } else if (exitCode == PhysicsScene.EXIT_WIN) {
             //levelController.markCurrentBeaten();
@@ -166,61 +153,12 @@ public class GameMode implements Screen, ScreenListener {
      */
     private void update(float delta) {
         boolean musicNowOn = GameAudio.isMusicOn();
-        if (fadingTitleToLevel) {
-            musicFadeTimer += delta;
-            float t = Math.min(musicFadeTimer / MUSIC_FADE_DURATION, 1f);
-
-            GameAudio.setTitleMusicVolume(GameAudio.getMusicVolume() * (1f - t));
-            setLevelMusicVolume(GameAudio.getMusicVolume() * t);
-
-            if (t >= 1f) {
-                fadingTitleToLevel = false;
-                GameAudio.stopTitleMusic();
-                setLevelMusicVolume(GameAudio.getMusicVolume());
-            }
-        }
         if (musicNowOn != musicWasOn) {
             musicWasOn = musicNowOn;
-
-            if (!musicNowOn) {
-                stopLevelMusic();
-            } else if (!showingLevelSelect) {
-                startLevelMusic();
-                fadingTitleToLevel = true;
-                musicFadeTimer = 0f;
-            }
-        }
-        if (GameAudio.isMusicOn() && !showingLevelSelect && levelLoopA != null && loopStarted) {
-            Music outgoing = usingA ? levelLoopA : levelLoopB;
-            Music incoming = usingA ? levelLoopB : levelLoopA;
-
-            if (outgoing.isPlaying()) {
-                loopPlayTime += delta;
-            }
-
-            if (loopPlayTime >= LOOP_RESTART_TIME) {
-                incoming.setVolume(outgoing.getVolume());
-                incoming.play();
-                outgoing.stop();
-                usingA = !usingA;
-                loopPlayTime = 0f;
+            if (musicNowOn) {
+                MusicScheduler.getInstance().resume();
             }
         }
-        if (!showingLevelSelect
-                && levelIntro != null
-                && levelLoopA != null
-                && levelIntro.isPlaying()
-                && !loopStarted
-                && levelIntro.getPosition() >= INTRO_TO_LOOP_TIME) {
-
-            levelIntro.stop();
-            levelLoopA.setVolume(GameAudio.getMusicVolume());
-            levelLoopA.setLooping(false);
-            levelLoopA.play();
-
-            loopStarted = true;
-            loopPlayTime = 0f;
-        }
         if (deathTransitioning) {
             deathTransitionTimer += delta;
             float progress = deathTransitionTimer / DEATH_TRANSITION_DURATION;
@@ -228,6 +166,7 @@ public class GameMode implements Screen, ScreenListener {
             if (!deathRestarted && progress >= 0.5f) {
                 deathRestarted = true;
                 levelController.restartCurrentLevel();
+                backdrop.invalidate();
 
                 if (levelController.getCurrentScene() != null) {
                     levelController.getCurrentScene().show();
@@ -252,24 +191,19 @@ public class GameMode implements Screen, ScreenListener {
 
             if (!transitionSwapped && progress >= 0.5f) {
                 transitionSwapped = true;
+                backdrop.invalidate();
 
-                SoundEffect shutter = assets.getEntry("platform-plop", SoundEffect.class);
-                if (shutter != null) {
-                    shutter.play(GameAudio.effectiveSfxVolume(0.3f));
-                }
+                SoundPlayer.getInstance().play(shutterHandle, GameAudio.effectiveSfxVolume(0.3f));
 
                 if (transitioningToLevelSelect) {
-                    stopLevelMusic();
-                    GameAudio.startTitleMusic(assets);
+                    MusicScheduler.getInstance().play(MusicScheduler.TITLE);
                     showingLevelSelect = true;
                     levelSelectScene.show();
                 } else {
                     levelController.loadLevel(pendingLevel);
                     levelController.setScreenListener(this);
                     showingLevelSelect = false;
-                    startLevelMusic();
-                    fadingTitleToLevel = true;
-                    musicFadeTimer = 0f;
+                    MusicScheduler.getInstance().play(MusicScheduler.LEVEL);
 
                     if (levelController.getCurrentScene() != null) {
                         levelController.getCurrentScene().show();
@@ -287,8 +221,10 @@ public class GameMode implements Screen, ScreenListener {
 
             return;
         }
+        if (Playthrough.isEnabled() && playthroughStep()) {
+            return;
+        }
         if (showingLevelSelect) {
-            GameAudio.updateTitleMusic(); // add this
             int selectedLevel = levelSelectScene.consumeChosenLevel();
             if (selectedLevel > 0) {
                 transitioning = true;
@@ -402,38 +338,124 @@ public class GameMode implements Screen, ScreenListener {
         }
     }
 
+    /**
+     * Carries out this frame's step of the unattended {@link Playthrough}, driving the same state
+     * changes as the matching clicks and keys.
+     *
+     * @return true if the rest of this frame's update should be skipped
+     */
+    private boolean playthroughStep() {
+        PhysicsScene scene = levelController.getCurrentScene();
+        boolean inLevel = !showingLevelSelect && scene instanceof LevelBaseScene;
+        switch (Playthrough.step(inLevel, showingWin, levelController.getTotalLevels())) {
+            case LOAD -> {
+                if (showingWin) {
+                    showingWin = false;
+                    winScene.hide();
+                }
+                transitioning = true;
+                transitionTimer = 0f;
+                transitionSwapped = false;
+                transitioningToLevelSelect = false;
+                pendingLevel = Playthrough.getLevel();
+                return true;
+            }
+            case PHOTO -> ((LevelBaseScene) scene).playthroughPhoto();
+            case PAUSE -> {
+                paused = true;
+                pauseMenuScene.show();
+                scene.setGamePaused(true);
+            }
+            case RESUME -> {
+                paused = false;
+                pauseMenuScene.hide();
+                scene.setGamePaused(false);
+            }
+            case OPEN_OPTIONS -> {
+                gameplayOptionsOverlay.show();
+                scene.setGamePaused(true);
+            }
+            case CLOSE_OPTIONS -> {
+                gameplayOptionsOverlay.hide();
+                scene.setGamePaused(false);
+            }
+            case WIN -> ((LevelBaseScene) scene).playthroughWin();
+            case QUIT -> {
+                Gdx.app.exit();
+                return true;
+            }
+            default -> { }
+        }
+        return false;
+    }
+
     /**
      * Draws the game world.
+     *
+     * @param delta time since last frame
      */
-    private void draw() {
-        if (showingLevelSelect) {
-            levelSelectScene.render(Gdx.graphics.getDeltaTime());
-        } else {
-            PhysicsScene currentScene = levelController.getCurrentScene();
-            if (currentScene != null) {
-                currentScene.render(Gdx.graphics.getDeltaTime());
+    private void draw(float delta) {
+        // Overlays and transitions show the scene under them as it was when they started, so it
+        // is drawn once into the backdrop instead of every frame.
+        boolean frozen = transitioning || deathTransitioning
+                || (!showingLevelSelect && (paused || showingWin || showingHowToPlay
+                        || gameplayOptionsOverlay.isOpen()));
+        if (frozen) {
+            if (!backdrop.isValid()) {
+                backdrop.begin();
+                drawScene(0f);
+                backdrop.end();
             }
+            // The pause scrim is applied while compositing the backdrop, and stays under how-to-play
+            // when that was opened from the pause menu.
+            backdrop.draw(batch, paused ? PauseMenuScene.SCRIM_ALPHA : 0f);
+        } else {
+            backdrop.invalidate();
+            drawScene(delta);
+        }
+
+        if (!showingLevelSelect) {
             if (gameplayOptionsOverlay.isOpen()) {
                 gameplayOptionsOverlay.draw();
             }
             if (paused) {
-                pauseMenuScene.render(Gdx.graphics.getDeltaTime());
+                pauseMenuScene.render(delta);
             }
             if (showingWin) {
-                currentScene.setGamePaused(true);
-                winScene.render(Gdx.graphics.getDeltaTime());
+                PhysicsScene currentScene = levelController.getCurrentScene();
+                if (currentScene != null) {
+                    currentScene.setGamePaused(true);
+                }
+                winScene.render(delta);
                 return;
             }
-
         }
         if (transitioning) {
+            FrameScheduler.getInstance().keepAwake();
             drawShutterTransition();
         }
         if (deathTransitioning) {
+            FrameScheduler.getInstance().keepAwake();
             drawDeathWashTransition();
         }
     }
 
+    /**
+     * Draws the level select or the current level, without any overlay.
+     *
+     * @param delta time since last frame
+     */
+    private void drawScene(float delta) {
+        if (showingLevelSelect) {
+            levelSelectScene.render(delta);
+        } else {
+            PhysicsScene currentScene = levelController.getCurrentScene();
+            if (currentScene != null) {
+                currentScene.render(delta);
+            }
+        }
+    }
+
     private void drawShutterTransition() {
         float t = transitionTimer / TRANSITION_DURATION;
 
@@ -487,54 +509,6 @@ public class GameMode implements Screen, ScreenListener {
         }
     }
 
-    private void startLevelMusic() {
-        if (!GameAudio.isMusicOn()) {
-            return;
-        }
-        if (levelIntro == null) {
-            levelIntro = assets.getEntry("platform-backgroundintroost", Music.class);
-            levelLoopA = assets.getEntry("platform-backgroundost", Music.class);
-            levelLoopB = assets.getEntry("platform-backgroundost2", Music.class);
-
-            levelLoopA.setLooping(false);
-            levelLoopB.setLooping(false);  // was missing
-            GameAudio.registerMusic(levelIntro);
-            GameAudio.registerMusic(levelLoopA);
-            GameAudio.registerMusic(levelLoopB);
-        }
-
-        levelIntro.stop();
-        levelLoopA.stop();
-        levelLoopB.stop();   // was missing
-        levelIntro.setVolume(GameAudio.getMusicVolume());
-        levelLoopA.setVolume(GameAudio.getMusicVolume());
-        levelLoopB.setVolume(GameAudio.getMusicVolume());
-
-        levelIntro.play();
-
-        loopStarted = false;
-        loopPlayTime = 0f;       // was missing
-        crossfadeTimer = -1f;    // was missing
-        usingA = true;           // was missing
-    }
-
-    private void stopLevelMusic() {
-        if (levelIntro != null) levelIntro.stop();
-        if (levelLoopA != null) { levelLoopA.stop(); }
-        if (levelLoopB != null) { levelLoopB.stop(); }
-        introPlayed = false;
-        loopStarted = false;
-        loopPlayTime = 0f;
-        crossfadeTimer = -1f;
-        usingA = true;
-    }
-
-    private void setLevelMusicVolume(float volume) {
-        if (levelIntro != null) levelIntro.setVolume(volume);
-        if (levelLoopA != null) levelLoopA.setVolume(volume);
-        if (levelLoopB != null) levelLoopB.setVolume(volume);
-    }
-
     /**
      * Called every frame.
      *
@@ -549,7 +523,7 @@ public class GameMode implements Screen, ScreenListener {
                 if (showingLevelSelect) {
                     levelSelectScene.render(0f);
                 } else {
-                    draw();
+                    draw(delta);
                 }
                 howToPlayScene.render(delta);
                 if (howToPlayScene.isExiting()) {
@@ -567,7 +541,7 @@ public class GameMode implements Screen, ScreenListener {
 
                 }
             } else {
-                draw();
+                draw(delta);
             }
         }
         if (pendingReturnToTitle && listener != null) {
@@ -588,6 +562,7 @@ public class GameMode implements Screen, ScreenListener {
         this.height = (int)viewport.getHeight();
 
         camera.setToOrtho(false, this.width, this.height);
+        backdrop.invalidate();
         if (levelSelectScene != null) {
             levelSelectScene.resize(width, height);
         }
@@ -628,7 +603,17 @@ public class GameMode implements Screen, ScreenListener {
 
     @Override
     public void pause() {
-        // Optional pause logic
+        // Losing focus or minimizing mid-level opens the pause menu, so the level does not keep
+        // running while the frame rate is throttled.
+        PhysicsScene currentScene = levelController == null ? null : levelController.getCurrentScene();
+        if (!active || showingLevelSelect || showingHowToPlay || showingWin || paused
+                || transitioning || deathTransitioning || gameplayOptionsOverlay.isOpen()
+                || currentScene == null) {
+            return;
+        }
+        paused = true;
+        pauseMenuScene.show();
+        currentScene.setGamePaused(true);
     }
 
     @Override
@@ -638,14 +623,8 @@ public class GameMode implements Screen, ScreenListener {
 
     @Override
     public void dispose() {
-        if (levelIntro != null) {
-            levelIntro.stop();
-            levelIntro = null;
-        }
-        if (levelLoopA != null) {
-            levelLoopA.stop();
-            levelLoopA = null;
-        }
+        MusicScheduler.getInstance().dispose();
+        backdrop.dispose();
         if (pixel != null) {
             pixel.dispose();
             pixel = null;
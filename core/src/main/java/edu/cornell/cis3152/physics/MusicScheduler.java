@@ -0,0 +1,433 @@
+package edu.cornell.cis3152.physics;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.Timer;
+import edu.cornell.gdiac.audio.AudioEngine;
+import edu.cornell.gdiac.audio.AudioSource;
+import edu.cornell.gdiac.audio.AudioStream;
+import edu.cornell.gdiac.audio.MusicQueue;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Singleton that plays the title and level soundtracks as gapless {@link MusicQueue}s.
+ *
+ * <p>Use {@link #getInstance()} for the shared instance. Each track is an intro followed by one or
+ * more loop segments. The source files carry a few seconds of tail past their loop point (the old
+ * player cut it off by stopping on a timer), so {@link #cacheTrimmedTracks()} starts a worker
+ * thread that decodes each segment once, trims it to its loop point in samples, and writes it as
+ * a WAV under {@code cache/music/} (or to a temporary file for this run when the cache cannot be
+ * written). The title track is trimmed first, while the assets load. A track's first play waits
+ * for its segments, so the tails are never heard; only when trimming fails outright does the
+ * queue fall back to the source files. The queue hands over from segment to segment inside the audio engine, with no polling from the render
+ * loop: after the intro finishes it is removed from the queue, and the queue's loop-back cycles
+ * the loop segments forever.
+ *
+ * <p>Switching tracks crossfades over {@link #FADE_SECONDS} using a {@link Timer} task, which only
+ * runs while a fade is in progress. Both queues are registered with {@link GameAudio}, so the mute
+ * and volume settings apply to them like any other music.
+ */
+public final class MusicScheduler implements MusicQueue.OnTransitionListener, Disposable {
+    public static final int NONE = -1;
+    public static final int TITLE = 0;
+    public static final int LEVEL = 1;
+
+    /** Segment files per track: intro first, then the loop segments in play order */
+    private static final String[][] TRACK_PATHS = {
+            { "platform/introost.ogg", "platform/introost2.ogg" },
+            { "platform/levelostintro.ogg", "platform/levelost.ogg", "platform/levelost2.ogg" },
+    };
+    /** Loop point of each segment in seconds; everything after it is tail that is never heard */
+    private static final float[][] TRACK_CUTS = {
+            { 16.8f, 16.8f },
+            { 18.0f, 72.0f, 72.0f },
+    };
+    /** Crossfade length when switching tracks */
+    public static final float FADE_SECONDS = 0.2f;
+    private static final int FADE_STEPS = 12;
+    /** Local directory (relative to the working directory) holding trimmed segments */
+    private static final String CACHE_DIR = "cache/music/";
+    /** Bump whenever the trimming changes */
+    private static final int CACHE_VERSION = 1;
+
+    /** The singleton instance of the scheduler */
+    private static MusicScheduler theScheduler = null;
+
+    /**
+     * Returns the singleton instance of the scheduler
+     *
+     * @return the singleton instance of the scheduler
+     */
+    public static MusicScheduler getInstance() {
+        if (theScheduler == null) {
+            theScheduler = new MusicScheduler();
+        }
+        return theScheduler;
+    }
+
+    private final MusicQueue[] decks = new MusicQueue[TRACK_PATHS.length];
+    private final AudioSource[][] segments = new AudioSource[TRACK_PATHS.length][];
+    /** Trimmed segment files per track, set by the worker once all of a track's are written */
+    private final AtomicReferenceArray<FileHandle[]> trimmed = new AtomicReferenceArray<>(TRACK_PATHS.length);
+    /** Released by the worker when it is done with each track, whether or not trimming worked */
+    private final CountDownLatch[] ready = new CountDownLatch[TRACK_PATHS.length];
+    /** Worker filling the trimmed-segment cache, or null before {@link #cacheTrimmedTracks()} */
+    private Thread trimmer;
+    /** Track currently playing (or fading in) */
+    private int current = NONE;
+    /** Track fading out, or {@link #NONE} */
+    private int outgoing = NONE;
+    private int fadeStep;
+    private final Timer.Task fadeTask = new Timer.Task() {
+        @Override
+        public void run() {
+            stepFade();
+        }
+    };
+
+    private MusicScheduler() {
+        for (int track = 0; track < ready.length; track++) {
+            ready[track] = new CountDownLatch(1);
+        }
+    }
+
+    /**
+     * Starts trimming every track's segments into the cache on a worker thread, title track
+     * first. Segments already cached are only checked. Call once the audio engine exists; later
+     * calls do nothing.
+     */
+    public void cacheTrimmedTracks() {
+        if (trimmer != null || !(Gdx.audio instanceof AudioEngine engine)) {
+            return;
+        }
+        trimmer = new Thread(() -> {
+            for (int track = 0; track < TRACK_PATHS.length; track++) {
+                String[] paths = TRACK_PATHS[track];
+                FileHandle[] files = new FileHandle[paths.length];
+                try {
+                    for (int ii = 0; ii < paths.length; ii++) {
+                        files[ii] = trimmedSegment(engine, paths[ii], TRACK_CUTS[track][ii]);
+                    }
+                    trimmed.set(track, files);
+                } catch (IOException | RuntimeException e) {
+                    GameLog.error("MusicScheduler", "Could not trim {}; playing it untrimmed", paths[0], e);
+                } finally {
+                    ready[track].countDown();
+                }
+            }
+        }, "music-trim");
+        trimmer.setDaemon(true);
+        trimmer.start();
+    }
+
+    /** Returns the track currently playing, or {@link #NONE}. */
+    public int getCurrentTrack() {
+        return current;
+    }
+
+    /**
+     * Starts {@code track} from its intro, crossfading from whatever was playing. Does nothing if
+     * music is off; the track is remembered so {@link #resume()} can start it later.
+     */
+    public void play(int track) {
+        if (track == current && decks[track] != null && decks[track].isPlaying()) {
+            return;
+        }
+        if (outgoing != NONE) {
+            finishFade();
+        }
+        outgoing = current;
+        current = track;
+        if (!GameAudio.isMusicOn()) {
+            stopDeck(outgoing);
+            outgoing = NONE;
+            return;
+        }
+        MusicQueue deck = prepare(track);
+        if (deck == null) {
+            return;
+        }
+        restart(track);
+        if (outgoing == NONE || outgoing == track) {
+            outgoing = NONE;
+            deck.setVolume(GameAudio.getMusicVolume());
+            deck.play();
+            return;
+        }
+        deck.setVolume(0f);
+        deck.play();
+        fadeStep = 0;
+        fadeTask.cancel();
+        Timer.schedule(fadeTask, 0f, FADE_SECONDS / FADE_STEPS, FADE_STEPS - 1);
+    }
+
+    /** Stops {@code track} if it is the one playing. */
+    public void stop(int track) {
+        if (track == NONE) {
+            return;
+        }
+        if (outgoing == track) {
+            finishFade();
+        }
+        if (current == track) {
+            fadeTask.cancel();
+            stopDeck(track);
+            current = NONE;
+        }
+    }
+
+    /** Restarts the current track if it was stopped (e.g. music was switched back on). */
+    public void resume() {
+        if (current != NONE && GameAudio.isMusicOn()
+                && (decks[current] == null || !decks[current].isPlaying())) {
+            int track = current;
+            current = NONE;
+            play(track);
+        }
+    }
+
+    private void stepFade() {
+        fadeStep++;
+        float t = Math.min(1f, fadeStep / (float) FADE_STEPS);
+        float volume = GameAudio.getMusicVolume();
+        if (current != NONE && decks[current] != null) {
+            decks[current].setVolume(volume * t);
+        }
+        if (outgoing != NONE && decks[outgoing] != null) {
+            decks[outgoing].setVolume(volume * (1f - t));
+        }
+        if (t >= 1f) {
+            finishFade();
+        }
+    }
+
+    private void finishFade() {
+        fadeTask.cancel();
+        stopDeck(outgoing);
+        outgoing = NONE;
+        if (current != NONE && decks[current] != null) {
+            decks[current].setVolume(GameAudio.getMusicVolume());
+        }
+    }
+
+    private void stopDeck(int track) {
+        if (track != NONE && decks[track] != null) {
+            decks[track].stop();
+        }
+    }
+
+    /** Rewinds a deck to its intro, restoring the intro source if an earlier run removed it. */
+    private void restart(int track) {
+        MusicQueue deck = decks[track];
+        deck.stop();
+        deck.clearSources();
+        for (AudioSource source : segments[track]) {
+            deck.addSource(source);
+        }
+        deck.reset();
+    }
+
+    /**
+     * Builds the queue for a track on first use from its trimmed segments, waiting for the worker
+     * if it has not got to them yet. Falls back to the untrimmed sources if trimming failed.
+     */
+    private MusicQueue prepare(int track) {
+        if (decks[track] != null) {
+            return decks[track];
+        }
+        if (!(Gdx.audio instanceof AudioEngine engine)) {
+            GameLog.warn("MusicScheduler", "Audio backend has no MusicQueue support");
+            return null;
+        }
+        cacheTrimmedTracks();
+        try {
+            ready[track].await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        FileHandle[] files = trimmed.get(track);
+        String[] paths = TRACK_PATHS[track];
+        AudioSource[] parts = new AudioSource[paths.length];
+        try {
+            for (int ii = 0; ii < paths.length; ii++) {
+                parts[ii] = engine.newSource(files != null ? files[ii] : Gdx.files.internal(paths[ii]));
+            }
+        } catch (RuntimeException e) {
+            GameLog.error("MusicScheduler", "Could not prepare music track {}", paths[0], e);
+            for (AudioSource part : parts) {
+                if (part != null) {
+                    part.dispose();
+                }
+            }
+            return null;
+        }
+        MusicQueue deck = engine.newMusicQueue(parts[0].getChannels() == 1, parts[0].getSampleRate());
+        deck.setLoopBehavior(true);
+        deck.setOnTransitionListener(this);
+        segments[track] = parts;
+        decks[track] = deck;
+        GameAudio.registerMusic(deck);
+        return deck;
+    }
+
+    /** Disposes a track's queue and sources. */
+    private void release(int track) {
+        if (decks[track] != null) {
+            GameAudio.unregisterMusic(decks[track]);
+            decks[track].dispose();
+            decks[track] = null;
+        }
+        if (segments[track] != null) {
+            for (AudioSource source : segments[track]) {
+                source.dispose();
+            }
+            segments[track] = null;
+        }
+    }
+
+    /**
+     * Returns a WAV of the first {@code cutSeconds} of {@code path}, decoding and writing it on a
+     * cache miss. If the cache cannot be written, the WAV goes to a temporary file that is deleted
+     * on exit. Runs on the trimming worker.
+     */
+    private static FileHandle trimmedSegment(AudioEngine engine, String path, float cutSeconds)
+            throws IOException {
+        String name = path.replaceAll("[^A-Za-z0-9._-]", "_");
+        FileHandle cached = Gdx.files.local(CACHE_DIR + name + "-" + cutSeconds + "-v" + CACHE_VERSION + ".wav");
+        if (cached.exists() && cached.length() > 44) {
+            return cached;
+        }
+        try {
+            cached.parent().mkdirs();
+            writeTrimmed(engine, path, cutSeconds, cached);
+            return cached;
+        } catch (IOException | RuntimeException e) {
+            GameLog.warn("MusicScheduler", "Could not cache {}; trimming it for this run only", cached.path());
+            File temp = File.createTempFile("frog-music-", ".wav");
+            temp.deleteOnExit();
+            FileHandle target = Gdx.files.absolute(temp.getPath());
+            writeTrimmed(engine, path, cutSeconds, target);
+            return target;
+        }
+    }
+
+    /**
+     * Decodes {@code path} and writes its first {@code cutSeconds} to {@code target} as a WAV. The
+     * write goes to a temporary file that is moved into place when complete, so a reader never
+     * sees a partial file.
+     */
+    private static void writeTrimmed(AudioEngine engine, String path, float cutSeconds, FileHandle target)
+            throws IOException {
+        AudioSource source = engine.newSource(Gdx.files.internal(path));
+        FileHandle temp = target.sibling(target.name() + ".tmp");
+        try {
+            AudioStream stream = source.getStream();
+            int channels = source.getChannels();
+            int rate = source.getSampleRate();
+            long frames = Math.min(stream.getSampleSize(), Math.round((double) cutSeconds * rate));
+            int bytesPerFrame = (int) (stream.getByteSize() / Math.max(1, stream.getSampleSize()));
+            int bitsPerSample = 8 * bytesPerFrame / channels;
+            long dataBytes = frames * bytesPerFrame;
+
+            try (OutputStream out = new BufferedOutputStream(temp.write(false), 1 << 16)) {
+                writeWavHeader(out, channels, rate, bitsPerSample, dataBytes);
+                byte[] buffer = new byte[bytesPerFrame * 4096];
+                long remaining = dataBytes;
+                while (remaining > 0) {
+                    int read = stream.read(buffer);
+                    if (read <= 0) {
+                        break;
+                    }
+                    int take = (int) Math.min(read, remaining);
+                    out.write(buffer, 0, take);
+                    remaining -= take;
+                }
+                if (remaining > 0) {
+                    throw new IOException("Stream ended early: " + path);
+                }
+            }
+            try {
+                Files.move(temp.file().toPath(), target.file().toPath(),
+                        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.file().toPath(), target.file().toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            temp.delete();
+            source.dispose();
+        }
+    }
+
+    /** RIFF/WAVE header for interleaved PCM (16-bit integer, or 32-bit float). */
+    private static void writeWavHeader(OutputStream out, int channels, int rate, int bits, long dataBytes)
+            throws IOException {
+        int format = bits == 32 ? 3 : 1;
+        int blockAlign = channels * bits / 8;
+        out.write(new byte[] { 'R', 'I', 'F', 'F' });
+        writeInt(out, (int) (36 + dataBytes));
+        out.write(new byte[] { 'W', 'A', 'V', 'E', 'f', 'm', 't', ' ' });
+        writeInt(out, 16);
+        writeShort(out, format);
+        writeShort(out, channels);
+        writeInt(out, rate);
+        writeInt(out, rate * blockAlign);
+        writeShort(out, blockAlign);
+        writeShort(out, bits);
+        out.write(new byte[] { 'd', 'a', 't', 'a' });
+        writeInt(out, (int) dataBytes);
+    }
+
+    private static void writeInt(OutputStream out, int v) throws IOException {
+        out.write(v);
+        out.write(v >>> 8);
+        out.write(v >>> 16);
+        out.write(v >>> 24);
+    }
+
+    private static void writeShort(OutputStream out, int v) throws IOException {
+        out.write(v);
+        out.write(v >>> 8);
+    }
+
+    @Override
+    public void onTransition(MusicQueue queue, AudioSource from, AudioSource to) {
+        // Once the intro has played, drop it so loop-back only cycles the loop segments.
+        for (int track = 0; track < decks.length; track++) {
+            if (decks[track] == queue && segments[track] != null && from == segments[track][0]) {
+                Gdx.app.postRunnable(() -> {
+                    if (queue.getNumberOfSources() > 1 && queue.getSource(0) == from) {
+                        queue.removeSource(0);
+                    }
+                });
+            }
+        }
+    }
+
+    @Override
+    public void onLoopback(MusicQueue queue, AudioSource source) {
+    }
+
+    @Override
+    public void onCompletion(MusicQueue queue, AudioSource source) {
+    }
+
+    @Override
+    public void dispose() {
+        fadeTask.cancel();
+        for (int track = 0; track < decks.length; track++) {
+            release(track);
+        }
+        current = NONE;
+        outgoing = NONE;
+    }
+}
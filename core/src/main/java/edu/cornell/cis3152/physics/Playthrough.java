@@ -0,0 +1,117 @@
+package edu.cornell.cis3152.physics;
+
+/**
+ * Opt-in unattended run through every level.
+ *
+ * <p>Enable with {@code -Dfrog.playthrough=true}. The title screen presses Play on its own, and
+ * {@link GameMode} then asks {@link #step} once per frame what to do. Each level follows the same
+ * script, timed in frames from when it loads: let Zuko spawn and land (so the Box2D contact and
+ * ray-cast callbacks fire), take a photo and stick it on another object, open and close the pause
+ * menu, open and close the options overlay, then win. Winning saves the result and shows the win
+ * screen, which moves on to the next level; the run quits after the last one. Saves go to
+ * {@link #SAVE_FILE} rather than the player's save.
+ *
+ * <p>The desktop build's {@code playthrough} task runs this under the GraalVM tracing agent to
+ * record the reflection, JNI and resource metadata that the native image needs, so the script
+ * touches every screen and every kind of file the game reads or writes.
+ */
+public final class Playthrough {
+    /** System property that turns the playthrough on */
+    public static final String PROPERTY = "frog.playthrough";
+    /** Local save file used instead of the player's during a playthrough */
+    public static final String SAVE_FILE = "playthrough_save.json";
+
+    /** What {@link GameMode} should do this frame */
+    public enum Action {
+        /** Keep going */
+        NONE,
+        /** Load {@link #getLevel()}, leaving the win screen if it is up */
+        LOAD,
+        /** Photograph an object and stick the photo on another */
+        PHOTO,
+        PAUSE,
+        RESUME,
+        OPEN_OPTIONS,
+        CLOSE_OPTIONS,
+        /** Send Zuko through the goal door */
+        WIN,
+        /** The run is over */
+        QUIT
+    }
+
+    /** Frames from a level loading to each scripted action */
+    private static final int PHOTO_FRAME = 150;
+    private static final int PAUSE_FRAME = 180;
+    private static final int RESUME_FRAME = 210;
+    private static final int OPEN_OPTIONS_FRAME = 240;
+    private static final int CLOSE_OPTIONS_FRAME = 270;
+    private static final int WIN_FRAME = 300;
+    /** Frames the win screen stays up */
+    private static final int WIN_SCREEN_FRAMES = 60;
+    /** Frames to wait for the win screen before moving on without it */
+    private static final int WIN_TIMEOUT_FRAMES = 600;
+
+    private static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+    private static int level;
+    private static int frames;
+    private static int winFrames;
+
+    private Playthrough() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /** Returns the level the playthrough is on (1-based), or 0 before the first one */
+    public static int getLevel() {
+        return level;
+    }
+
+    /**
+     * Advances the playthrough by one frame.
+     *
+     * @param inLevel    whether a level is loaded and showing
+     * @param showingWin whether the win screen is up
+     * @param total      the number of levels
+     *
+     * @return the action to take this frame
+     */
+    public static Action step(boolean inLevel, boolean showingWin, int total) {
+        if (!inLevel) {
+            if (level > 0) {
+                return Action.NONE;
+            }
+            GameLog.info("Playthrough", "Playing {} levels", total);
+            return load(1);
+        }
+        frames++;
+        if (showingWin) {
+            winFrames++;
+        }
+        if (winFrames >= WIN_SCREEN_FRAMES || frames >= WIN_FRAME + WIN_TIMEOUT_FRAMES) {
+            if (winFrames == 0) {
+                GameLog.warn("Playthrough", "Level {} never showed the win screen", level);
+            }
+            GameLog.info("Playthrough", "Level {} of {} done", level, total);
+            return level < total ? load(level + 1) : Action.QUIT;
+        }
+        return switch (frames) {
+            case PHOTO_FRAME -> Action.PHOTO;
+            case PAUSE_FRAME -> Action.PAUSE;
+            case RESUME_FRAME -> Action.RESUME;
+            case OPEN_OPTIONS_FRAME -> Action.OPEN_OPTIONS;
+            case CLOSE_OPTIONS_FRAME -> Action.CLOSE_OPTIONS;
+            case WIN_FRAME -> Action.WIN;
+            default -> Action.NONE;
+        };
+    }
+
+    private static Action load(int next) {
+        level = next;
+        frames = 0;
+        winFrames = 0;
+        return Action.LOAD;
+    }
+}
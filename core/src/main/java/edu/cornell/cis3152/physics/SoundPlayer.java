@@ -0,0 +1,268 @@
+package edu.cornell.cis3152.physics;
+
+import com.badlogic.gdx.Gdx;
+import edu.cornell.gdiac.audio.AudioEngine;
+import edu.cornell.gdiac.audio.SoundEffect;
+
+/**
+ * Singleton that plays sound effects through a fixed pool of voices.
+ *
+ * <p>Use {@link #getInstance()} for the shared instance. A sound is {@link #register registered} once
+ * with a category, a priority, and a minimum retrigger interval, which returns an integer handle;
+ * gameplay code then calls {@link #play(int, float)} with that handle. Each category has its own
+ * voice limit, and the whole pool is capped at {@link #MAX_VOICES}. When a limit is reached, the
+ * oldest voice with the lowest priority is stolen if it is no more important than the new sound;
+ * otherwise the new sound is dropped. This keeps footstep spam from starving important cues
+ * (death, portal) of OpenAL sources.
+ *
+ * <p>The OpenAL sources themselves belong to the {@link AudioEngine}, which opens a fixed number of
+ * them ({@link AudioEngine#getCapacity()}) when audio starts and hands them out per play. The
+ * pool is capped at that capacity too, so a play never finds the engine's sources exhausted.
+ * All bookkeeping lives in preallocated arrays, so playing a sound does not allocate.
+ * Call {@link #logStats()} to print voice usage.
+ */
+public final class SoundPlayer {
+    /** Menu and HUD feedback (hover, buttons, shutter) */
+    public static final int UI = 0;
+    /** Repeating movement sounds (footsteps) */
+    public static final int MOVEMENT = 1;
+    /** Player actions (photo, stick, tongue) */
+    public static final int ACTION = 2;
+    /** One-off story cues (death, spawn, portal) */
+    public static final int CUE = 3;
+    /**
+     * Voice limit per category, indexed by category. Footsteps get one voice, so a new step
+     * replaces the last one instead of stacking on it.
+     */
+    private static final int[] CATEGORY_LIMITS = { 2, 1, 4, 3 };
+
+    public static final int PRIORITY_LOW = 0;
+    public static final int PRIORITY_NORMAL = 1;
+    public static final int PRIORITY_HIGH = 2;
+
+    /** Total simultaneous voices, if the engine has at least that many sources */
+    public static final int MAX_VOICES = 12;
+    /** Maximum number of distinct registrations */
+    private static final int MAX_SOUNDS = 32;
+    /** Returned by {@link #register} when the sound is null or the table is full */
+    public static final int NO_SOUND = -1;
+
+    /** The singleton instance of the player */
+    private static SoundPlayer thePlayer = null;
+
+    /**
+     * Returns the singleton instance of the player
+     *
+     * @return the singleton instance of the player
+     */
+    public static SoundPlayer getInstance() {
+        if (thePlayer == null) {
+            thePlayer = new SoundPlayer();
+        }
+        return thePlayer;
+    }
+
+    // Registered sounds, indexed by handle
+    private final SoundEffect[] sounds = new SoundEffect[MAX_SOUNDS];
+    private final int[] categories = new int[MAX_SOUNDS];
+    private final int[] priorities = new int[MAX_SOUNDS];
+    private final long[] minIntervalNanos = new long[MAX_SOUNDS];
+    private final long[] lastPlayNanos = new long[MAX_SOUNDS];
+    private int soundCount;
+
+    // Voice pool; slots [0, voiceCount) are live, and never more than maxVoices of them
+    private final int[] voiceHandles = new int[MAX_VOICES];
+    private final long[] voiceIds = new long[MAX_VOICES];
+    private final long[] voiceStarts = new long[MAX_VOICES];
+    private final int maxVoices;
+    private int voiceCount;
+
+    // Statistics
+    private int peakVoices;
+    private long played;
+    private long rejected;
+    private long throttled;
+    private long stolen;
+
+    private SoundPlayer() {
+        int capacity = Gdx.audio instanceof AudioEngine engine ? engine.getCapacity() : 0;
+        maxVoices = capacity > 0 ? Math.min(MAX_VOICES, capacity) : MAX_VOICES;
+    }
+
+    /**
+     * Registers a sound and returns its handle. Registering the same sound with the same settings
+     * again returns the existing handle, so scenes can register on every load.
+     *
+     * @param sound       the sound asset
+     * @param category    one of {@link #UI}, {@link #MOVEMENT}, {@link #ACTION}, {@link #CUE}
+     * @param priority    higher values may steal voices from lower ones
+     * @param minInterval minimum seconds between two starts of this sound
+     */
+    public int register(SoundEffect sound, int category, int priority, float minInterval) {
+        if (sound == null) {
+            return NO_SOUND;
+        }
+        long interval = (long) (minInterval * 1e9f);
+        for (int ii = 0; ii < soundCount; ii++) {
+            if (sounds[ii] == sound && categories[ii] == category
+                    && priorities[ii] == priority && minIntervalNanos[ii] == interval) {
+                return ii;
+            }
+        }
+        if (soundCount == MAX_SOUNDS) {
+            GameLog.warn("SoundPlayer", "Sound table full, ignoring {}", sound.getFile());
+            return NO_SOUND;
+        }
+        int handle = soundCount++;
+        sounds[handle] = sound;
+        categories[handle] = category;
+        priorities[handle] = priority;
+        minIntervalNanos[handle] = interval;
+        lastPlayNanos[handle] = Long.MIN_VALUE / 2;
+        return handle;
+    }
+
+    /**
+     * Plays a registered sound at the given volume (already scaled by the SFX setting).
+     *
+     * @return true if a voice was started
+     */
+    public boolean play(int handle, float volume) {
+        if (handle < 0 || handle >= soundCount || volume <= 0f) {
+            return false;
+        }
+        long now = System.nanoTime();
+        if (now - lastPlayNanos[handle] < minIntervalNanos[handle]) {
+            throttled++;
+            return false;
+        }
+        reap();
+
+        int category = categories[handle];
+        int priority = priorities[handle];
+        if (countCategory(category) >= CATEGORY_LIMITS[category]) {
+            if (!steal(category, priority)) {
+                rejected++;
+                return false;
+            }
+        }
+        if (voiceCount >= maxVoices && !steal(-1, priority)) {
+            rejected++;
+            return false;
+        }
+
+        long id = sounds[handle].play(volume);
+        if (id == -1) {
+            rejected++;
+            return false;
+        }
+        lastPlayNanos[handle] = now;
+        voiceHandles[voiceCount] = handle;
+        voiceIds[voiceCount] = id;
+        voiceStarts[voiceCount] = now;
+        voiceCount++;
+        peakVoices = Math.max(peakVoices, voiceCount);
+        played++;
+        return true;
+    }
+
+    /** Stops every voice playing {@code handle}. */
+    public void stop(int handle) {
+        for (int ii = voiceCount - 1; ii >= 0; ii--) {
+            if (voiceHandles[ii] == handle) {
+                stopVoice(ii);
+            }
+        }
+    }
+
+    /** Stops every voice in a category. */
+    public void stopCategory(int category) {
+        for (int ii = voiceCount - 1; ii >= 0; ii--) {
+            if (categories[voiceHandles[ii]] == category) {
+                stopVoice(ii);
+            }
+        }
+    }
+
+    /** Stops every voice. */
+    public void stopAll() {
+        for (int ii = voiceCount - 1; ii >= 0; ii--) {
+            stopVoice(ii);
+        }
+    }
+
+    public int getActiveVoices() {
+        reap();
+        return voiceCount;
+    }
+
+    public int getPeakVoices() {
+        return peakVoices;
+    }
+
+    /** Logs play, drop, throttle and steal counts since startup. */
+    public void logStats() {
+        GameLog.info("SoundPlayer", "voices peak {}/{}, {} played", peakVoices, maxVoices, played);
+        GameLog.info("SoundPlayer", "{} dropped, {} throttled, {} stolen", rejected, throttled, stolen);
+    }
+
+    /** Frees slots whose sound has finished. */
+    private void reap() {
+        for (int ii = voiceCount - 1; ii >= 0; ii--) {
+            if (!sounds[voiceHandles[ii]].isPlaying(voiceIds[ii])) {
+                removeVoice(ii);
+            }
+        }
+    }
+
+    private int countCategory(int category) {
+        int count = 0;
+        for (int ii = 0; ii < voiceCount; ii++) {
+            if (categories[voiceHandles[ii]] == category) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Stops the least important, oldest voice (restricted to {@code category} unless it is -1)
+     * if its priority does not exceed {@code priority}.
+     */
+    private boolean steal(int category, int priority) {
+        int victim = -1;
+        for (int ii = 0; ii < voiceCount; ii++) {
+            int handle = voiceHandles[ii];
+            if (category >= 0 && categories[handle] != category) {
+                continue;
+            }
+            if (priorities[handle] > priority) {
+                continue;
+            }
+            if (victim < 0 || priorities[handle] < priorities[voiceHandles[victim]]
+                    || (priorities[handle] == priorities[voiceHandles[victim]]
+                        && voiceStarts[ii] < voiceStarts[victim])) {
+                victim = ii;
+            }
+        }
+        if (victim < 0) {
+            return false;
+        }
+        stopVoice(victim);
+        stolen++;
+        return true;
+    }
+
+    private void stopVoice(int slot) {
+        sounds[voiceHandles[slot]].stop(voiceIds[slot]);
+        removeVoice(slot);
+    }
+
+    /** Removes a slot by moving the last live slot into it. */
+    private void removeVoice(int slot) {
+        int last = --voiceCount;
+        voiceHandles[slot] = voiceHandles[last];
+        voiceIds[slot] = voiceIds[last];
+        voiceStarts[slot] = voiceStarts[last];
+    }
+}
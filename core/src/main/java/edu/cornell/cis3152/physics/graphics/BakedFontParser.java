@@ -0,0 +1,62 @@
+package edu.cornell.cis3152.physics.graphics;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.BitmapFontLoader;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectMap;
+import edu.cornell.gdiac.assets.AssetParser;
+import edu.cornell.gdiac.assets.ParserUtils;
+
+/**
+ * Asset parser for the {@code "bitmapfonts"} section of an asset directory.
+ *
+ * <p>Each entry maps a key to a {@code .fnt} file written by the {@code bakeFonts} build task,
+ * for example {@code "shared-retro": "fonts/retro-64.fnt"}. An entry may also be an object with a
+ * {@code "file"} and optional {@code "minfilter"} and {@code "magfilter"}. The fonts load through
+ * the asset manager's own {@link BitmapFont} loader, so no FreeType rasterisation happens at
+ * runtime. Keys share the {@link BitmapFont} namespace with the {@code "fonts"} section, so screens
+ * look them up with {@code getEntry(key, BitmapFont.class)} either way.
+ *
+ * <p>Add this parser with {@code addParser} before calling {@code loadAssets}.
+ */
+public class BakedFontParser implements AssetParser<BitmapFont> {
+    /** The current font entry in the directory */
+    private JsonValue root;
+
+    @Override
+    public Class<BitmapFont> getType() {
+        return BitmapFont.class;
+    }
+
+    @Override
+    public void reset(JsonValue directory) {
+        root = directory.getChild("bitmapfonts");
+    }
+
+    @Override
+    public boolean hasNext() {
+        return root != null;
+    }
+
+    @Override
+    public void processNext(AssetManager manager, ObjectMap<String, String> keymap) {
+        BitmapFontLoader.BitmapFontParameter params = new BitmapFontLoader.BitmapFontParameter();
+        // Match the filtering the FreeType parser used for these fonts
+        params.minFilter = Texture.TextureFilter.Linear;
+        params.magFilter = Texture.TextureFilter.Linear;
+
+        String file;
+        if (root.isString()) {
+            file = root.asString();
+        } else {
+            file = root.getString("file");
+            params.minFilter = ParserUtils.parseFilter(root.get("minfilter"), params.minFilter);
+            params.magFilter = ParserUtils.parseFilter(root.get("magfilter"), params.magFilter);
+        }
+        keymap.put(root.name(), file);
+        manager.load(file, BitmapFont.class, params);
+        root = root.next();
+    }
+}
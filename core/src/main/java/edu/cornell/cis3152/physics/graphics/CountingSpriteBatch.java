@@ -0,0 +1,64 @@
+package edu.cornell.cis3152.physics.graphics;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import edu.cornell.gdiac.graphics.SpriteBatch;
+
+/**
+ * Sprite batch that counts its flushes and draw calls.
+ *
+ * <p>The batch records a new draw command whenever the texture changes and submits them all on
+ * {@link #flush()}, so the draw-call count here is the number of texture runs: it goes up on every
+ * texture change and restarts after each flush. {@link #resetCounts()} is called once per frame by
+ * the application root, and a physics scene in debug mode logs the counts at the end of each frame.
+ */
+public class CountingSpriteBatch extends SpriteBatch {
+    private int flushes;
+    private int drawCalls;
+    private Texture lastTexture;
+
+    public CountingSpriteBatch() {
+        super();
+    }
+
+    /** Returns the flushes since the last {@link #resetCounts()}. */
+    public int getFlushes() {
+        return flushes;
+    }
+
+    /** Returns the draw calls (texture runs) since the last {@link #resetCounts()}. */
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    public void resetCounts() {
+        flushes = 0;
+        drawCalls = 0;
+    }
+
+    @Override
+    public void setTexture(Texture texture) {
+        countTexture(texture);
+        super.setTexture(texture);
+    }
+
+    @Override
+    public void setTextureRegion(TextureRegion region) {
+        countTexture(region == null ? null : region.getTexture());
+        super.setTextureRegion(region);
+    }
+
+    @Override
+    public void flush() {
+        flushes++;
+        lastTexture = null;
+        super.flush();
+    }
+
+    private void countTexture(Texture texture) {
+        if (texture != lastTexture) {
+            lastTexture = texture;
+            drawCalls++;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package edu.cornell.cis3152.physics.graphics;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.BufferUtils;
 import com.badlogic.gdx.utils.Disposable;
+import edu.cornell.cis3152.physics.BootTrace;
+import edu.cornell.cis3152.physics.GameLog;
 
 import javax.imageio.ImageIO;
 import javax.imageio.ImageReader;
@@ -13,9 +17,26 @@ import javax.imageio.metadata.IIOMetadata;
 import javax.imageio.metadata.IIOMetadataNode;
 import javax.imageio.stream.ImageInputStream;
 import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -24,12 +45,39 @@ import org.w3c.dom.NodeList;
  * Decodes an animated GIF into GPU textures for LibGDX (core library has no GIF animation support).
  * Use anywhere you need a looping GIF: title screens, UI accents, cutscenes, etc.
  * <p>
- * Call {@link #dispose()} when finished. Thread: load on the render thread before first draw.
+ * All frames of one GIF are packed into a single texture atlas, so drawing any frame binds the
+ * same texture. Each frame is surrounded by {@value #PADDING} pixels copied from its own edges, so
+ * filtering samples at a frame's border never pick up its neighbour. An atlas larger than the
+ * GPU's maximum texture size is uploaded as one texture per frame instead. Decoding is split from
+ * upload: {@link #decode} is pure CPU work (safe on any
+ * thread) and {@link #loadAll} fans it out across cores, leaving only the GL upload on the
+ * render thread. Decoded atlases are kept in a versioned binary cache under
+ * {@code cache/gif/}, keyed by a CRC of the source bytes, so later launches skip
+ * {@code ImageIO} entirely.
+ * <p>
+ * Call {@link #dispose()} when finished. Thread: {@link #load} and {@link #loadAll} must be called
+ * on the render thread before first draw.
+ * <p>
+ * Nothing in the game calls this yet: no GIFs ship in the assets folder. It is kept, unused on
+ * purpose, for the first screen that wants an animated GIF.
  */
 public final class GifFrames implements Disposable {
 
+    /** Bump whenever the decode output or the cache layout changes. */
+    private static final int CACHE_VERSION = 2;
+    /** Magic number at the start of every cache file ("GIFC"). */
+    private static final int CACHE_MAGIC = 0x47494643;
+    /** Local directory (relative to the working directory) holding decoded atlases. */
+    private static final String CACHE_DIR = "cache/gif/";
+    /** Border around every frame in the atlas, filled by extending the frame's edge pixels. */
+    private static final int PADDING = 2;
+
+    /** GL_MAX_TEXTURE_SIZE, read on the first upload; 0 until then or if the driver reports none. */
+    private static int maxTextureSize = -1;
+
     private final TextureRegion[] regions;
     private final float[] frameDurationSeconds;
+    /** The atlas, or one texture per frame when the atlas is too large for the GPU. */
     private final Texture[] textures;
     private final float loopDurationSeconds;
 
@@ -44,6 +92,32 @@ public final class GifFrames implements Disposable {
         this.loopDurationSeconds = sum > 0.001f ? sum : 0.1f;
     }
 
+    /**
+     * CPU-side result of decoding one GIF: every frame packed into a single RGBA8888 atlas.
+     * Holds no GL resources, so it can be produced on a worker thread.
+     */
+    public static final class Decoded {
+        final int atlasWidth;
+        final int atlasHeight;
+        /** Per frame: x, y, width, height inside the atlas (top-left origin). */
+        final int[] frameRects;
+        final float[] delays;
+        /** RGBA8888 atlas pixels, row-major from the top. */
+        final byte[] rgba;
+
+        Decoded(int atlasWidth, int atlasHeight, int[] frameRects, float[] delays, byte[] rgba) {
+            this.atlasWidth = atlasWidth;
+            this.atlasHeight = atlasHeight;
+            this.frameRects = frameRects;
+            this.delays = delays;
+            this.rgba = rgba;
+        }
+
+        public int getFrameCount() {
+            return delays.length;
+        }
+    }
+
     /**
      * @param file                  internal or absolute {@link FileHandle} to the {@code .gif}
      * @param defaultFrameSeconds   used when a frame omits delay metadata
@@ -51,39 +125,141 @@ public final class GifFrames implements Disposable {
      */
     public static GifFrames load(FileHandle file, float defaultFrameSeconds, Texture.TextureFilter filter)
             throws IOException {
-        Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName("gif");
-        if (!readers.hasNext()) {
-            throw new IOException("No GIF ImageReader available");
+        long start = BootTrace.start();
+        GifFrames frames = upload(decode(file, defaultFrameSeconds), filter);
+        BootTrace.span("gif", "GifFrames.load", file, start);
+        return frames;
+    }
+
+    /**
+     * Decodes several GIFs in parallel (one task per file, bounded by the core count), then
+     * uploads each atlas on the calling thread. Results are in the same order as {@code files}.
+     */
+    public static GifFrames[] loadAll(FileHandle[] files, float defaultFrameSeconds, Texture.TextureFilter filter)
+            throws IOException {
+        GifFrames[] result = new GifFrames[files.length];
+        if (files.length == 0) {
+            return result;
         }
-        ImageReader reader = readers.next();
-        try (InputStream raw = file.read();
-             ImageInputStream iis = ImageIO.createImageInputStream(raw)) {
-            if (iis == null) {
-                throw new IOException("Could not open GIF stream");
+        int threads = Math.max(1, Math.min(files.length, Runtime.getRuntime().availableProcessors()));
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "gif-decode");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            @SuppressWarnings("unchecked")
+            Future<Decoded>[] pending = new Future[files.length];
+            for (int i = 0; i < files.length; i++) {
+                FileHandle file = files[i];
+                pending[i] = pool.submit(() -> decode(file, defaultFrameSeconds));
             }
-            reader.setInput(iis, false, true);
-            int n = reader.getNumImages(true);
-            if (n <= 0) {
-                throw new IOException("GIF has no frames");
+            for (int i = 0; i < files.length; i++) {
+                result[i] = upload(pending[i].get(), filter);
             }
-            BufferedImage[] frames = new BufferedImage[n];
-            for (int i = 0; i < n; i++) {
-                frames[i] = reader.read(i);
+            return result;
+        } catch (InterruptedException e) {
+            disposeAll(result);
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while decoding GIFs", e);
+        } catch (ExecutionException e) {
+            disposeAll(result);
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
             }
-            int[] crop = unionOpaqueCropPx(frames);
-            TextureRegion[] regions = new TextureRegion[n];
-            float[] delays = new float[n];
-            Texture[] textures = new Texture[n];
+            throw new IOException("Could not decode GIF", cause);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void disposeAll(GifFrames[] frames) {
+        for (GifFrames gif : frames) {
+            if (gif != null) {
+                gif.dispose();
+            }
+        }
+    }
+
+    /**
+     * Decodes a GIF into a packed atlas without touching GL. Reads the disk cache first and
+     * writes it after a fresh decode; cache failures only cost the speed-up, never the load.
+     */
+    public static Decoded decode(FileHandle file, float defaultFrameSeconds) throws IOException {
+        long start = BootTrace.start();
+        byte[] source = file.readBytes();
+        CRC32 crc = new CRC32();
+        crc.update(source);
+        long key = crc.getValue() ^ ((long) Float.floatToIntBits(defaultFrameSeconds) << 32);
+
+        FileHandle cacheFile = cacheFileFor(file);
+        Decoded cached = readCache(cacheFile, key);
+        if (cached != null) {
+            BootTrace.span("gif", "GifFrames.decode (cached)", file, start);
+            return cached;
+        }
+        Decoded decoded = decodeGif(source, defaultFrameSeconds);
+        writeCache(cacheFile, key, decoded);
+        BootTrace.span("gif", "GifFrames.decode", file, start);
+        return decoded;
+    }
+
+    /**
+     * Uploads a decoded atlas as one texture, or as one texture per frame if the atlas is larger
+     * than the GPU allows. Must run on the render thread.
+     */
+    public static GifFrames upload(Decoded decoded, Texture.TextureFilter filter) {
+        int n = decoded.getFrameCount();
+        int[] r = decoded.frameRects;
+        TextureRegion[] regions = new TextureRegion[n];
+        int max = maxTextureSize();
+        if (max <= 0 || (decoded.atlasWidth <= max && decoded.atlasHeight <= max)) {
+            Pixmap pixmap = new Pixmap(decoded.atlasWidth, decoded.atlasHeight, Pixmap.Format.RGBA8888);
+            ByteBuffer pixels = pixmap.getPixels();
+            pixels.clear();
+            pixels.put(decoded.rgba);
+            pixels.flip();
+            Texture texture = new Texture(pixmap);
+            pixmap.dispose();
+            texture.setFilter(filter, filter);
             for (int i = 0; i < n; i++) {
-                delays[i] = readGraphicControlDelaySeconds(reader, i, defaultFrameSeconds);
-                BufferedImage img = applyCrop(frames[i], crop);
-                textures[i] = bufferedImageToTexture(img, filter);
-                regions[i] = new TextureRegion(textures[i]);
+                regions[i] = new TextureRegion(texture, r[i * 4], r[i * 4 + 1], r[i * 4 + 2], r[i * 4 + 3]);
             }
-            return new GifFrames(regions, delays, textures);
-        } finally {
-            reader.dispose();
+            return new GifFrames(regions, decoded.delays.clone(), new Texture[] { texture });
+        }
+
+        GameLog.warn("GifFrames", "Atlas of {} exceeds the maximum texture size; uploading frames separately",
+                decoded.atlasWidth + "x" + decoded.atlasHeight);
+        Texture[] textures = new Texture[n];
+        int rowBytes = decoded.atlasWidth * 4;
+        for (int i = 0; i < n; i++) {
+            int x = r[i * 4];
+            int y = r[i * 4 + 1];
+            int w = r[i * 4 + 2];
+            int h = r[i * 4 + 3];
+            Pixmap pixmap = new Pixmap(w, h, Pixmap.Format.RGBA8888);
+            ByteBuffer pixels = pixmap.getPixels();
+            pixels.clear();
+            for (int row = 0; row < h; row++) {
+                pixels.put(decoded.rgba, (y + row) * rowBytes + x * 4, w * 4);
+            }
+            pixels.flip();
+            textures[i] = new Texture(pixmap);
+            pixmap.dispose();
+            textures[i].setFilter(filter, filter);
+            regions[i] = new TextureRegion(textures[i]);
         }
+        return new GifFrames(regions, decoded.delays.clone(), textures);
+    }
+
+    private static int maxTextureSize() {
+        if (maxTextureSize < 0) {
+            IntBuffer value = BufferUtils.newIntBuffer(16);
+            Gdx.gl.glGetIntegerv(GL20.GL_MAX_TEXTURE_SIZE, value);
+            maxTextureSize = Math.max(0, value.get(0));
+        }
+        return maxTextureSize;
     }
 
     public int getFrameCount() {
@@ -94,7 +270,7 @@ public final class GifFrames implements Disposable {
         return loopDurationSeconds;
     }
 
-    /** Texture for the frame active at {@code stateTime} (loops). */
+    /** Texture region for the frame active at {@code stateTime} (loops). */
     public TextureRegion getKeyFrame(float stateTimeSeconds) {
         return regions[frameIndexAt(stateTimeSeconds)];
     }
@@ -113,8 +289,162 @@ public final class GifFrames implements Disposable {
 
     @Override
     public void dispose() {
-        for (Texture t : textures) {
-            t.dispose();
+        for (Texture texture : textures) {
+            texture.dispose();
+        }
+    }
+
+    private static Decoded decodeGif(byte[] source, float defaultFrameSeconds) throws IOException {
+        Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName("gif");
+        if (!readers.hasNext()) {
+            throw new IOException("No GIF ImageReader available");
+        }
+        ImageReader reader = readers.next();
+        try (ImageInputStream iis = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            if (iis == null) {
+                throw new IOException("Could not open GIF stream");
+            }
+            reader.setInput(iis, false, true);
+            int n = reader.getNumImages(true);
+            if (n <= 0) {
+                throw new IOException("GIF has no frames");
+            }
+            int[][] argb = new int[n][];
+            int[] widths = new int[n];
+            int[] heights = new int[n];
+            float[] delays = new float[n];
+            for (int i = 0; i < n; i++) {
+                BufferedImage img = reader.read(i);
+                widths[i] = img.getWidth();
+                heights[i] = img.getHeight();
+                argb[i] = img.getRGB(0, 0, widths[i], heights[i], null, 0, widths[i]);
+                delays[i] = readGraphicControlDelaySeconds(reader, i, defaultFrameSeconds);
+            }
+            return pack(argb, widths, heights, delays);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * Crops every frame to the shared opaque bounds and packs the frames into a near-square
+     * grid, converting ARGB to RGBA row by row. Each cell has a {@link #PADDING} border that
+     * repeats the frame's outermost pixels, as clamp-to-edge would for a texture of its own.
+     */
+    private static Decoded pack(int[][] argb, int[] widths, int[] heights, float[] delays) {
+        int n = argb.length;
+        int[] crop = unionOpaqueCropPx(argb, widths, heights);
+        int[] srcRects = new int[n * 4];
+        int cellW = 0;
+        int cellH = 0;
+        for (int i = 0; i < n; i++) {
+            if (crop != null) {
+                System.arraycopy(crop, 0, srcRects, i * 4, 4);
+            } else {
+                srcRects[i * 4 + 2] = widths[i];
+                srcRects[i * 4 + 3] = heights[i];
+            }
+            cellW = Math.max(cellW, srcRects[i * 4 + 2]);
+            cellH = Math.max(cellH, srcRects[i * 4 + 3]);
+        }
+
+        int cols = (int) Math.ceil(Math.sqrt(n));
+        int rows = (n + cols - 1) / cols;
+        int strideW = cellW + 2 * PADDING;
+        int strideH = cellH + 2 * PADDING;
+        int atlasW = cols * strideW;
+        int atlasH = rows * strideH;
+        byte[] rgba = new byte[atlasW * atlasH * 4];
+        int[] frameRects = new int[n * 4];
+        for (int i = 0; i < n; i++) {
+            int dx = (i % cols) * strideW + PADDING;
+            int dy = (i / cols) * strideH + PADDING;
+            int sx = srcRects[i * 4];
+            int sy = srcRects[i * 4 + 1];
+            int w = srcRects[i * 4 + 2];
+            int h = srcRects[i * 4 + 3];
+            int[] src = argb[i];
+            for (int y = -PADDING; y < h + PADDING; y++) {
+                int row = (sy + Math.max(0, Math.min(h - 1, y))) * widths[i] + sx;
+                int out = ((dy + y) * atlasW + dx - PADDING) * 4;
+                for (int x = -PADDING; x < w + PADDING; x++) {
+                    int p = src[row + Math.max(0, Math.min(w - 1, x))];
+                    rgba[out++] = (byte) (p >> 16);
+                    rgba[out++] = (byte) (p >> 8);
+                    rgba[out++] = (byte) p;
+                    rgba[out++] = (byte) (p >>> 24);
+                }
+            }
+            frameRects[i * 4] = dx;
+            frameRects[i * 4 + 1] = dy;
+            frameRects[i * 4 + 2] = w;
+            frameRects[i * 4 + 3] = h;
+        }
+        return new Decoded(atlasW, atlasH, frameRects, delays, rgba);
+    }
+
+    private static FileHandle cacheFileFor(FileHandle file) {
+        String name = file.path().replaceAll("[^A-Za-z0-9._-]", "_");
+        return Gdx.files.local(CACHE_DIR + name + ".bin");
+    }
+
+    private static Decoded readCache(FileHandle cacheFile, long key) {
+        if (!cacheFile.exists()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new InflaterInputStream(cacheFile.read())))) {
+            if (in.readInt() != CACHE_MAGIC || in.readInt() != CACHE_VERSION || in.readLong() != key) {
+                return null;
+            }
+            int atlasW = in.readInt();
+            int atlasH = in.readInt();
+            int n = in.readInt();
+            int[] frameRects = new int[n * 4];
+            for (int i = 0; i < frameRects.length; i++) {
+                frameRects[i] = in.readInt();
+            }
+            float[] delays = new float[n];
+            for (int i = 0; i < n; i++) {
+                delays[i] = in.readFloat();
+            }
+            byte[] rgba = new byte[atlasW * atlasH * 4];
+            in.readFully(rgba);
+            return new Decoded(atlasW, atlasH, frameRects, delays, rgba);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** Writes to a temporary file first, then moves it into place, so readers never see a torn file. */
+    private static void writeCache(FileHandle cacheFile, long key, Decoded decoded) {
+        FileHandle temp = cacheFile.sibling(cacheFile.name() + ".tmp");
+        try {
+            cacheFile.parent().mkdirs();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new DeflaterOutputStream(temp.write(false), new Deflater(Deflater.BEST_SPEED))))) {
+                out.writeInt(CACHE_MAGIC);
+                out.writeInt(CACHE_VERSION);
+                out.writeLong(key);
+                out.writeInt(decoded.atlasWidth);
+                out.writeInt(decoded.atlasHeight);
+                out.writeInt(decoded.getFrameCount());
+                for (int v : decoded.frameRects) {
+                    out.writeInt(v);
+                }
+                for (float d : decoded.delays) {
+                    out.writeFloat(d);
+                }
+                out.write(decoded.rgba);
+            }
+            try {
+                Files.move(temp.file().toPath(), cacheFile.file().toPath(),
+                        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.file().toPath(), cacheFile.file().toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (RuntimeException | IOException e) {
+            temp.delete();
         }
     }
 
@@ -154,14 +484,14 @@ public final class GifFrames implements Disposable {
      * Smallest axis-aligned rect (in pixel coords, top-left origin) that contains every non-transparent
      * pixel in every frame. Removes empty GIF margins so layout uses visible art, not the full canvas.
      */
-    private static int[] unionOpaqueCropPx(BufferedImage[] frames) {
+    private static int[] unionOpaqueCropPx(int[][] frames, int[] widths, int[] heights) {
         if (frames.length == 0) {
             return null;
         }
-        int w0 = frames[0].getWidth();
-        int h0 = frames[0].getHeight();
+        int w0 = widths[0];
+        int h0 = heights[0];
         for (int i = 1; i < frames.length; i++) {
-            if (frames[i].getWidth() != w0 || frames[i].getHeight() != h0) {
+            if (widths[i] != w0 || heights[i] != h0) {
                 return null;
             }
         }
@@ -169,8 +499,8 @@ public final class GifFrames implements Disposable {
         int minY = Integer.MAX_VALUE;
         int maxX = Integer.MIN_VALUE;
         int maxY = Integer.MIN_VALUE;
-        for (BufferedImage frame : frames) {
-            int[] b = opaqueBoundsPx(frame);
+        for (int[] frame : frames) {
+            int[] b = opaqueBoundsPx(frame, w0, h0);
             if (b == null) {
                 continue;
             }
@@ -189,16 +519,15 @@ public final class GifFrames implements Disposable {
     }
 
     /** Inclusive max x,y in top-left coordinates, or null if image has no opaque pixels. */
-    private static int[] opaqueBoundsPx(BufferedImage img) {
-        int w = img.getWidth();
-        int h = img.getHeight();
+    private static int[] opaqueBoundsPx(int[] argb, int w, int h) {
         int minX = w;
         int minY = h;
         int maxX = -1;
         int maxY = -1;
         for (int y = 0; y < h; y++) {
+            int row = y * w;
             for (int x = 0; x < w; x++) {
-                int a = (img.getRGB(x, y) >>> 24) & 0xff;
+                int a = (argb[row + x] >>> 24) & 0xff;
                 if (a > 8) {
                     minX = Math.min(minX, x);
                     minY = Math.min(minY, y);
@@ -212,41 +541,4 @@ public final class GifFrames implements Disposable {
         }
         return new int[] { minX, minY, maxX, maxY };
     }
-
-    private static BufferedImage applyCrop(BufferedImage img, int[] crop) {
-        if (crop == null) {
-            return img;
-        }
-        int x = crop[0];
-        int y = crop[1];
-        int cw = crop[2];
-        int ch = crop[3];
-        if (x == 0 && y == 0 && cw == img.getWidth() && ch == img.getHeight()) {
-            return img;
-        }
-        if (x < 0 || y < 0 || x + cw > img.getWidth() || y + ch > img.getHeight()) {
-            return img;
-        }
-        return img.getSubimage(x, y, cw, ch);
-    }
-
-    private static Texture bufferedImageToTexture(BufferedImage image, Texture.TextureFilter filter) {
-        int width = image.getWidth();
-        int height = image.getHeight();
-        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                int argb = image.getRGB(x, y);
-                float a = ((argb >> 24) & 0xff) / 255f;
-                float r = ((argb >> 16) & 0xff) / 255f;
-                float g = ((argb >> 8) & 0xff) / 255f;
-                float b = (argb & 0xff) / 255f;
-                pixmap.drawPixel(x, y, Color.rgba8888(r, g, b, a));
-            }
-        }
-        Texture texture = new Texture(pixmap);
-        pixmap.dispose();
-        texture.setFilter(filter, filter);
-        return texture;
-    }
 }
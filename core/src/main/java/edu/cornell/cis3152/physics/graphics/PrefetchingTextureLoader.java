@@ -0,0 +1,74 @@
+package edu.cornell.cis3152.physics.graphics;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Texture loader that takes images already decoded by a {@link TextureDecodePool}.
+ *
+ * <p>It replaces the asset manager's {@link TextureLoader} for PNG textures and accepts the same
+ * {@link TextureLoader.TextureParameter}, so the directory's texture parser is unchanged. The
+ * asynchronous step claims the pool's pixmap (decoding the file itself if the pool does not have
+ * it, e.g. atlas and font pages); the synchronous step on the render thread is only the GL upload
+ * plus the filter and wrap settings.
+ */
+public class PrefetchingTextureLoader
+        extends AsynchronousAssetLoader<Texture, TextureLoader.TextureParameter> {
+    private final TextureDecodePool decoder;
+    /** The image claimed by the last {@link #loadAsync}; the manager loads one asset at a time */
+    private Pixmap pixmap;
+
+    public PrefetchingTextureLoader(FileHandleResolver resolver, TextureDecodePool decoder) {
+        super(resolver);
+        this.decoder = decoder;
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file,
+                          TextureLoader.TextureParameter parameter) {
+        pixmap = decoder.take(fileName);
+        if (pixmap == null) {
+            pixmap = new Pixmap(file);
+        }
+    }
+
+    @Override
+    public Texture loadSync(AssetManager manager, String fileName, FileHandle file,
+                            TextureLoader.TextureParameter parameter) {
+        long start = TimeUtils.nanoTime();
+        Pixmap.Format format = parameter == null ? null : parameter.format;
+        boolean mipmaps = parameter != null && parameter.genMipMaps;
+        PixmapTextureData data = new PixmapTextureData(pixmap, format, mipmaps, true);
+        pixmap = null;
+
+        Texture texture;
+        if (parameter != null && parameter.texture != null) {
+            texture = parameter.texture;
+            texture.load(data);
+        } else {
+            texture = new Texture(data);
+        }
+        if (parameter != null) {
+            texture.setFilter(parameter.minFilter, parameter.magFilter);
+            texture.setWrap(parameter.wrapU, parameter.wrapV);
+        }
+        decoder.recordUpload(fileName, TimeUtils.nanoTime() - start);
+        return texture;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file,
+                                                  TextureLoader.TextureParameter parameter) {
+        return null;
+    }
+}
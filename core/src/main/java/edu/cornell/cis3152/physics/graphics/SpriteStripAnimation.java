@@ -4,6 +4,7 @@ import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Disposable;
+import edu.cornell.cis3152.physics.BootTrace;
 
 /**
  * Simple horizontal sprite-strip animation backed by a single texture.
@@ -11,12 +12,16 @@ import com.badlogic.gdx.utils.Disposable;
 public final class SpriteStripAnimation implements Disposable {
 
     private final Texture texture;
+    /** False when the texture is shared through {@link TextureRegistry} and released there. */
+    private final boolean ownsTexture;
     private final TextureRegion[] frames;
     private final float frameDurationSeconds;
     private final float loopDurationSeconds;
 
-    private SpriteStripAnimation(Texture texture, TextureRegion[] frames, float frameDurationSeconds) {
+    private SpriteStripAnimation(Texture texture, boolean ownsTexture, TextureRegion[] frames,
+                                 float frameDurationSeconds) {
         this.texture = texture;
+        this.ownsTexture = ownsTexture;
         this.frames = frames;
         this.frameDurationSeconds = frameDurationSeconds;
         this.loopDurationSeconds = Math.max(0.001f, frames.length * frameDurationSeconds);
@@ -28,11 +33,52 @@ public final class SpriteStripAnimation implements Disposable {
         if (frameCount <= 0) {
             throw new IllegalArgumentException("frameCount must be positive");
         }
+        long start = BootTrace.start();
         Texture texture = new Texture(file);
         texture.setFilter(filter, filter);
-        if (texture.getWidth() % frameCount != 0) {
+        try {
+            SpriteStripAnimation strip = fromTexture(texture, true, frameCount, frameDurationSeconds, file.path());
+            BootTrace.span("strip", "SpriteStripAnimation.load", file, start);
+            return strip;
+        } catch (IllegalArgumentException e) {
+            texture.dispose();
+            throw e;
+        }
+    }
+
+    public static SpriteStripAnimation loadSquareStrip(FileHandle file, float frameDurationSeconds,
+                                                       Texture.TextureFilter filter) {
+        long start = BootTrace.start();
+        Texture texture = new Texture(file);
+        texture.setFilter(filter, filter);
+        try {
+            SpriteStripAnimation strip = fromTexture(texture, true, 0, frameDurationSeconds, file.path());
+            BootTrace.span("strip", "SpriteStripAnimation.load", file, start);
+            return strip;
+        } catch (IllegalArgumentException e) {
             texture.dispose();
-            throw new IllegalArgumentException("Texture width must be divisible by frameCount: " + file.path());
+            throw e;
+        }
+    }
+
+    /**
+     * Slices an already-loaded texture into a strip.
+     *
+     * @param frameCount number of frames, or {@code 0} to treat the strip as square frames
+     *                   (frame size = texture height)
+     * @param owns       whether {@link #dispose()} should dispose the texture
+     */
+    static SpriteStripAnimation fromTexture(Texture texture, boolean owns, int frameCount,
+                                            float frameDurationSeconds, String path) {
+        if (frameCount <= 0) {
+            int frameSize = texture.getHeight();
+            if (frameSize <= 0 || texture.getWidth() < frameSize || texture.getWidth() % frameSize != 0) {
+                throw new IllegalArgumentException("Expected horizontal square sprite strip: " + path);
+            }
+            frameCount = texture.getWidth() / frameSize;
+        }
+        if (texture.getWidth() % frameCount != 0) {
+            throw new IllegalArgumentException("Texture width must be divisible by frameCount: " + path);
         }
         int frameWidth = texture.getWidth() / frameCount;
         int frameHeight = texture.getHeight();
@@ -40,20 +86,12 @@ public final class SpriteStripAnimation implements Disposable {
         for (int i = 0; i < frameCount; i++) {
             frames[i] = new TextureRegion(texture, i * frameWidth, 0, frameWidth, frameHeight);
         }
-        return new SpriteStripAnimation(texture, frames, frameDurationSeconds);
+        return new SpriteStripAnimation(texture, owns, frames, frameDurationSeconds);
     }
 
-    public static SpriteStripAnimation loadSquareStrip(FileHandle file, float frameDurationSeconds,
-                                                       Texture.TextureFilter filter) {
-        Texture probe = new Texture(file);
-        int frameSize = probe.getHeight();
-        int frameCount = frameSize <= 0 ? 0 : probe.getWidth() / frameSize;
-        boolean valid = frameSize > 0 && probe.getWidth() >= frameSize && probe.getWidth() % frameSize == 0;
-        probe.dispose();
-        if (!valid) {
-            throw new IllegalArgumentException("Expected horizontal square sprite strip: " + file.path());
-        }
-        return loadHorizontalStrip(file, frameCount, filter, frameDurationSeconds);
+    /** Texture backing every frame of this strip. */
+    public Texture getTexture() {
+        return texture;
     }
 
     public int getFrameCount() {
@@ -75,6 +113,8 @@ public final class SpriteStripAnimation implements Disposable {
 
     @Override
     public void dispose() {
-        texture.dispose();
+        if (ownsTexture) {
+            texture.dispose();
+        }
     }
 }
@@ -0,0 +1,44 @@
+package edu.cornell.cis3152.physics.graphics;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectMap;
+import edu.cornell.gdiac.assets.AssetParser;
+
+/**
+ * Asset parser for the {@code "atlases"} section of an asset directory.
+ *
+ * <p>Each entry maps a key to a {@code .atlas} file written by the {@code packAtlases} build task,
+ * for example {@code "atlas-menus": "atlases/menus.atlas"}. The atlas pages load through the
+ * asset manager's own {@link TextureAtlas} loader, so they count toward loading progress like any
+ * other texture. Add this parser with {@code addParser} before calling {@code loadAssets}, and use
+ * {@link UiRegion} to look up regions by name.
+ */
+public class TextureAtlasParser implements AssetParser<TextureAtlas> {
+    /** The current atlas entry in the directory */
+    private JsonValue root;
+
+    @Override
+    public Class<TextureAtlas> getType() {
+        return TextureAtlas.class;
+    }
+
+    @Override
+    public void reset(JsonValue directory) {
+        root = directory.getChild("atlases");
+    }
+
+    @Override
+    public boolean hasNext() {
+        return root != null;
+    }
+
+    @Override
+    public void processNext(AssetManager manager, ObjectMap<String, String> keymap) {
+        String file = root.asString();
+        keymap.put(root.name(), file);
+        manager.load(file, TextureAtlas.class);
+        root = root.next();
+    }
+}
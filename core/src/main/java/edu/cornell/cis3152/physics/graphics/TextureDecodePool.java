@@ -0,0 +1,212 @@
+package edu.cornell.cis3152.physics.graphics;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.TimeUtils;
+import edu.cornell.cis3152.physics.BootTrace;
+import edu.cornell.cis3152.physics.GameLog;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Decodes the images of an asset directory on a pool of worker threads, ahead of the asset manager.
+ *
+ * <p>The asset manager loads one asset at a time on a single background thread, so an image
+ * directory decodes serially however many cores there are. {@link #prefetch(String)} reads the
+ * {@code "textures"} section of a directory up front and decodes its PNGs, in directory order, on a
+ * pool of {@code cores - 1} threads (one core is left for the render thread). A
+ * {@link PrefetchingTextureLoader} installed on the directory then takes the decoded
+ * {@link Pixmap} instead of decoding it again, so the render thread only does GL uploads.
+ *
+ * <p>At most two decodes per thread are in flight (running, or done and not yet taken), so a
+ * loader that falls behind does not pile up every image of the directory in memory. Each
+ * {@link #take} frees a slot for the next file. A file the loader asks for before its decode
+ * was started is left to the loader.
+ *
+ * <p>Each prefetched file keeps its decode, wait and upload times; {@link #report()} logs them
+ * once loading is done. Call {@link #dispose()} afterwards to stop the workers and free any
+ * pixmap that was never claimed. Thread: {@link #prefetch} and {@link #report} on the render
+ * thread; {@link #take} on the asset manager's loader thread.
+ */
+public final class TextureDecodePool implements Disposable {
+
+    /** Timings of one decoded file, in nanoseconds */
+    private static final class Timing {
+        final String file;
+        volatile long decode;
+        long wait;
+        long upload;
+
+        Timing(String file) {
+            this.file = file;
+        }
+    }
+
+    private final ExecutorService pool;
+    private final int threads;
+    private final Map<String, Future<Pixmap>> pending = new ConcurrentHashMap<>();
+    /** Files waiting for an in-flight slot, in directory order; guarded by {@code this} */
+    private final ArrayDeque<String> queued = new ArrayDeque<>();
+    /** One permit per decode that may be in flight; {@link #take} gives it back */
+    private final Semaphore slots;
+    private final Map<String, Timing> timings = new ConcurrentHashMap<>();
+    private long started;
+
+    public TextureDecodePool() {
+        threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "texture-decode");
+            thread.setDaemon(true);
+            return thread;
+        });
+        slots = new Semaphore(threads * 2);
+    }
+
+    /**
+     * Starts decoding every image in the {@code "textures"} section of an asset directory.
+     *
+     * @param directory the internal path of the directory JSON
+     */
+    public void prefetch(String directory) {
+        started = TimeUtils.nanoTime();
+        JsonValue root = new JsonReader().parse(Gdx.files.internal(directory));
+        synchronized (this) {
+            for (JsonValue entry = root.getChild("textures"); entry != null; entry = entry.next()) {
+                String file = entry.isString() ? entry.asString() : entry.getString("file", null);
+                if (file == null || timings.containsKey(file)) {
+                    continue;
+                }
+                timings.put(file, new Timing(file));
+                queued.add(file);
+            }
+        }
+        submitQueued();
+    }
+
+    /** Starts decoding queued files while there are free slots. */
+    private synchronized void submitQueued() {
+        while (!queued.isEmpty() && slots.tryAcquire()) {
+            String file = queued.poll();
+            FileHandle handle = Gdx.files.internal(file);
+            Timing timing = timings.get(file);
+            pending.put(file, pool.submit(() -> {
+                long start = TimeUtils.nanoTime();
+                Pixmap pixmap = new Pixmap(handle);
+                long end = TimeUtils.nanoTime();
+                timing.decode = end - start;
+                BootTrace.complete("decode", file, null, start, end);
+                return pixmap;
+            }));
+        }
+    }
+
+    /**
+     * Returns the decoded image for a file, waiting for its worker if it is still running.
+     *
+     * The caller owns the pixmap. Returns null if the file was never prefetched (or was already
+     * taken), in which case the caller decodes it itself.
+     *
+     * @param file the file name as written in the directory
+     *
+     * @return the decoded image, or null
+     */
+    public Pixmap take(String file) {
+        Future<Pixmap> future;
+        synchronized (this) {
+            future = pending.remove(file);
+            if (future == null) {
+                // Still queued: the loader got here first, so it decodes the file itself.
+                if (queued.remove(file)) {
+                    timings.remove(file);
+                }
+                return null;
+            }
+        }
+        long start = TimeUtils.nanoTime();
+        try {
+            Pixmap pixmap = future.get();
+            timings.get(file).wait = TimeUtils.nanoTime() - start;
+            return pixmap;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            // Let the loader decode it again and report the error the usual way.
+            GameLog.warn("TextureDecodePool", "Worker could not decode {}", file);
+            return null;
+        } finally {
+            slots.release();
+            submitQueued();
+        }
+    }
+
+    /** Records the GL upload time of a prefetched file. Called on the render thread. */
+    void recordUpload(String file, long nanos) {
+        Timing timing = timings.get(file);
+        if (timing != null) {
+            timing.upload = nanos;
+        }
+    }
+
+    /** Logs the per-file timings (at debug level) and a summary of the whole load. */
+    public void report() {
+        long wall = TimeUtils.nanoTime() - started;
+        long decode = 0;
+        long wait = 0;
+        long upload = 0;
+        boolean debug = GameLog.isDebugEnabled();
+        for (Timing timing : timings.values()) {
+            decode += timing.decode;
+            wait += timing.wait;
+            upload += timing.upload;
+            if (debug) {
+                GameLog.debug("TextureDecodePool", "{}: decode {} ms, upload {} ms",
+                        timing.file, millis(timing.decode), millis(timing.upload));
+                if (timing.wait > 0) {
+                    GameLog.debug("TextureDecodePool", "{}: loader waited {} ms", timing.file, millis(timing.wait));
+                }
+            }
+        }
+        GameLog.info("TextureDecodePool", "{} images on {} threads, wall {} ms",
+                timings.size(), threads, millis(wall));
+        GameLog.info("TextureDecodePool", "decode {} ms (cpu), loader wait {} ms, upload {} ms",
+                millis(decode), millis(wait), millis(upload));
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / 1_000_000.0);
+    }
+
+    @Override
+    public void dispose() {
+        synchronized (this) {
+            queued.clear();
+        }
+        pool.shutdown();
+        for (Future<Pixmap> future : pending.values()) {
+            if (future.cancel(false)) {
+                continue;
+            }
+            // Already running or done: wait for the pixmap so it can be freed.
+            try {
+                future.get().dispose();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                // Nothing was decoded, so there is nothing to free.
+            }
+        }
+        pending.clear();
+    }
+}
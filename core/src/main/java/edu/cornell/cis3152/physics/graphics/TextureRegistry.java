@@ -0,0 +1,198 @@
+package edu.cornell.cis3152.physics.graphics;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import edu.cornell.cis3152.physics.BootTrace;
+import edu.cornell.gdiac.graphics.SpriteSheet;
+
+import java.util.IdentityHashMap;
+
+/**
+ * Singleton that hands out shared, reference-counted textures and sprite strips for files that are
+ * not managed by an {@link edu.cornell.gdiac.assets.AssetDirectory}.
+ *
+ * <p>Use {@link #getInstance()} for the shared instance. Every {@code acquire} must be matched by a
+ * {@code release}; the GPU resource is disposed when its last reference is released, so loading the
+ * same file from several scenes (e.g. the animated title on both the loading and level select
+ * screens) costs one texture. Textures are keyed by internal path; the filter passed to the most
+ * recent acquire wins. Pass the path as a literal or a {@code static final String} constant, so
+ * that the {@code generateAssetKeys} build task can check that the file exists.
+ *
+ * <p>{@link #sheet(Texture, int, int, int)} caches one {@link SpriteSheet} layout per texture and
+ * returns copies, because frame state is per instance (each Zuko animates independently).
+ *
+ * <p>Call {@link #reportLeaks()} at shutdown to log anything still referenced, then
+ * {@link #dispose()}.
+ */
+public final class TextureRegistry implements Disposable {
+
+    /** The singleton instance of the registry */
+    private static TextureRegistry theRegistry = null;
+
+    /**
+     * Returns the singleton instance of the registry
+     *
+     * @return the singleton instance of the registry
+     */
+    public static TextureRegistry getInstance() {
+        if (theRegistry == null) {
+            theRegistry = new TextureRegistry();
+        }
+        return theRegistry;
+    }
+
+    /** A shared resource and the number of outstanding references to it */
+    private static final class Entry<T> {
+        final String key;
+        final T value;
+        int refs;
+
+        Entry(String key, T value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private final ObjectMap<String, Entry<Texture>> textures = new ObjectMap<>();
+    private final ObjectMap<String, Entry<SpriteStripAnimation>> strips = new ObjectMap<>();
+    /** Reverse lookups so callers can release by the object they were handed. */
+    private final IdentityHashMap<Texture, Entry<Texture>> textureEntries = new IdentityHashMap<>();
+    private final IdentityHashMap<SpriteStripAnimation, Entry<SpriteStripAnimation>> stripEntries =
+            new IdentityHashMap<>();
+    /** Prototype sheet layouts, keyed by the texture they slice */
+    private final IdentityHashMap<Texture, SpriteSheet> sheets = new IdentityHashMap<>();
+
+    private TextureRegistry() { }
+
+    /**
+     * Returns the shared texture for an internal file, loading it on first use.
+     *
+     * @param path   internal file path
+     * @param filter min/mag filter applied to the texture
+     */
+    public Texture acquireTexture(String path, Texture.TextureFilter filter) {
+        Entry<Texture> entry = textures.get(path);
+        if (entry == null) {
+            entry = new Entry<>(path, new Texture(Gdx.files.internal(path)));
+            textures.put(path, entry);
+            textureEntries.put(entry.value, entry);
+        }
+        entry.refs++;
+        entry.value.setFilter(filter, filter);
+        return entry.value;
+    }
+
+    /**
+     * Returns a shared horizontal sprite strip, loading its texture on first use.
+     *
+     * @param path       internal file path
+     * @param frameCount number of frames, or {@code 0} for square frames (size = texture height)
+     */
+    public SpriteStripAnimation acquireStrip(String path, int frameCount, Texture.TextureFilter filter,
+                                             float frameDurationSeconds) {
+        String key = path + "#" + frameCount + "@" + frameDurationSeconds;
+        Entry<SpriteStripAnimation> entry = strips.get(key);
+        if (entry == null) {
+            long start = BootTrace.start();
+            Texture texture = acquireTexture(path, filter);
+            SpriteStripAnimation strip;
+            try {
+                strip = SpriteStripAnimation.fromTexture(texture, false, frameCount, frameDurationSeconds, path);
+            } catch (IllegalArgumentException e) {
+                release(texture);
+                throw e;
+            }
+            BootTrace.span("strip", "SpriteStripAnimation.load", path, start);
+            entry = new Entry<>(key, strip);
+            strips.put(key, entry);
+            stripEntries.put(strip, entry);
+        } else {
+            entry.value.getTexture().setFilter(filter, filter);
+        }
+        entry.refs++;
+        return entry.value;
+    }
+
+    /**
+     * Returns a new sprite sheet over {@code texture}, copied from a cached layout so the frame
+     * regions are only computed once per texture.
+     */
+    public SpriteSheet sheet(Texture texture, int rows, int cols, int size) {
+        SpriteSheet proto = sheets.get(texture);
+        if (proto == null || proto.getSize() != size
+                || proto.getRegionWidth() != texture.getWidth() / cols
+                || proto.getRegionHeight() != texture.getHeight() / rows) {
+            proto = new SpriteSheet(texture, rows, cols, size);
+            sheets.put(texture, proto);
+        }
+        return proto.copy();
+    }
+
+    /** Releases one reference to a texture returned by {@link #acquireTexture}. */
+    public void release(Texture texture) {
+        if (texture == null) {
+            return;
+        }
+        Entry<Texture> entry = textureEntries.get(texture);
+        if (entry == null) {
+            Gdx.app.error("TextureRegistry", "Released a texture the registry does not own");
+            return;
+        }
+        if (--entry.refs <= 0) {
+            textures.remove(entry.key);
+            textureEntries.remove(texture);
+            sheets.remove(texture);
+            texture.dispose();
+        }
+    }
+
+    /** Releases one reference to a strip returned by {@link #acquireStrip}. */
+    public void release(SpriteStripAnimation strip) {
+        if (strip == null) {
+            return;
+        }
+        Entry<SpriteStripAnimation> entry = stripEntries.get(strip);
+        if (entry == null) {
+            Gdx.app.error("TextureRegistry", "Released a sprite strip the registry does not own");
+            return;
+        }
+        if (--entry.refs <= 0) {
+            strips.remove(entry.key);
+            stripEntries.remove(strip);
+            release(strip.getTexture());
+        }
+    }
+
+    /**
+     * Logs every resource that still has outstanding references.
+     *
+     * @return the number of leaked entries
+     */
+    public int reportLeaks() {
+        int leaks = 0;
+        for (Entry<SpriteStripAnimation> entry : strips.values()) {
+            Gdx.app.error("TextureRegistry", "Leaked sprite strip " + entry.key + " (" + entry.refs + " refs)");
+            leaks++;
+        }
+        for (Entry<Texture> entry : textures.values()) {
+            Gdx.app.error("TextureRegistry", "Leaked texture " + entry.key + " (" + entry.refs + " refs)");
+            leaks++;
+        }
+        return leaks;
+    }
+
+    /** Disposes everything still held, regardless of reference counts. */
+    @Override
+    public void dispose() {
+        for (Entry<Texture> entry : textures.values()) {
+            entry.value.dispose();
+        }
+        textures.clear();
+        strips.clear();
+        textureEntries.clear();
+        stripEntries.clear();
+        sheets.clear();
+    }
+}
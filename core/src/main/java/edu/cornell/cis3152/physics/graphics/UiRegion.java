@@ -0,0 +1,130 @@
+package edu.cornell.cis3152.physics.graphics;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import edu.cornell.gdiac.assets.AssetDirectory;
+
+/**
+ * Typed keys for the images packed into atlases by the {@code packAtlases} build task.
+ *
+ * <p>Each constant names an atlas and a region in it; the region name is the asset key the image
+ * had when it was a separate texture (see {@code assets/atlases.json}). Screens resolve the regions
+ * they need once, in their constructors, with {@link #get(AssetDirectory)}. Everything in an atlas
+ * shares one texture, so a menu drawn entirely from one atlas is one draw call.
+ */
+public enum UiRegion {
+    // Pause menu
+    PAUSE_RESUME(Atlas.MENUS, "shared-pause-resume"),
+    PAUSE_RESTART(Atlas.MENUS, "shared-pause-restart"),
+    PAUSE_HELP(Atlas.MENUS, "shared-pause-help"),
+    PAUSE_TEXT(Atlas.MENUS, "shared-pause-text"),
+    PAUSE_MENU(Atlas.MENUS, "shared-pause-menu"),
+
+    // Shared panel pieces
+    EXIT_BUTTON(Atlas.MENUS, "shared-exit-button-options"),
+    BORDER_WOODEN(Atlas.MENUS, "shared-border-wooden"),
+    LEFT_ARROW(Atlas.MENUS, "shared-left-arrow"),
+    RIGHT_ARROW(Atlas.MENUS, "shared-right-arrow"),
+
+    // Options overlay
+    OPTIONS_MUSIC_ICON(Atlas.MENUS, "shared-options-music-icon"),
+    OPTIONS_SOUND_ICON(Atlas.MENUS, "shared-options-sound-icon"),
+    OPTIONS_SOUND_TEXT(Atlas.MENUS, "shared-options-sound-text"),
+    OPTIONS_MUSIC_TEXT(Atlas.MENUS, "shared-options-music-text"),
+    OPTIONS_TEXT(Atlas.MENUS, "shared-options-text"),
+    SLIDER_BAR(Atlas.MENUS, "shared-slider-bar"),
+    SLIDER_TOGGLE(Atlas.MENUS, "shared-slider-toggle"),
+
+    // Win screen
+    FULL_BORDER_WOODEN(Atlas.MENUS, "shared-full-border-wooden"),
+    RIBBIT_TEXT(Atlas.MENUS, "shared-ribbit-text"),
+    WIN_RESTART(Atlas.MENUS, "shared-win-restart"),
+    WIN_LEVELS(Atlas.MENUS, "shared-win-levels"),
+    WIN_NEXT(Atlas.MENUS, "shared-win-next"),
+    WIN_FLY(Atlas.MENUS, "shared-win-fly"),
+    WIN_POLAROID(Atlas.MENUS, "shared-win-polaroid"),
+
+    // How to play
+    HOW_TO_PLAY_TEXT(Atlas.HOWTO, "how-to-play-text"),
+    CONTROL_A(Atlas.HOWTO, "control-a"),
+    CONTROL_D(Atlas.HOWTO, "control-d"),
+    CONTROL_SPACE(Atlas.HOWTO, "control-space"),
+    CONTROL_W(Atlas.HOWTO, "control-w"),
+    JUMP_TEXT(Atlas.HOWTO, "jump-text"),
+    MOVE_LEFT_TEXT(Atlas.HOWTO, "move-left-text"),
+    MOVE_RIGHT_TEXT(Atlas.HOWTO, "move-right-text"),
+    SLASH(Atlas.HOWTO, "slash"),
+    CONTROL_P(Atlas.HOWTO, "control-p"),
+    CONTROL_Q(Atlas.HOWTO, "control-q"),
+    CONTROL_TAB(Atlas.HOWTO, "control-tab"),
+    DROP_PHOTO_TEXT(Atlas.HOWTO, "drop-photo-text"),
+    PAUSE_KEY_TEXT(Atlas.HOWTO, "pause-text"),
+    TOGGLE_RANGE_TEXT(Atlas.HOWTO, "toggle-range-text"),
+    LEFT_CLICK(Atlas.HOWTO, "left-click"),
+    RIGHT_CLICK(Atlas.HOWTO, "right-click"),
+    REMOVE_PICTURE_TEXT(Atlas.HOWTO, "remove-picture-text"),
+    TAKE_PICTURE_TEXT(Atlas.HOWTO, "take-picture-text"),
+    CONTROL_1(Atlas.HOWTO, "control-1"),
+    CONTROL_2(Atlas.HOWTO, "control-2"),
+    CONTROL_3(Atlas.HOWTO, "control-3"),
+    CONTROL_4(Atlas.HOWTO, "control-4"),
+    SWITCH_INVENTORY_TEXT(Atlas.HOWTO, "switch-inventory-text"),
+    CLICK_PHOTO_TEXT(Atlas.HOWTO, "click-photo-text"),
+    STICK_PHOTO_TEXT(Atlas.HOWTO, "stick-photo-text"),
+    FLIES_TEXT(Atlas.HOWTO, "flies-text");
+
+    /** The packed atlases, by their key in the {@code "atlases"} section of assets.json */
+    public enum Atlas {
+        MENUS("atlas-menus"),
+        HOWTO("atlas-howto");
+
+        private final String key;
+
+        Atlas(String key) {
+            this.key = key;
+        }
+
+        /** Returns the asset directory key of this atlas */
+        public String key() {
+            return key;
+        }
+    }
+
+    private final Atlas atlas;
+    private final String name;
+
+    UiRegion(Atlas atlas, String name) {
+        this.atlas = atlas;
+        this.name = name;
+    }
+
+    /** Returns the atlas this region is packed into */
+    public Atlas atlas() {
+        return atlas;
+    }
+
+    /** Returns the region name inside the atlas */
+    public String regionName() {
+        return name;
+    }
+
+    /**
+     * Returns this region from a loaded asset directory.
+     *
+     * @param assets the directory the atlases were loaded into
+     *
+     * @return this region
+     * @throws IllegalStateException if the atlas is not loaded or does not contain the region
+     */
+    public TextureRegion get(AssetDirectory assets) {
+        TextureAtlas pack = assets.getEntry(atlas.key, TextureAtlas.class);
+        if (pack == null) {
+            throw new IllegalStateException("Atlas not loaded: " + atlas.key);
+        }
+        TextureRegion region = pack.findRegion(name);
+        if (region == null) {
+            throw new IllegalStateException("Region " + name + " missing from " + atlas.key);
+        }
+        return region;
+    }
+}
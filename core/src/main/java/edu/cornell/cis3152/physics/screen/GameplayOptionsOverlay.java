@@ -8,11 +8,14 @@ import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import edu.cornell.cis3152.physics.AssetKeys;
 import edu.cornell.cis3152.physics.CanvasRender;
 import edu.cornell.cis3152.physics.GameAudio;
+import edu.cornell.cis3152.physics.graphics.UiRegion;
 import edu.cornell.gdiac.assets.AssetDirectory;
 import edu.cornell.gdiac.graphics.SpriteBatch;
 import edu.cornell.gdiac.graphics.TextAlign;
@@ -38,17 +41,17 @@ public class GameplayOptionsOverlay {
     private final OrthographicCamera camera;
     private final Texture pixel;
 
-    private final Texture sliderBarTex;
-    private final Texture sliderToggleTex;
+    private final TextureRegion sliderBarTex;
+    private final TextureRegion sliderToggleTex;
 
-    private final Texture musicIcon;
-    private final Texture soundIcon;
-    private final Texture musicText;
-    private final Texture soundText;
-    private final Texture exitButton;
+    private final TextureRegion musicIcon;
+    private final TextureRegion soundIcon;
+    private final TextureRegion musicText;
+    private final TextureRegion soundText;
+    private final TextureRegion exitButton;
 
-    private final Texture optionsTitle;
-    private final Texture borderWooden;
+    private final TextureRegion optionsTitle;
+    private final TextureRegion borderWooden;
 
     private final BitmapFont font;
     private final TextLayout textLayout = new TextLayout();
@@ -64,20 +67,16 @@ public class GameplayOptionsOverlay {
         this.batch = batch;
         this.viewport = viewport;
         this.camera = new OrthographicCamera();
-        this.font = assets.getEntry("shared-retro", BitmapFont.class);
-        this.sliderBarTex = new Texture(Gdx.files.internal("sliderbar.png"));
-        this.sliderBarTex.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-        this.sliderToggleTex = new Texture(Gdx.files.internal("slidertoggle.png"));
-        this.sliderToggleTex.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-        this.musicIcon = assets.getEntry("shared-options-music-icon", Texture.class);
-        this.soundIcon = assets.getEntry("shared-options-sound-icon", Texture.class);
-        this.musicText = assets.getEntry("shared-options-music-text", Texture.class);
-        this.soundText = assets.getEntry("shared-options-sound-text", Texture.class);
-        this.exitButton = assets.getEntry("shared-exit-button-options", Texture.class);
-        this.optionsTitle = assets.getEntry("shared-options-text", Texture.class);
-        this.borderWooden = assets.getEntry("shared-border-wooden", Texture.class);
-        this.exitButton.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-        this.borderWooden.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        this.font = AssetKeys.Fonts.SHARED_RETRO.get(assets);
+        this.sliderBarTex = UiRegion.SLIDER_BAR.get(assets);
+        this.sliderToggleTex = UiRegion.SLIDER_TOGGLE.get(assets);
+        this.musicIcon = UiRegion.OPTIONS_MUSIC_ICON.get(assets);
+        this.soundIcon = UiRegion.OPTIONS_SOUND_ICON.get(assets);
+        this.musicText = UiRegion.OPTIONS_MUSIC_TEXT.get(assets);
+        this.soundText = UiRegion.OPTIONS_SOUND_TEXT.get(assets);
+        this.exitButton = UiRegion.EXIT_BUTTON.get(assets);
+        this.optionsTitle = UiRegion.OPTIONS_TEXT.get(assets);
+        this.borderWooden = UiRegion.BORDER_WOODEN.get(assets);
 
         Pixmap pm = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
 
@@ -164,8 +163,6 @@ public class GameplayOptionsOverlay {
 
     public void dispose() {
         pixel.dispose();
-        sliderBarTex.dispose();
-        sliderToggleTex.dispose();
     }
 
     private Rectangle getPanelBounds() {
@@ -177,7 +174,7 @@ public class GameplayOptionsOverlay {
     private Rectangle getExitBounds() {
         Rectangle panel = getPanelBounds();
         float ew = panel.width * EXIT_W_FRAC;
-        float eh = (exitButton != null) ? ew * exitButton.getHeight() / Math.max(1, exitButton.getWidth()) : ew;
+        float eh = (exitButton != null) ? ew * exitButton.getRegionHeight() / Math.max(1, exitButton.getRegionWidth()) : ew;
         float ex = panel.x + panel.width - ew * 1.3f;
         float ey = panel.y + panel.height - eh * 0.9f;
         return new Rectangle(ex, ey, ew, eh);
@@ -217,9 +214,9 @@ public class GameplayOptionsOverlay {
         }
         if (optionsTitle != null) {
             float maxW = panel.width * 0.45f;
-            float scale = maxW / optionsTitle.getWidth() * 0.8f;
-            float tw = optionsTitle.getWidth() * scale;
-            float th = optionsTitle.getHeight() * scale;
+            float scale = maxW / optionsTitle.getRegionWidth() * 0.8f;
+            float tw = optionsTitle.getRegionWidth() * scale;
+            float th = optionsTitle.getRegionHeight() * scale;
             batch.draw(optionsTitle, panel.x + (panel.width - tw) / 2f, panel.y + panel.height * 0.72f, tw, th);
         }
         viewport.screenToCanvas(Gdx.input.getX(), Gdx.input.getY(), pointer);
@@ -230,7 +227,7 @@ public class GameplayOptionsOverlay {
         drawOptionPuck(soundIcon, soundIconRect, soundIconRect.contains(pointer.x, pointer.y), Color.WHITE);
         if (soundText != null) {
             float th = iconSize * 0.45f;
-            float tw = soundText.getWidth() * (th / soundText.getHeight());
+            float tw = soundText.getRegionWidth() * (th / soundText.getRegionHeight());
             batch.setColor(Color.WHITE);
             batch.draw(soundText, soundIconRect.x + iconSize + 8f * UI, soundIconRect.y + (iconSize - th) / 2f, tw, th);
         }
@@ -240,7 +237,7 @@ public class GameplayOptionsOverlay {
         drawOptionPuck(musicIcon, musicIconRect, musicIconRect.contains(pointer.x, pointer.y), Color.WHITE);
         if (musicText != null) {
             float th = iconSize * 0.45f;
-            float tw = musicText.getWidth() * (th / musicText.getHeight());
+            float tw = musicText.getRegionWidth() * (th / musicText.getRegionHeight());
             batch.setColor(Color.WHITE);
             batch.draw(musicText, musicIconRect.x + iconSize + 8f * UI, musicIconRect.y + (iconSize - th) / 2f, tw, th);
         }
@@ -278,7 +275,7 @@ public class GameplayOptionsOverlay {
         batch.setColor(Color.WHITE);
     }
 
-    private void drawOptionPuck(Texture tex, Rectangle bounds, boolean hovered, Color baseTint) {
+    private void drawOptionPuck(TextureRegion tex, Rectangle bounds, boolean hovered, Color baseTint) {
         if (tex == null) return;
         float tScale = hovered ? 1f : MENU_MAIN_IDLE_SCALE;
         float dw = bounds.width * tScale;
@@ -7,9 +7,14 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
 import edu.cornell.cis3152.physics.CanvasRender;
+import edu.cornell.cis3152.physics.FrameScheduler;
+import edu.cornell.cis3152.physics.graphics.UiRegion;
 import edu.cornell.gdiac.assets.AssetDirectory;
 import edu.cornell.gdiac.graphics.SpriteBatch;
 
@@ -41,50 +46,50 @@ public class HowToPlayScene implements Screen {
     private final Texture pixel;
 
     // Shared UI
-    private final Texture borderWooden;
-    private final Texture howToPlayText;
-    private final Texture leftArrow;
-    private final Texture rightArrow;
-    private final Texture exitButton;
+    private final TextureRegion borderWooden;
+    private final TextureRegion howToPlayText;
+    private final TextureRegion leftArrow;
+    private final TextureRegion rightArrow;
+    private final TextureRegion exitButton;
 
     // Page 1 textures
-    private final Texture p1ControlA;
-    private final Texture p1ControlD;
-    private final Texture p1ControlSpace;
-    private final Texture p1ControlW;
-    private final Texture p1JumpText;
-    private final Texture p1MoveLeftText;
-    private final Texture p1MoveRightText;
-    private final Texture p1Slash;
+    private final TextureRegion p1ControlA;
+    private final TextureRegion p1ControlD;
+    private final TextureRegion p1ControlSpace;
+    private final TextureRegion p1ControlW;
+    private final TextureRegion p1JumpText;
+    private final TextureRegion p1MoveLeftText;
+    private final TextureRegion p1MoveRightText;
+    private final TextureRegion p1Slash;
 
     // Page 2 textures
-    private final Texture p2ControlP;
-    private final Texture p2ControlQ;
-    private final Texture p2ControlTab;
-    private final Texture p2DropPhotoText;
-    private final Texture p2PauseText;
-    private final Texture p2ToggleRangeText;
+    private final TextureRegion p2ControlP;
+    private final TextureRegion p2ControlQ;
+    private final TextureRegion p2ControlTab;
+    private final TextureRegion p2DropPhotoText;
+    private final TextureRegion p2PauseText;
+    private final TextureRegion p2ToggleRangeText;
     // Page 3 textures
-    private final Texture p3LeftClick;
-    private final Texture p3RightClick;
-    private final Texture p3RemovePictureText;
-    private final Texture p3TakePictureText;
+    private final TextureRegion p3LeftClick;
+    private final TextureRegion p3RightClick;
+    private final TextureRegion p3RemovePictureText;
+    private final TextureRegion p3TakePictureText;
 
     // Page 4 textures
-    private final Texture p4Control1;
-    private final Texture p4Control2;
-    private final Texture p4Control3;
-    private final Texture p4Control4;
-    private final Texture p4SwitchInventoryText;
+    private final TextureRegion p4Control1;
+    private final TextureRegion p4Control2;
+    private final TextureRegion p4Control3;
+    private final TextureRegion p4Control4;
+    private final TextureRegion p4SwitchInventoryText;
 
     // Page 5 textures
-    private final Texture p5ClickPhotoText;
+    private final TextureRegion p5ClickPhotoText;
 
     // Page 6 textures
-    private final Texture p6StickPhotoText;
+    private final TextureRegion p6StickPhotoText;
 
     // Page 7 textures
-    private final Texture p7FliesText;
+    private final TextureRegion p7FliesText;
 
     private boolean active;
     private boolean exiting;
@@ -95,6 +100,25 @@ public class HowToPlayScene implements Screen {
     private int width;
     private int height;
 
+    private static final Color HOVER_TINT = new Color(0.75f, 0.75f, 0.75f, 1f);
+    private static final Color PAUSE_DIM_TINT = new Color(0f, 0f, 0f, 0.55f);
+    private static final Color MENU_DIM_TINT = new Color(0.2f, 0.46f, 0.46f, 0.1f);
+
+    // Layout slots
+    private static final int SLOT_PANEL = 0;
+    private static final int SLOT_CONTENT = 1;
+    private static final int SLOT_TITLE = 2;
+    private static final int SLOT_EXIT = 3;
+    private static final int SLOT_LEFT = 4;
+    private static final int SLOT_RIGHT = 5;
+    private static final int SLOT_COUNT = 6;
+    private final MenuLayout layout = new MenuLayout(SLOT_COUNT);
+    /** Retained page contents: textures and their x, y, w, h quads, recorded once per layout */
+    private final Array<TextureRegion>[] pageTextures;
+    private final FloatArray[] pageQuads;
+    /** Page being recorded by {@link #draw(TextureRegion, float, float, float, float)}, or -1 to draw */
+    private int recordingPage = -1;
+
     private boolean leftPrev;
     private boolean rightPrev;
     private boolean escapePrev;
@@ -109,6 +133,14 @@ public class HowToPlayScene implements Screen {
         this.viewport = viewport;
         this.batch = batch;
         this.camera = new OrthographicCamera();
+        @SuppressWarnings("unchecked")
+        Array<TextureRegion>[] textures = new Array[TOTAL_PAGES];
+        pageTextures = textures;
+        pageQuads = new FloatArray[TOTAL_PAGES];
+        for (int i = 0; i < TOTAL_PAGES; i++) {
+            pageTextures[i] = new Array<>(false, 8);
+            pageQuads[i] = new FloatArray(false, 32);
+        }
 
         Pixmap pm = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
         pm.setColor(Color.WHITE);
@@ -117,58 +149,51 @@ public class HowToPlayScene implements Screen {
         pm.dispose();
 
         // Shared UI
-        borderWooden = assets.getEntry("shared-border-wooden", Texture.class);
-        howToPlayText = assets.getEntry("how-to-play-text", Texture.class);
-        leftArrow = assets.getEntry("shared-left-arrow", Texture.class);
-        rightArrow = assets.getEntry("shared-right-arrow", Texture.class);
-        exitButton = assets.getEntry("shared-exit-button-options", Texture.class);
+        borderWooden = UiRegion.BORDER_WOODEN.get(assets);
+        howToPlayText = UiRegion.HOW_TO_PLAY_TEXT.get(assets);
+        leftArrow = UiRegion.LEFT_ARROW.get(assets);
+        rightArrow = UiRegion.RIGHT_ARROW.get(assets);
+        exitButton = UiRegion.EXIT_BUTTON.get(assets);
 
         // Page 1
-        p1ControlA = assets.getEntry("control-a", Texture.class);
-        p1ControlD = assets.getEntry("control-d", Texture.class);
-        p1ControlSpace = assets.getEntry("control-space", Texture.class);
-        p1ControlW = assets.getEntry("control-w", Texture.class);
-        p1JumpText = assets.getEntry("jump-text", Texture.class);
-        p1MoveLeftText = assets.getEntry("move-left-text", Texture.class);
-        p1MoveRightText = assets.getEntry("move-right-text", Texture.class);
-        p1Slash = assets.getEntry("slash", Texture.class);
+        p1ControlA = UiRegion.CONTROL_A.get(assets);
+        p1ControlD = UiRegion.CONTROL_D.get(assets);
+        p1ControlSpace = UiRegion.CONTROL_SPACE.get(assets);
+        p1ControlW = UiRegion.CONTROL_W.get(assets);
+        p1JumpText = UiRegion.JUMP_TEXT.get(assets);
+        p1MoveLeftText = UiRegion.MOVE_LEFT_TEXT.get(assets);
+        p1MoveRightText = UiRegion.MOVE_RIGHT_TEXT.get(assets);
+        p1Slash = UiRegion.SLASH.get(assets);
 
         // Page 2
-        p2ControlP = assets.getEntry("control-p", Texture.class);
-        p2ControlQ = assets.getEntry("control-q", Texture.class);
-        p2ControlTab = assets.getEntry("control-tab", Texture.class);
-        p2DropPhotoText = assets.getEntry("drop-photo-text", Texture.class);
-        p2PauseText = assets.getEntry("pause-text", Texture.class);
-        p2ToggleRangeText = assets.getEntry("toggle-range-text", Texture.class);
+        p2ControlP = UiRegion.CONTROL_P.get(assets);
+        p2ControlQ = UiRegion.CONTROL_Q.get(assets);
+        p2ControlTab = UiRegion.CONTROL_TAB.get(assets);
+        p2DropPhotoText = UiRegion.DROP_PHOTO_TEXT.get(assets);
+        p2PauseText = UiRegion.PAUSE_KEY_TEXT.get(assets);
+        p2ToggleRangeText = UiRegion.TOGGLE_RANGE_TEXT.get(assets);
 
         // Page 3
-        p3LeftClick = assets.getEntry("left-click", Texture.class);
-        p3RightClick = assets.getEntry("right-click", Texture.class);
-        p3RemovePictureText = assets.getEntry("remove-picture-text", Texture.class);
-        p3TakePictureText = assets.getEntry("take-picture-text", Texture.class);
+        p3LeftClick = UiRegion.LEFT_CLICK.get(assets);
+        p3RightClick = UiRegion.RIGHT_CLICK.get(assets);
+        p3RemovePictureText = UiRegion.REMOVE_PICTURE_TEXT.get(assets);
+        p3TakePictureText = UiRegion.TAKE_PICTURE_TEXT.get(assets);
 
         // Page 4
-        p4Control1 = assets.getEntry("control-1", Texture.class);
-        p4Control2 = assets.getEntry("control-2", Texture.class);
-        p4Control3 = assets.getEntry("control-3", Texture.class);
-        p4Control4 = assets.getEntry("control-4", Texture.class);
-        p4SwitchInventoryText = assets.getEntry("switch-inventory-text", Texture.class);
+        p4Control1 = UiRegion.CONTROL_1.get(assets);
+        p4Control2 = UiRegion.CONTROL_2.get(assets);
+        p4Control3 = UiRegion.CONTROL_3.get(assets);
+        p4Control4 = UiRegion.CONTROL_4.get(assets);
+        p4SwitchInventoryText = UiRegion.SWITCH_INVENTORY_TEXT.get(assets);
 
         // Page 5
-        p5ClickPhotoText = assets.getEntry("click-photo-text", Texture.class);
+        p5ClickPhotoText = UiRegion.CLICK_PHOTO_TEXT.get(assets);
 
         // Page 6
-        p6StickPhotoText = assets.getEntry("stick-photo-text", Texture.class);
+        p6StickPhotoText = UiRegion.STICK_PHOTO_TEXT.get(assets);
 
         // Page 7
-        p7FliesText = assets.getEntry("flies-text", Texture.class);
-
-        setNearestFilter(borderWooden, howToPlayText, leftArrow, rightArrow, exitButton, p1ControlA, p1ControlD,
-                p1ControlSpace, p1ControlW, p1JumpText, p1MoveLeftText, p1MoveRightText, p1Slash, p2ControlP,
-                p2ControlQ, p2ControlTab, p2DropPhotoText, p2PauseText, p2ToggleRangeText, p3LeftClick, p3RightClick,
-                p3RemovePictureText, p3TakePictureText, p4Control1, p4Control2, p4Control3, p4Control4, p4SwitchInventoryText,
-                p5ClickPhotoText, p6StickPhotoText, p7FliesText
-        );
+        p7FliesText = UiRegion.FLIES_TEXT.get(assets);
 
         resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
     }
@@ -211,6 +236,8 @@ public class HowToPlayScene implements Screen {
         if (!active) return;
         update();
         draw();
+        // Nothing on these pages moves; redraw only on input.
+        FrameScheduler.getInstance().allowIdle(FrameScheduler.FOREVER);
     }
 
     @Override
@@ -218,6 +245,62 @@ public class HowToPlayScene implements Screen {
         this.width = (int) viewport.getWidth();
         this.height = (int) viewport.getHeight();
         camera.setToOrtho(false, this.width, this.height);
+        layout();
+    }
+
+    /**
+     * Recomputes the retained layout if the canvas size changed: the panel, buttons and title,
+     * plus every page's quads, which the page methods record instead of drawing.
+     */
+    private void layout() {
+        if (!layout.isStale(width, height)) {
+            return;
+        }
+        float pw = width * PANEL_W_FRAC;
+        float ph = height * PANEL_H_FRAC;
+        Rectangle panel = layout.set(SLOT_PANEL, (width - pw) / 2f, (height - ph) / 2f, pw, ph);
+
+        float top = panel.y + panel.height * (1f - CONTENT_TOP_FRAC);
+        float bot = panel.y + panel.height * (1f - CONTENT_BOT_FRAC);
+        Rectangle content = layout.set(SLOT_CONTENT, panel.x, bot, panel.width, top - bot);
+
+        if (howToPlayText != null) {
+            float maxW = panel.width * TITLE_MAX_W_FRAC;
+            float scale = maxW / howToPlayText.getRegionWidth();
+            float tw = howToPlayText.getRegionWidth() * scale;
+            float th = howToPlayText.getRegionHeight() * scale;
+            float tx = panel.x + (panel.width - tw) / 2f;
+            float ty = panel.y + panel.height - panel.height * TITLE_TOP_INSET_FRAC - th;
+            layout.set(SLOT_TITLE, tx, ty, tw, th);
+        }
+
+        float aw = panel.width * ARROW_W_FRAC * 1.5f;
+        float lh = (leftArrow != null) ? aw * leftArrow.getRegionHeight() / Math.max(1, leftArrow.getRegionWidth()) : aw;
+        layout.set(SLOT_LEFT, panel.x + aw * 1.7f, panel.y + panel.height * ARROW_Y_FRAC - lh / 2f, aw, lh);
+        float rh = (rightArrow != null) ? aw * rightArrow.getRegionHeight() / Math.max(1, rightArrow.getRegionWidth()) : aw;
+        layout.set(SLOT_RIGHT, panel.x + panel.width - aw * 2.7f, panel.y + panel.height * ARROW_Y_FRAC - rh / 2f, aw, rh);
+
+        float ew = panel.width * EXIT_W_FRAC;
+        float eh = (exitButton != null) ? ew * exitButton.getRegionHeight() / Math.max(1, exitButton.getRegionWidth()) : ew;
+        layout.set(SLOT_EXIT, panel.x + panel.width - ew * 1.3f, panel.y + panel.height - eh * 0.9f, ew, eh);
+
+        for (int page = 0; page < TOTAL_PAGES; page++) {
+            pageTextures[page].clear();
+            pageQuads[page].clear();
+            recordingPage = page;
+            switch (page) {
+                case 0: drawPage1(panel, content); break;
+                case 1: drawPage2(panel, content); break;
+                case 2: drawPage3(panel, content); break;
+                case 3: drawPage4(panel, content); break;
+                case 4: drawSingleCentredImage(panel, content, p5ClickPhotoText);  break;
+                case 5: drawSingleCentredImage(panel, content, p6StickPhotoText);  break;
+                case 6: drawSingleCentredImage(panel, content, p7FliesText);       break;
+                default: break;
+            }
+        }
+        recordingPage = -1;
+        layout.validate(width, height);
     }
 
     @Override
@@ -238,11 +321,11 @@ public class HowToPlayScene implements Screen {
         if (escapePressed && !escapePrev) exiting = true;
 
         if (clickPressed && !clickPrev) {
-            if (getExitBounds().contains(pointer.x, pointer.y)) {
+            if (layout.contains(SLOT_EXIT, pointer.x, pointer.y)) {
                 exiting = true;
-            } else if (getLeftArrowBounds().contains(pointer.x, pointer.y)) {
+            } else if (layout.contains(SLOT_LEFT, pointer.x, pointer.y)) {
                 previousPage();
-            } else if (getRightArrowBounds().contains(pointer.x, pointer.y)) {
+            } else if (layout.contains(SLOT_RIGHT, pointer.x, pointer.y)) {
                 nextPage();
             }
         }
@@ -262,31 +345,19 @@ public class HowToPlayScene implements Screen {
         batch.begin(camera);
 
         if (origin == Origin.PAUSE_MENU) {
-            batch.setColor(new Color(0f, 0f, 0f, 0.55f));
+            batch.setColor(PAUSE_DIM_TINT);
         } else {
-            batch.setColor(new Color(0.2f, 0.46f, 0.46f, 0.1f));
-
+            batch.setColor(MENU_DIM_TINT);
         }
         batch.draw(pixel, 0, 0, width, height);
 
         batch.setColor(Color.WHITE);
 
-        Rectangle panel = getPanelBounds();
+        Rectangle panel = layout.get(SLOT_PANEL);
         batch.draw(borderWooden, panel.x, panel.y, panel.width, panel.height);
 
-        drawTitleImage(panel);
-
-        Rectangle content = getContentArea(panel);
-        switch (currentPage) {
-            case 0: drawPage1(panel, content); break;
-            case 1: drawPage2(panel, content); break;
-            case 2: drawPage3(panel, content); break;
-            case 3: drawPage4(panel, content); break;
-            case 4: drawSingleCentredImage(panel, content, p5ClickPhotoText);  break;
-            case 5: drawSingleCentredImage(panel, content, p6StickPhotoText);  break;
-            case 6: drawSingleCentredImage(panel, content, p7FliesText);       break;
-            default: break;
-        }
+        drawTitleImage();
+        drawPage(currentPage);
 
         drawArrows();
 
@@ -297,16 +368,22 @@ public class HowToPlayScene implements Screen {
         viewport.reset();
     }
 
-    private void drawTitleImage(Rectangle panel) {
+    private void drawTitleImage() {
         if (howToPlayText == null) return;
-        float maxW = panel.width * TITLE_MAX_W_FRAC;
-        float scale = maxW / howToPlayText.getWidth();
-        float tw = howToPlayText.getWidth() * scale;
-        float th = howToPlayText.getHeight() * scale;
-        float tx = panel.x + (panel.width - tw) / 2f;
-        float ty = panel.y + panel.height - panel.height * TITLE_TOP_INSET_FRAC - th;
+        Rectangle t = layout.get(SLOT_TITLE);
         batch.setColor(Color.WHITE);
-        batch.draw(howToPlayText, tx, ty, tw, th);
+        batch.draw(howToPlayText, t.x, t.y, t.width, t.height);
+    }
+
+    /** Replays the quads recorded for a page by {@link #layout()}. */
+    private void drawPage(int page) {
+        Array<TextureRegion> textures = pageTextures[page];
+        float[] quads = pageQuads[page].items;
+        batch.setColor(Color.WHITE);
+        for (int i = 0; i < textures.size; i++) {
+            int q = i * 4;
+            batch.draw(textures.get(i), quads[q], quads[q + 1], quads[q + 2], quads[q + 3]);
+        }
     }
 
     private void drawPage1(Rectangle panel, Rectangle content) {
@@ -357,7 +434,7 @@ public class HowToPlayScene implements Screen {
         draw(p1JumpText, cx, rowY + (rowH - sJump.y) / 2f, sJump.x, sJump.y);
     }
 
-    private void drawKeyRow_single(Texture key, Texture label, Rectangle panel, float rowY, float keyMaxW, float gap, float rowH) {
+    private void drawKeyRow_single(TextureRegion key, TextureRegion label, Rectangle panel, float rowY, float keyMaxW, float gap, float rowH) {
         Vector2 sk = scaleToWidth(key, keyMaxW);
         Vector2 sl = scaleToHeight(label, rowH * 0.40f);
 
@@ -440,12 +517,12 @@ public class HowToPlayScene implements Screen {
         draw(p4SwitchInventoryText, labelX, labelY, sLabel.x, sLabel.y);
     }
 
-    private void drawSingleCentredImage(Rectangle panel, Rectangle content, Texture image) {
+    private void drawSingleCentredImage(Rectangle panel, Rectangle content, TextureRegion image) {
         if (image == null) return;
         float maxW = panel.width * 0.65f;
-        float scale = maxW / image.getWidth();
-        float iw = image.getWidth() * scale * 0.7f;
-        float ih = image.getHeight() * scale * 0.7f;
+        float scale = maxW / image.getRegionWidth();
+        float iw = image.getRegionWidth() * scale * 0.7f;
+        float ih = image.getRegionHeight() * scale * 0.7f;
         float ix = panel.x + (panel.width - iw) / 2f;
         float iy = content.y + (content.height - ih) / 2f + panel.height * 0.05f;;
         draw(image, ix, iy, iw, ih);
@@ -455,16 +532,16 @@ public class HowToPlayScene implements Screen {
         viewport.screenToCanvas(Gdx.input.getX(), Gdx.input.getY(), pointer);
 
         if (currentPage > 0 && leftArrow != null) {
-            Rectangle lb = getLeftArrowBounds();
+            Rectangle lb = layout.get(SLOT_LEFT);
             boolean hov = lb.contains(pointer.x, pointer.y);
-            batch.setColor(hov ? new Color(0.75f, 0.75f, 0.75f, 1f) : Color.WHITE);
+            batch.setColor(hov ? HOVER_TINT : Color.WHITE);
             batch.draw(leftArrow, lb.x, lb.y, lb.width, lb.height);
         }
 
         if (currentPage < TOTAL_PAGES - 1 && rightArrow != null) {
-            Rectangle rb = getRightArrowBounds();
+            Rectangle rb = layout.get(SLOT_RIGHT);
             boolean hov = rb.contains(pointer.x, pointer.y);
-            batch.setColor(hov ? new Color(0.75f, 0.75f, 0.75f, 1f) : Color.WHITE);
+            batch.setColor(hov ? HOVER_TINT : Color.WHITE);
             batch.draw(rightArrow, rb.x, rb.y, rb.width, rb.height);
         }
 
@@ -473,75 +550,35 @@ public class HowToPlayScene implements Screen {
 
     private void drawExit() {
         if (exitButton == null) return;
-        Rectangle eb = getExitBounds();
+        Rectangle eb = layout.get(SLOT_EXIT);
         boolean hov = eb.contains(pointer.x, pointer.y);
-        batch.setColor(hov ? new Color(0.75f, 0.75f, 0.75f, 1f) : Color.WHITE);
+        batch.setColor(hov ? HOVER_TINT : Color.WHITE);
         batch.draw(exitButton, eb.x, eb.y, eb.width, eb.height);
         batch.setColor(Color.WHITE);
     }
 
-    private Rectangle getPanelBounds() {
-        float pw = width * PANEL_W_FRAC;
-        float ph = height * PANEL_H_FRAC;
-        return new Rectangle((width - pw) / 2f, (height - ph) / 2f, pw, ph);
-    }
-
-    private Rectangle getContentArea(Rectangle panel) {
-        float top = panel.y + panel.height * (1f - CONTENT_TOP_FRAC);
-        float bot = panel.y + panel.height * (1f - CONTENT_BOT_FRAC);
-        return new Rectangle(panel.x, bot, panel.width, top - bot);
-    }
-
-    private Rectangle getLeftArrowBounds() {
-        Rectangle panel = getPanelBounds();
-        float aw = panel.width * ARROW_W_FRAC * 1.5f;
-        float ah = (leftArrow != null) ? aw * leftArrow.getHeight() / Math.max(1, leftArrow.getWidth()) : aw;
-        float ax = panel.x + aw * 1.7f;
-        float ay = panel.y + panel.height * ARROW_Y_FRAC - ah / 2f;
-        return new Rectangle(ax, ay, aw, ah);
-    }
-
-    private Rectangle getRightArrowBounds() {
-        Rectangle panel = getPanelBounds();
-        float aw = panel.width * ARROW_W_FRAC * 1.5f;
-        float ah = (rightArrow != null) ? aw * rightArrow.getHeight() / Math.max(1, rightArrow.getWidth()) : aw;
-        float ax = panel.x + panel.width - aw * 2.7f;
-        float ay = panel.y + panel.height * ARROW_Y_FRAC - ah / 2f;
-        return new Rectangle(ax, ay, aw, ah);
-    }
-
-    private Rectangle getExitBounds() {
-        Rectangle panel = getPanelBounds();
-        float ew = panel.width * EXIT_W_FRAC;
-        float eh = (exitButton != null) ? ew * exitButton.getHeight() / Math.max(1, exitButton.getWidth()) : ew;
-        float ex = panel.x + panel.width - ew * 1.3f;
-        float ey = panel.y + panel.height - eh * 0.9f;
-        return new Rectangle(ex, ey, ew, eh);
-    }
-
-    private Vector2 scaleToWidth(Texture t, float targetW) {
+    private Vector2 scaleToWidth(TextureRegion t, float targetW) {
         if (t == null) return new Vector2(targetW, targetW);
-        float s = targetW / t.getWidth();
-        return new Vector2(targetW, t.getHeight() * s);
+        float s = targetW / t.getRegionWidth();
+        return new Vector2(targetW, t.getRegionHeight() * s);
     }
 
-    private Vector2 scaleToHeight(Texture t, float targetH) {
+    private Vector2 scaleToHeight(TextureRegion t, float targetH) {
         if (t == null) return new Vector2(targetH, targetH);
-        float s = targetH / t.getHeight();
-        return new Vector2(t.getWidth() * s, targetH);
+        float s = targetH / t.getRegionHeight();
+        return new Vector2(t.getRegionWidth() * s, targetH);
     }
 
-    private void draw(Texture t, float x, float y, float w, float h) {
+    /** Draws a page quad, or records it while {@link #layout()} is building the page. */
+    private void draw(TextureRegion t, float x, float y, float w, float h) {
         if (t == null) return;
+        if (recordingPage >= 0) {
+            pageTextures[recordingPage].add(t);
+            pageQuads[recordingPage].addAll(x, y, w, h);
+            return;
+        }
         batch.setColor(Color.WHITE);
         batch.draw(t, x, y, w, h);
     }
 
-    private static void setNearestFilter(Texture... textures) {
-        for (Texture t : textures) {
-            if (t != null) {
-                t.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-            }
-        }
-    }
 }
\ No newline at end of file
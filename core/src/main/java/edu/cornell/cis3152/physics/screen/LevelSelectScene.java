@@ -14,8 +14,13 @@ import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.ScreenUtils;
+import edu.cornell.cis3152.physics.AssetKeys;
+import edu.cornell.cis3152.physics.BootTrace;
 import edu.cornell.cis3152.physics.CanvasRender;
+import edu.cornell.cis3152.physics.FrameScheduler;
 import edu.cornell.cis3152.physics.graphics.SpriteStripAnimation;
+import edu.cornell.cis3152.physics.graphics.TextureRegistry;
+import edu.cornell.cis3152.physics.graphics.UiRegion;
 import edu.cornell.cis3152.physics.screen.levels.LevelController;
 import edu.cornell.gdiac.assets.AssetDirectory;
 import edu.cornell.gdiac.graphics.SpriteBatch;
@@ -42,8 +47,8 @@ public class LevelSelectScene implements Screen {
     private final Texture lilyTexture;
     private final Texture helpButtonTexture;
     private final Texture homeButtonTexture;
-    private final Texture leftArrow;
-    private final Texture rightArrow;
+    private final TextureRegion leftArrow;
+    private final TextureRegion rightArrow;
     /** Title screen–style control; returns to main menu */
     private final Texture menuButtonTexture;
     /** Solid pixel used to draw button rectangles */
@@ -96,8 +101,20 @@ public class LevelSelectScene implements Screen {
 
     private final TextLayout arrowLayout;
 
-    private Rectangle leftArrowBounds;
-    private Rectangle rightArrowBounds;
+    // Layout slots
+    private static final int SLOT_HOME = 0;
+    private static final int SLOT_HELP = 1;
+    private static final int SLOT_LEFT_ARROW = 2;
+    private static final int SLOT_RIGHT_ARROW = 3;
+    private static final int SLOT_TITLE = 4;
+    private static final int SLOT_COUNT = 5;
+    private final MenuLayout layout = new MenuLayout(SLOT_COUNT);
+    /** Lily pad centers per level, computed once per resize */
+    private final float[] levelX;
+    private final float[] levelY;
+    private float lilySizeSelected;
+    private float lilySizeNormal;
+    private float hoverRadius;
     private float titleAnimTime;
 
     private static final float ARROW_SIZE_REF = 70f;
@@ -116,10 +133,14 @@ public class LevelSelectScene implements Screen {
     private static final float MENU_BTN_RIGHT_MARGIN_REF = 16f;
     private static final float MENU_IDLE_SCALE = 0.92f;
     private static final Color MENU_HOVER_TINT = new Color(0.52f, 0.52f, 0.55f, 1f);
+    private static final Color LILY_IDLE_TINT = new Color(0.82f, 0.82f, 0.82f, 1.0f);
     private static final float LILY_ARCH_OFFSET = 5f;
     private static final float DIGIT_HEIGHT_RATIO = 0.3f;  // digit height as fraction of lily size
     private static final float DIGIT_GAP_RATIO    = 0.025f;  // gap between digits, also a fraction of size
     private static final float DIGIT_Y_RATIO      = 0.0f; // vertical nudge if the lily's visual center is off from its texture center
+    /** Preview width as a fraction of an idle lily pad */
+    private static final float PREVIEW_WIDTH_RATIO = 0.95f;
+    private static final Color PREVIEW_LOCKED_TINT = new Color(0.3f, 0.3f, 0.3f, 1f);
 
     private final LevelController controller;
     private final Texture starTexture;
@@ -128,46 +149,46 @@ public class LevelSelectScene implements Screen {
 
     private Texture[] numbersBlack = new Texture[10];
     private Texture[] numbersWhite = new Texture[10];
+    /** Level previews and numbers in one atlas; null if it could not be built */
+    private LevelThumbnails thumbnails;
 
     private boolean MASTER_UNLOCK = false;
 
 
     public LevelSelectScene(AssetDirectory assets, SpriteBatch batch, CanvasRender viewport, int totalLevels, LevelController controller) {
+        long start = BootTrace.start();
         this.batch = batch;
         this.viewport = viewport;
         this.totalLevels = totalLevels;
-        this.font = assets.getEntry("shared-retro", BitmapFont.class);
-        this.backgroundTexture = assets.getEntry("shared-water", Texture.class);
+        this.font = AssetKeys.Fonts.SHARED_RETRO.get(assets);
+        this.backgroundTexture = AssetKeys.Textures.SHARED_WATER.get(assets);
         if (this.backgroundTexture != null) {
             this.backgroundTexture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
         }
         try {
-            this.titleAnimation = SpriteStripAnimation.loadHorizontalStrip(
-                    Gdx.files.internal(TITLE_STRIP_INTERNAL),
+            this.titleAnimation = TextureRegistry.getInstance().acquireStrip(
+                    TITLE_STRIP_INTERNAL,
                     TITLE_FRAME_COUNT,
                     Texture.TextureFilter.Nearest,
                     TITLE_DEFAULT_FRAME_SEC);
         } catch (RuntimeException e) {
             Gdx.app.error("LevelSelectScene", "Could not load title sprite strip: " + TITLE_STRIP_INTERNAL, e);
         }
-        this.lilyTexture = assets.getEntry("shared-blank-lily", Texture.class);
+        this.lilyTexture = AssetKeys.Textures.SHARED_BLANK_LILY.get(assets);
         if (lilyTexture != null) {
                 lilyTexture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
         }
-        this.menuButtonTexture = new Texture(Gdx.files.internal("menubuttonlevel.png"));
-        this.menuButtonTexture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        this.menuButtonTexture = TextureRegistry.getInstance()
+                .acquireTexture("menubuttonlevel.png", Texture.TextureFilter.Nearest);
 
-        this.helpButtonTexture = assets.getEntry("shared-help", Texture.class);
+        this.helpButtonTexture = AssetKeys.Textures.SHARED_HELP.get(assets);
         this.helpButtonTexture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
 
-        this.homeButtonTexture = assets.getEntry("shared-home", Texture.class);
+        this.homeButtonTexture = AssetKeys.Textures.SHARED_HOME.get(assets);
         this.homeButtonTexture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
 
-        this.leftArrow = assets.getEntry("shared-left-arrow", Texture.class);
-        this.leftArrow.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-
-        this.rightArrow = assets.getEntry("shared-right-arrow", Texture.class);
-        this.rightArrow.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        this.leftArrow = UiRegion.LEFT_ARROW.get(assets);
+        this.rightArrow = UiRegion.RIGHT_ARROW.get(assets);
 
         this.camera = new OrthographicCamera();
         this.selectedIndex = 0;
@@ -204,16 +225,20 @@ public class LevelSelectScene implements Screen {
         arrowLayout.setFont(font);
         arrowLayout.setAlignment(TextAlign.middleCenter);
 
-        leftArrowBounds = new Rectangle();
-        rightArrowBounds = new Rectangle();
+        levelX = new float[totalLevels];
+        levelY = new float[totalLevels];
 
-        this.starTexture = assets.getEntry("shared-lotus", Texture.class);
-        this.lilyFlowerGrayTexture = assets.getEntry("shared-lily-gray", Texture.class);
-        this.grayLilyPad = assets.getEntry("shared-gray-lilypad", Texture.class);
+        this.starTexture = AssetKeys.Textures.SHARED_LOTUS.get(assets);
+        this.lilyFlowerGrayTexture = AssetKeys.Textures.SHARED_LILY_GRAY.get(assets);
+        this.grayLilyPad = AssetKeys.Textures.SHARED_GRAY_LILYPAD.get(assets);
         this.controller = controller;
         loadNumberTexures(assets);
+        long thumbs = BootTrace.start();
+        thumbnails = LevelThumbnails.load(assets, totalLevels, numbersBlack, numbersWhite);
+        BootTrace.span("levelselect", "LevelThumbnails.load", thumbs);
 
         resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        BootTrace.span("levelselect", "LevelSelectScene", start);
     }
 
     public void setBatch(SpriteBatch batch) {
@@ -262,6 +287,18 @@ public class LevelSelectScene implements Screen {
         titleAnimTime += delta;
         update(delta);
         draw();
+        if (!sliding) {
+            FrameScheduler.getInstance().allowIdle(delta > 0f ? titleWakeDelay() : FrameScheduler.FOREVER);
+        }
+    }
+
+    /** Seconds until the title strip shows its next frame; a frozen backdrop passes delta 0. */
+    private float titleWakeDelay() {
+        if (titleAnimation == null || titleAnimation.getFrameCount() < 2) {
+            return FrameScheduler.FOREVER;
+        }
+        float frame = titleAnimation.getLoopDurationSeconds() / titleAnimation.getFrameCount();
+        return frame - (titleAnimTime % frame);
     }
 
     private void update(float delta) {
@@ -282,6 +319,8 @@ public class LevelSelectScene implements Screen {
             clickPrevious = Gdx.input.isButtonPressed(Input.Buttons.LEFT);
             return;
         }
+        // The first frame that reads input ends the boot sequence
+        BootTrace.finish("Level select interactive");
 
         boolean upPressed = Gdx.input.isKeyPressed(Input.Keys.UP);
         boolean downPressed = Gdx.input.isKeyPressed(Input.Keys.DOWN);
@@ -313,15 +352,15 @@ public class LevelSelectScene implements Screen {
 
         if (clickPressed && !clickPrevious) {
             viewport.screenToCanvas(Gdx.input.getX(), Gdx.input.getY(), pointer);
-            if (getHomeButtonBounds().contains(pointer.x, pointer.y)) {
+            if (layout.contains(SLOT_HOME, pointer.x, pointer.y)) {
                 exitRequested = true;
             }
-            else if (getHelpButtonBounds().contains(pointer.x, pointer.y)) {
+            else if (layout.contains(SLOT_HELP, pointer.x, pointer.y)) {
                 howToPlayRequested = true;
             }
-            else if (leftArrowBounds.contains(pointer)) {
+            else if (layout.contains(SLOT_LEFT_ARROW, pointer.x, pointer.y)) {
                 changePage(-1);
-            } else if (rightArrowBounds.contains(pointer)) {
+            } else if (layout.contains(SLOT_RIGHT_ARROW, pointer.x, pointer.y)) {
                 changePage(1);
             } else {
                 int clickedIndex = getHoveredIndex();
@@ -381,47 +420,16 @@ public class LevelSelectScene implements Screen {
         viewport.reset();
     }
 
-    private float contentSideMargin() {
-        return width * (CONTENT_SIDE_MARGIN_REF / 1280f);
-    }
-
-    private float lilySizeSelected() {
-        return width * (165f / 1280f);
-    }
-
-    private float lilySizeNormal() {
-        return width * (132f / 1280f);
-    }
-
-    private Vector2 getLevelPosition(int index) {
-        int pageStart = (index / PAGE_SIZE) * PAGE_SIZE;
-        int visibleCount = Math.min(PAGE_SIZE, totalLevels - pageStart);
-        int slot = index - pageStart;
-        float contentLeft = contentSideMargin();
-        float contentWidth = width - 2f * contentLeft;
-        float x = contentLeft + contentWidth * (slot + 1f) / (visibleCount + 1f);
-        float amplitude = height * (120f / 720f);
-        float base = height * 0.43f;
-        float y = base + (slot % 2 == 0 ? amplitude : -amplitude);
-        return new Vector2(x,y);
-    }
-
-
     private int getHoveredIndex() {
         viewport.screenToCanvas(Gdx.input.getX(), Gdx.input.getY(), pointer);
-        if (getHomeButtonBounds().contains(pointer.x, pointer.y)) {
-            return -1;
-        }
-        if (getHelpButtonBounds().contains(pointer.x, pointer.y)) {
+        if (layout.hit(pointer.x, pointer.y, SLOT_HOME, SLOT_HELP) >= 0) {
             return -1;
         }
 
-        float hoverRad = width * (60f / 1280f);
         int startIndex = currentPage * PAGE_SIZE;
         int endIndex = Math.min(totalLevels, startIndex + PAGE_SIZE);
         for (int ii = startIndex; ii < endIndex; ii++) {
-            Vector2 pos = getLevelPosition(ii);
-            if (pointer.dst(pos) < hoverRad) {
+            if (pointer.dst(levelX[ii], levelY[ii]) < hoverRadius) {
                 if (!MASTER_UNLOCK && !controller.isLevelOpen(ii + 1)){return -1;}
                 return ii;
             }
@@ -434,6 +442,65 @@ public class LevelSelectScene implements Screen {
         this.width = (int)viewport.getWidth();
         this.height = (int)viewport.getHeight();
         camera.setToOrtho(false, this.width, this.height);
+        layout();
+    }
+
+    /** Recomputes buttons, arrows, title and lily positions if the canvas size changed. */
+    private void layout() {
+        if (!layout.isStale(width, height)) {
+            return;
+        }
+        float UI = CanvasRender.layoutScale();
+        float marginTop = MENU_BTN_TOP_MARGIN_REF * UI;
+        float maxW = width * MENU_BTN_MAX_W_FRAC;
+        Rectangle home = layout.get(SLOT_HOME);
+        if (homeButtonTexture != null) {
+            float s = maxW / Math.max(1f, homeButtonTexture.getWidth());
+            float bw = homeButtonTexture.getWidth() * s * 0.7f;
+            float bh = homeButtonTexture.getHeight() * s * 0.7f;
+            layout.set(SLOT_HOME, width - marginTop - bw, height - marginTop - bh, bw, bh);
+        }
+        if (helpButtonTexture != null) {
+            float s = maxW / Math.max(1f, menuButtonTexture.getWidth());
+            float bw = menuButtonTexture.getWidth() * s * 0.7f;
+            float bh = menuButtonTexture.getHeight() * s * 0.7f;
+            layout.set(SLOT_HELP, home.x - marginTop - bw - 3, height - marginTop - bh, bw, bh);
+        }
+
+        float arrowSize = ARROW_SIZE_REF * UI;
+        float arrowPad = ARROW_PADDING_REF * UI;
+        float arrowY = height * 0.5f - arrowSize / 2f;
+        layout.set(SLOT_LEFT_ARROW, arrowPad, arrowY, arrowSize, arrowSize);
+        layout.set(SLOT_RIGHT_ARROW, width - arrowPad - arrowSize, arrowY, arrowSize, arrowSize);
+
+        // Every frame of the title strip has the same size, so the first one fixes the quad.
+        if (titleAnimation != null && titleAnimation.getFrameCount() > 0) {
+            TextureRegion tr = titleAnimation.getKeyFrame(0f);
+            float rw = Math.max(1, tr.getRegionWidth());
+            float rh = Math.max(1, tr.getRegionHeight());
+            float s = Math.min(width * TITLE_MAX_WIDTH_FRAC / rw, height * TITLE_MAX_HEIGHT_FRAC / rh);
+            s = MathUtils.clamp(s, 0.01f, 100f);
+            float drawW = rw * s;
+            float drawH = rh * s;
+            layout.set(SLOT_TITLE, width * TITLE_CENTER_X_FRAC - drawW / 2f,
+                    height * TITLE_CENTER_Y_FRAC - drawH / 2f, drawW, drawH);
+        }
+
+        lilySizeSelected = width * (165f / 1280f);
+        lilySizeNormal = width * (132f / 1280f);
+        hoverRadius = width * (60f / 1280f);
+        float contentLeft = width * (CONTENT_SIDE_MARGIN_REF / 1280f);
+        float contentWidth = width - 2f * contentLeft;
+        float amplitude = height * (120f / 720f);
+        float base = height * 0.43f;
+        for (int index = 0; index < totalLevels; index++) {
+            int pageStart = (index / PAGE_SIZE) * PAGE_SIZE;
+            int visibleCount = Math.min(PAGE_SIZE, totalLevels - pageStart);
+            int slot = index - pageStart;
+            levelX[index] = contentLeft + contentWidth * (slot + 1f) / (visibleCount + 1f);
+            levelY[index] = base + (slot % 2 == 0 ? amplitude : -amplitude);
+        }
+        layout.validate(width, height);
     }
 
     private int pageCount() {
@@ -454,40 +521,9 @@ public class LevelSelectScene implements Screen {
         sliding = true;
     }
 
-    private Rectangle getHomeButtonBounds() {
-        if (homeButtonTexture == null) {
-            return new Rectangle(0, 0, 0, 0);
-        }
-        float UI = CanvasRender.layoutScale();
-        float marginTop = MENU_BTN_TOP_MARGIN_REF * UI;
-        float maxW = width * MENU_BTN_MAX_W_FRAC;
-        float s = maxW / Math.max(1f, homeButtonTexture.getWidth());
-        float bw = homeButtonTexture.getWidth() * s * 0.7f;
-        float bh = homeButtonTexture.getHeight() * s * 0.7f;
-        float x = width - marginTop - bw;
-        float y = height - marginTop - bh;
-        return new Rectangle(x, y, bw, bh);
-    }
-
-    private Rectangle getHelpButtonBounds() {
-        if (helpButtonTexture == null) {
-            return new Rectangle(0, 0, 0, 0);
-        }
-        float UI = CanvasRender.layoutScale();
-        float marginTop = MENU_BTN_TOP_MARGIN_REF * UI;
-        float maxW = width * MENU_BTN_MAX_W_FRAC;
-        float s = maxW / Math.max(1f, menuButtonTexture.getWidth());
-        float bw = menuButtonTexture.getWidth() * s * 0.7f;
-        float bh = menuButtonTexture.getHeight() * s * 0.7f;
-        Rectangle home = getHomeButtonBounds();
-        float x = home.x - marginTop - bw - 3;
-        float y = height - marginTop - bh;
-        return new Rectangle(x, y, bw, bh);
-    }
-
     private void drawButton() {
-        Rectangle hb = getHomeButtonBounds();
-        Rectangle helpB = getHelpButtonBounds();
+        Rectangle hb = layout.get(SLOT_HOME);
+        Rectangle helpB = layout.get(SLOT_HELP);
         viewport.screenToCanvas(Gdx.input.getX(), Gdx.input.getY(), pointer);
 
         boolean homeHover = hb.contains(pointer.x, pointer.y);
@@ -501,75 +537,114 @@ public class LevelSelectScene implements Screen {
         batch.setColor(Color.WHITE);
     }
 
+    /**
+     * Draws one page of lily pads in passes grouped by texture (pads, flowers, then previews and
+     * numbers from the thumbnail atlas) so the batch does not switch textures per level.
+     */
     private void drawPageItems(int page, float xOffset) {
         int startIndex = page * PAGE_SIZE;
         int endIndex = Math.min(totalLevels, startIndex + PAGE_SIZE);
-        for (int ii = startIndex; ii < endIndex; ii++) {
-            Vector2 pos = getLevelPosition(ii);
-            pos.x += xOffset;
-            boolean selected = ii == selectedIndex;
 
-            int score = controller.getLevelScore(ii+1);
-            boolean unlocked = MASTER_UNLOCK || controller.isLevelOpen(ii+1);
-
-            float size = selected && unlocked ? lilySizeSelected() : lilySizeNormal();
+        // Pads: unlocked first, then locked, so each texture is one run.
+        for (int pass = 0; pass < 2; pass++) {
+            for (int ii = startIndex; ii < endIndex; ii++) {
+                boolean unlocked = isUnlocked(ii);
+                boolean colored = unlocked && lilyTexture != null;
+                if (colored != (pass == 0)) {
+                    continue;
+                }
+                float size = lilySize(ii, unlocked);
+                float posX = levelX[ii] + xOffset;
+                float posY = levelY[ii];
+                if (colored) {
+                    batch.setColor(ii == selectedIndex ? Color.WHITE : LILY_IDLE_TINT);
+                    batch.draw(lilyTexture, posX - size / 2, posY - size / 2, size, size);
+                } else {
+                    batch.setColor(Color.WHITE);
+                    batch.draw(grayLilyPad, posX - size / 2, posY - size / 2, size, size);
+                }
+            }
+        }
 
-            if (lilyTexture != null && unlocked) {
-                batch.setColor(selected ? Color.WHITE : new Color(0.82f, 0.82f, 0.82f, 1.0f));
-                batch.draw(lilyTexture, pos.x - size / 2, pos.y - size / 2, size, size);
-            } else {
-                batch.setColor(Color.WHITE);
-                batch.draw(grayLilyPad, pos.x - size / 2, pos.y - size / 2, size, size);
+        // Flowers
+        batch.setColor(Color.WHITE);
+        for (int ii = startIndex; ii < endIndex && starTexture != null; ii++) {
+            int score = controller.getLevelScore(ii+1);
+            if (score <= 0) {
+                continue;
             }
-            // Drawing the lilies
-            if (starTexture != null && score > 0) {
-                int maxScore  = 3;
-                float starSize = size * 0.3f;
-                float gap      = starSize * 0.1f;
-                float totalW   = maxScore * starSize + (maxScore - 1) * gap;
-                float startX   = pos.x - totalW / 2f;
-                float flowerY  = pos.y + size / 2f;
-
-                batch.setColor(Color.WHITE);
-                for (int s = 0; s < maxScore; s++) {
-                    int i = s == 1 ? 0 : -1;
-                    float fx = startX + s * (starSize + gap);
-                    if (s < score) {
-                        batch.draw(starTexture, fx, flowerY + i * LILY_ARCH_OFFSET, starSize, starSize);
-                    } else if (lilyFlowerGrayTexture != null) {
-                        batch.draw(lilyFlowerGrayTexture, fx, flowerY + i * LILY_ARCH_OFFSET, starSize, starSize);
-                    }
+            float size = lilySize(ii, isUnlocked(ii));
+            int maxScore  = 3;
+            float starSize = size * 0.3f;
+            float gap      = starSize * 0.1f;
+            float totalW   = maxScore * starSize + (maxScore - 1) * gap;
+            float startX   = levelX[ii] + xOffset - totalW / 2f;
+            float flowerY  = levelY[ii] + size / 2f;
+            for (int s = 0; s < maxScore; s++) {
+                int i = s == 1 ? 0 : -1;
+                float fx = startX + s * (starSize + gap);
+                if (s < score) {
+                    batch.draw(starTexture, fx, flowerY + i * LILY_ARCH_OFFSET, starSize, starSize);
+                } else if (lilyFlowerGrayTexture != null) {
+                    batch.draw(lilyFlowerGrayTexture, fx, flowerY + i * LILY_ARCH_OFFSET, starSize, starSize);
                 }
             }
+        }
 
-            // Drawing the numbers
-            batch.setColor(Color.WHITE);
-            Texture[] nums = unlocked ? numbersBlack : numbersWhite;
-            int levelNum = ii + 1;
-
+        // Previews and numbers
+        for (int ii = startIndex; ii < endIndex; ii++) {
+            boolean unlocked = isUnlocked(ii);
+            float size = lilySize(ii, unlocked);
+            float posX = levelX[ii] + xOffset;
+            float posY = levelY[ii];
             float digitHeight = size * DIGIT_HEIGHT_RATIO;
-            float gap         = size * DIGIT_GAP_RATIO;
-            float cy          = pos.y + size * DIGIT_Y_RATIO;   // center line for the digits
-            float y           = cy - digitHeight / 2f;
+            float y = posY + size * DIGIT_Y_RATIO - digitHeight / 2f;
+            if (thumbnails == null) {
+                drawDigits(ii + 1, unlocked ? numbersBlack : numbersWhite, posX, y, size);
+                continue;
+            }
+            float pw = lilySizeNormal * PREVIEW_WIDTH_RATIO;
+            float ph = pw / LevelThumbnails.getPreviewAspect();
+            batch.setColor(unlocked ? Color.WHITE : PREVIEW_LOCKED_TINT);
+            batch.draw(thumbnails.getPreview(ii), posX - pw / 2f, posY - size / 2f - ph, pw, ph);
 
-            if (levelNum > 9) {
-                Texture tens = nums[levelNum / 10];
-                Texture ones = nums[levelNum % 10];
+            float nw = digitHeight * LevelThumbnails.getNumberAspect();
+            batch.setColor(Color.WHITE);
+            batch.draw(thumbnails.getNumber(ii, unlocked), posX - nw / 2f, y, nw, digitHeight);
+        }
+        batch.setColor(Color.WHITE);
+        font.getData().setScale(1.0f);
+    }
 
-                float tensW = digitHeight * (float) tens.getWidth() / tens.getHeight();
-                float onesW = digitHeight * (float) ones.getWidth() / ones.getHeight();
-                float totalW = tensW + gap + onesW;
-                float startX = pos.x - totalW / 2f;
+    private boolean isUnlocked(int index) {
+        return MASTER_UNLOCK || controller.isLevelOpen(index + 1);
+    }
 
-                drawDigit(batch, tens, startX,                 y, digitHeight);
-                drawDigit(batch, ones, startX + tensW + gap,   y, digitHeight);
-            } else {
-                Texture d = nums[levelNum];
-                float w = digitHeight * (float) d.getWidth() / d.getHeight();
-                drawDigit(batch, d, pos.x - w / 2f, y, digitHeight);
-            }
+    private float lilySize(int index, boolean unlocked) {
+        return index == selectedIndex && unlocked ? lilySizeSelected : lilySizeNormal;
+    }
+
+    /** Per-digit fallback used when the thumbnail atlas could not be built. */
+    private void drawDigits(int levelNum, Texture[] nums, float posX, float y, float size) {
+        batch.setColor(Color.WHITE);
+        float digitHeight = size * DIGIT_HEIGHT_RATIO;
+        float gap         = size * DIGIT_GAP_RATIO;
+        if (levelNum > 9) {
+            Texture tens = nums[levelNum / 10];
+            Texture ones = nums[levelNum % 10];
+
+            float tensW = digitHeight * (float) tens.getWidth() / tens.getHeight();
+            float onesW = digitHeight * (float) ones.getWidth() / ones.getHeight();
+            float totalW = tensW + gap + onesW;
+            float startX = posX - totalW / 2f;
+
+            drawDigit(batch, tens, startX,                 y, digitHeight);
+            drawDigit(batch, ones, startX + tensW + gap,   y, digitHeight);
+        } else {
+            Texture d = nums[levelNum];
+            float w = digitHeight * (float) d.getWidth() / d.getHeight();
+            drawDigit(batch, d, posX - w / 2f, y, digitHeight);
         }
-        font.getData().setScale(1.0f);
     }
 
     private void drawDigit(SpriteBatch batch, Texture tex, float x, float y, float targetHeight) {
@@ -578,28 +653,19 @@ public class LevelSelectScene implements Screen {
     }
 
     private void drawArrow(boolean isRight, boolean active) {
-        float UI = CanvasRender.layoutScale();
-        float arrowSize = ARROW_SIZE_REF * UI;
-        float arrowPad = ARROW_PADDING_REF * UI;
-        float cy = height * 0.5f;
-        float x = isRight ? width - arrowPad - arrowSize : arrowPad;
-        float y = cy - arrowSize / 2f;
-
-        Rectangle bounds = isRight ? rightArrowBounds : leftArrowBounds;
-        bounds.set(x, y, arrowSize, arrowSize);
-
         if (!active) return;
 
-        Texture tex = isRight ? rightArrow : leftArrow;
+        Rectangle bounds = layout.get(isRight ? SLOT_RIGHT_ARROW : SLOT_LEFT_ARROW);
+        TextureRegion tex = isRight ? rightArrow : leftArrow;
         viewport.screenToCanvas(Gdx.input.getX(), Gdx.input.getY(), pointer);
         boolean hovered = bounds.contains(pointer.x, pointer.y);
         batch.setColor(hovered ? MENU_HOVER_TINT : Color.WHITE);
-        batch.draw(tex, x, y, arrowSize, arrowSize);
+        batch.draw(tex, bounds.x, bounds.y, bounds.width, bounds.height);
         batch.setColor(Color.WHITE);
     }
 
     private void drawTitle() {
-        Rectangle r = computeTitleCanvasRect();
+        Rectangle r = layout.get(SLOT_TITLE);
         if (r.width <= 0f || titleAnimation == null) {
             return;
         }
@@ -608,26 +674,6 @@ public class LevelSelectScene implements Screen {
         batch.draw(tr, r.x, r.y, r.width, r.height);
     }
 
-    private Rectangle computeTitleCanvasRect() {
-        if (titleAnimation == null || titleAnimation.getFrameCount() == 0) {
-            return new Rectangle(0, 0, 0, 0);
-        }
-        TextureRegion tr = titleAnimation.getKeyFrame(titleAnimTime);
-        float rw = Math.max(1, tr.getRegionWidth());
-        float rh = Math.max(1, tr.getRegionHeight());
-        float maxW = width * TITLE_MAX_WIDTH_FRAC;
-        float maxH = height * TITLE_MAX_HEIGHT_FRAC;
-        float s = Math.min(maxW / rw, maxH / rh);
-        s = MathUtils.clamp(s, 0.01f, 100f);
-        float drawW = rw * s;
-        float drawH = rh * s;
-        float cx = width * TITLE_CENTER_X_FRAC;
-        float cy = height * TITLE_CENTER_Y_FRAC;
-        float x = cx - drawW / 2f;
-        float y = cy - drawH / 2f;
-        return new Rectangle(x, y, drawW, drawH);
-    }
-
     @Override
     public void pause() {
     }
@@ -644,18 +690,21 @@ public class LevelSelectScene implements Screen {
     @Override
     public void dispose() {
         if (titleAnimation != null) {
-            titleAnimation.dispose();
+            TextureRegistry.getInstance().release(titleAnimation);
             titleAnimation = null;
         }
+        if (thumbnails != null) {
+            thumbnails.dispose();
+            thumbnails = null;
+        }
         pixel.dispose();
-        menuButtonTexture.dispose();
+        TextureRegistry.getInstance().release(menuButtonTexture);
     }
 
     private void loadNumberTexures(AssetDirectory assets){
         for (int i = 0; i < 10; i++){
-            String s = String.valueOf(i);
-            numbersBlack[i] = assets.getEntry("numbers-B"+s, Texture.class);
-            numbersWhite[i] = assets.getEntry("numbers-W"+s, Texture.class);
+            numbersBlack[i] = AssetKeys.Textures.NUMBERS_B.get(i).get(assets);
+            numbersWhite[i] = AssetKeys.Textures.NUMBERS_W.get(i).get(assets);
         }
     }
 }
@@ -0,0 +1,319 @@
+package edu.cornell.cis3152.physics.screen;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.ScreenUtils;
+import edu.cornell.cis3152.physics.AssetKey;
+import edu.cornell.cis3152.physics.AssetKeys;
+import edu.cornell.cis3152.physics.GameLog;
+import edu.cornell.gdiac.assets.AssetDirectory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * One texture holding a preview of every level plus its lily pad number in both colors.
+ * <p>
+ * Previews are rendered once from each level's tile layers ({@code tilemap}, {@code vines},
+ * {@code env}) into a {@link FrameBuffer}, read back, and saved as a PNG under
+ * {@code cache/thumbs/} whose name is a CRC of all level data and source images, so an edited
+ * level or tileset re-renders and an unchanged set loads straight from disk. Because previews
+ * and numbers share one texture, the level select screen draws them without texture switches.
+ * <p>
+ * Must be built on the render thread. Call {@link #dispose()} when finished.
+ */
+final class LevelThumbnails implements Disposable {
+
+    /** Bump whenever the rendering or atlas layout changes. */
+    private static final int CACHE_VERSION = 2;
+    /** Local directory (relative to the working directory) holding rendered atlases. */
+    private static final String CACHE_DIR = "cache/thumbs/";
+
+    /** Preview cell size in pixels (16:9, like the level) */
+    private static final int THUMB_W = 160;
+    private static final int THUMB_H = 90;
+    /** Number cell size in pixels; two digits fit with room to spare */
+    private static final int NUMBER_W = 128;
+    private static final int NUMBER_H = 64;
+    /** Gap between the two digits of a number, matching the old per-digit layout */
+    private static final float DIGIT_GAP = NUMBER_H * (0.025f / 0.3f);
+    private static final int ATLAS_W = 1024;
+    /** Source tile size in the tileset textures */
+    private static final int TILE_PX = 16;
+    /** Images the previews and numbers are drawn from */
+    private static final List<AssetKey<Texture>> SOURCES = List.of(
+            AssetKeys.Textures.SHARED_LEVEL_BACKGROUND,
+            AssetKeys.Textures.PLATFORM_TILESET,
+            AssetKeys.Textures.PLATFORM_VINES,
+            AssetKeys.Textures.PLATFORM_ENV);
+
+    private final Texture atlas;
+    private final TextureRegion[] previews;
+    private final TextureRegion[] blackNumbers;
+    private final TextureRegion[] whiteNumbers;
+
+    private LevelThumbnails(Texture atlas, int totalLevels) {
+        this.atlas = atlas;
+        previews = new TextureRegion[totalLevels];
+        blackNumbers = new TextureRegion[totalLevels];
+        whiteNumbers = new TextureRegion[totalLevels];
+        int thumbCols = ATLAS_W / THUMB_W;
+        int numberCols = ATLAS_W / NUMBER_W;
+        int numberTop = thumbRows(totalLevels) * THUMB_H;
+        for (int i = 0; i < totalLevels; i++) {
+            previews[i] = new TextureRegion(atlas, (i % thumbCols) * THUMB_W, (i / thumbCols) * THUMB_H,
+                    THUMB_W, THUMB_H);
+            int b = 2 * i;
+            int w = b + 1;
+            blackNumbers[i] = new TextureRegion(atlas, (b % numberCols) * NUMBER_W,
+                    numberTop + (b / numberCols) * NUMBER_H, NUMBER_W, NUMBER_H);
+            whiteNumbers[i] = new TextureRegion(atlas, (w % numberCols) * NUMBER_W,
+                    numberTop + (w / numberCols) * NUMBER_H, NUMBER_W, NUMBER_H);
+        }
+    }
+
+    /** Preview of level {@code index} (0-based). */
+    TextureRegion getPreview(int index) {
+        return previews[index];
+    }
+
+    /** Lily pad number for level {@code index} (0-based), centered in a {@link #getNumberAspect()} cell. */
+    TextureRegion getNumber(int index, boolean black) {
+        return black ? blackNumbers[index] : whiteNumbers[index];
+    }
+
+    /** Width / height of a number cell. */
+    static float getNumberAspect() {
+        return NUMBER_W / (float) NUMBER_H;
+    }
+
+    /** Width / height of a preview. */
+    static float getPreviewAspect() {
+        return THUMB_W / (float) THUMB_H;
+    }
+
+    private static int thumbRows(int totalLevels) {
+        int cols = ATLAS_W / THUMB_W;
+        return (totalLevels + cols - 1) / cols;
+    }
+
+    private static int atlasHeight(int totalLevels) {
+        int cols = ATLAS_W / NUMBER_W;
+        int numberRows = (2 * totalLevels + cols - 1) / cols;
+        return MathUtils.nextPowerOfTwo(thumbRows(totalLevels) * THUMB_H + numberRows * NUMBER_H);
+    }
+
+    /**
+     * Loads the atlas from the disk cache, or renders and caches it.
+     *
+     * @return the thumbnails, or null if they could not be rendered
+     */
+    static LevelThumbnails load(AssetDirectory assets, int totalLevels,
+                                Texture[] numbersBlack, Texture[] numbersWhite) {
+        JsonValue constants = AssetKeys.Jsons.PLATFORM_CONSTANTS.get(assets);
+        long key = key(assets, constants, totalLevels);
+        FileHandle cached = Gdx.files.local(CACHE_DIR + "levels-" + Long.toHexString(key) + ".png");
+        if (cached.exists()) {
+            try {
+                Texture texture = new Texture(cached);
+                texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+                return new LevelThumbnails(texture, totalLevels);
+            } catch (RuntimeException e) {
+                GameLog.warn("LevelThumbnails", "Ignoring unreadable cache {}", cached.path());
+            }
+        }
+        Pixmap pixmap;
+        try {
+            pixmap = render(assets, constants, totalLevels, numbersBlack, numbersWhite);
+        } catch (RuntimeException e) {
+            GameLog.error("LevelThumbnails", "Could not render level thumbnails", e);
+            return null;
+        }
+        writeCache(cached, pixmap);
+        Texture texture = new Texture(pixmap);
+        pixmap.dispose();
+        texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        return new LevelThumbnails(texture, totalLevels);
+    }
+
+    /**
+     * CRC of every level's data, the atlas layout and the source images. Images count by size and
+     * modification time, so an edited tileset re-renders without hashing every pixel at boot.
+     */
+    private static long key(AssetDirectory assets, JsonValue constants, int totalLevels) {
+        CRC32 crc = new CRC32();
+        update(crc, CACHE_VERSION);
+        update(crc, totalLevels);
+        for (AssetKey<Texture> source : SOURCES) {
+            updateFile(crc, assets, source);
+        }
+        for (int i = 0; i < 10; i++) {
+            updateFile(crc, assets, AssetKeys.Textures.NUMBERS_B.get(i));
+            updateFile(crc, assets, AssetKeys.Textures.NUMBERS_W.get(i));
+        }
+        JsonValue world = constants.get("world");
+        if (world != null) {
+            crc.update(world.toJson(JsonWriter.OutputType.minimal).getBytes(StandardCharsets.UTF_8));
+        }
+        for (int i = 1; i <= totalLevels; i++) {
+            JsonValue level = constants.get("level" + i);
+            if (level != null) {
+                crc.update(level.toJson(JsonWriter.OutputType.minimal).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static void updateFile(CRC32 crc, AssetDirectory assets, AssetKey<Texture> source) {
+        String file = assets.getFileName(source.key(), Texture.class);
+        crc.update(source.key().getBytes(StandardCharsets.UTF_8));
+        if (file != null) {
+            updateFile(crc, Gdx.files.internal(file));
+        }
+    }
+
+    private static void updateFile(CRC32 crc, FileHandle file) {
+        crc.update(file.path().getBytes(StandardCharsets.UTF_8));
+        update(crc, file.length());
+        update(crc, file.lastModified());
+    }
+
+    /** Adds all eight bytes of a value ({@link CRC32#update(int)} only takes the low byte). */
+    private static void update(CRC32 crc, long value) {
+        for (int shift = 0; shift < 64; shift += 8) {
+            crc.update((int) (value >>> shift));
+        }
+    }
+
+    /**
+     * Draws all previews and numbers into an offscreen buffer and reads it back upright.
+     * Cells are laid out top-down in image space; the buffer is y-up, hence the flips below.
+     */
+    private static Pixmap render(AssetDirectory assets, JsonValue constants, int totalLevels,
+                                 Texture[] numbersBlack, Texture[] numbersWhite) {
+        int atlasH = atlasHeight(totalLevels);
+        float[] bounds = constants.get("world").get("bounds").asFloatArray();
+        float unitW = THUMB_W / bounds[0];
+        float unitH = THUMB_H / bounds[1];
+
+        Texture backdrop = AssetKeys.Textures.SHARED_LEVEL_BACKGROUND.get(assets);
+        Texture tileset = AssetKeys.Textures.PLATFORM_TILESET.get(assets);
+        Texture vines = AssetKeys.Textures.PLATFORM_VINES.get(assets);
+        Texture env = AssetKeys.Textures.PLATFORM_ENV.get(assets);
+
+        FrameBuffer fbo = new FrameBuffer(Pixmap.Format.RGBA8888, ATLAS_W, atlasH, false);
+        SpriteBatch batch = new SpriteBatch(1000);
+        Pixmap pixmap;
+        try {
+            batch.setProjectionMatrix(new Matrix4().setToOrtho2D(0, 0, ATLAS_W, atlasH));
+            // Keep destination alpha opaque where anything opaque was drawn.
+            batch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA,
+                    GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+            fbo.begin();
+            Gdx.gl.glClearColor(0f, 0f, 0f, 0f);
+            Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+            batch.begin();
+
+            int thumbCols = ATLAS_W / THUMB_W;
+            TextureRegion tile = new TextureRegion();
+            for (int i = 0; i < totalLevels; i++) {
+                JsonValue level = constants.get("level" + (i + 1));
+                float x = (i % thumbCols) * THUMB_W;
+                float y = atlasH - (i / thumbCols + 1) * THUMB_H;
+                batch.setColor(Color.WHITE);
+                if (backdrop != null) {
+                    batch.draw(backdrop, x, y, THUMB_W, THUMB_H);
+                }
+                if (level != null) {
+                    drawLayer(batch, tile, level.get("vines"), vines, x, y, unitW, unitH);
+                    drawLayer(batch, tile, level.get("tilemap"), tileset, x, y, unitW, unitH);
+                    drawLayer(batch, tile, level.get("env"), env, x, y, unitW, unitH);
+                }
+            }
+
+            int numberCols = ATLAS_W / NUMBER_W;
+            int numberTop = thumbRows(totalLevels) * THUMB_H;
+            for (int i = 0; i < 2 * totalLevels; i++) {
+                float x = (i % numberCols) * NUMBER_W;
+                float y = atlasH - numberTop - (i / numberCols + 1) * NUMBER_H;
+                drawNumber(batch, i / 2 + 1, i % 2 == 0 ? numbersBlack : numbersWhite, x, y);
+            }
+            batch.end();
+            byte[] rgba = ScreenUtils.getFrameBufferPixels(0, 0, ATLAS_W, atlasH, true);
+            pixmap = new Pixmap(ATLAS_W, atlasH, Pixmap.Format.RGBA8888);
+            BufferUtils.copy(rgba, 0, pixmap.getPixels(), rgba.length);
+        } finally {
+            fbo.end();
+            fbo.dispose();
+            batch.dispose();
+        }
+        return pixmap;
+    }
+
+    private static void drawLayer(SpriteBatch batch, TextureRegion tile, JsonValue layer, Texture texture,
+                                  float x, float y, float unitW, float unitH) {
+        if (layer == null || texture == null) {
+            return;
+        }
+        for (JsonValue entry = layer.child; entry != null; entry = entry.next) {
+            int tx = MathUtils.round(entry.getFloat("tx"));
+            int ty = MathUtils.round(entry.getFloat("ty"));
+            int col = MathUtils.round(entry.getFloat("col"));
+            int row = MathUtils.round(entry.getFloat("row"));
+            tile.setTexture(texture);
+            tile.setRegion(col * TILE_PX, row * TILE_PX, TILE_PX, TILE_PX);
+            batch.draw(tile, x + tx * unitW, y + ty * unitH, unitW, unitH);
+        }
+    }
+
+    /** Draws a one- or two-digit number centered in a number cell. */
+    private static void drawNumber(SpriteBatch batch, int number, Texture[] digits, float x, float y) {
+        batch.setColor(Color.WHITE);
+        if (number > 9) {
+            Texture tens = digits[number / 10];
+            Texture ones = digits[number % 10];
+            float tensW = NUMBER_H * (float) tens.getWidth() / tens.getHeight();
+            float onesW = NUMBER_H * (float) ones.getWidth() / ones.getHeight();
+            float startX = x + (NUMBER_W - (tensW + DIGIT_GAP + onesW)) / 2f;
+            batch.draw(tens, startX, y, tensW, NUMBER_H);
+            batch.draw(ones, startX + tensW + DIGIT_GAP, y, onesW, NUMBER_H);
+        } else {
+            Texture d = digits[number];
+            float w = NUMBER_H * (float) d.getWidth() / d.getHeight();
+            batch.draw(d, x + (NUMBER_W - w) / 2f, y, w, NUMBER_H);
+        }
+    }
+
+    /** Writes to a temporary file first, then moves it into place, so readers never see a torn file. */
+    private static void writeCache(FileHandle cached, Pixmap pixmap) {
+        FileHandle temp = cached.sibling(cached.nameWithoutExtension() + ".tmp.png");
+        try {
+            cached.parent().mkdirs();
+            PixmapIO.writePNG(temp, pixmap);
+            temp.moveTo(cached);
+        } catch (RuntimeException e) {
+            GameLog.warn("LevelThumbnails", "Could not cache thumbnails to {}", cached.path());
+            temp.delete();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        atlas.dispose();
+    }
+}
@@ -35,11 +35,22 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.ScreenUtils;
+import edu.cornell.cis3152.physics.AssetKeys;
+import edu.cornell.cis3152.physics.BootKeys;
 import edu.cornell.cis3152.physics.CanvasRender;
 import edu.cornell.cis3152.physics.GameAudio;
+import edu.cornell.cis3152.physics.GameLog;
+import edu.cornell.cis3152.physics.MusicScheduler;
+import edu.cornell.cis3152.physics.BootTrace;
+import edu.cornell.cis3152.physics.Playthrough;
+import edu.cornell.cis3152.physics.SoundPlayer;
+import edu.cornell.cis3152.physics.graphics.BakedFontParser;
+import edu.cornell.cis3152.physics.graphics.PrefetchingTextureLoader;
 import edu.cornell.cis3152.physics.graphics.SpriteStripAnimation;
+import edu.cornell.cis3152.physics.graphics.TextureRegistry;
+import edu.cornell.cis3152.physics.graphics.TextureAtlasParser;
+import edu.cornell.cis3152.physics.graphics.TextureDecodePool;
 import edu.cornell.gdiac.assets.*;
-import edu.cornell.gdiac.audio.SoundEffect;
 import edu.cornell.gdiac.graphics.SpriteBatch;
 import edu.cornell.gdiac.graphics.TextAlign;
 import edu.cornell.gdiac.graphics.TextLayout;
@@ -81,6 +92,15 @@ public class LoadingScene implements Screen {
     private static final Color MENU_MAIN_HOVER_TINT = new Color(0.52f, 0.52f, 0.55f, 1f);
     /** Default budget for asset loader (do nothing but load 60 fps) */
     private static int DEFAULT_BUDGET = 15;
+    /** Milliseconds of each frame kept for drawing; the budget never grows into them */
+    private static final int DRAW_RESERVE_MS = 4;
+    /** A frame this many display intervals long counts as missed */
+    private static final float LATE_FRAME = 1.25f;
+    /**
+     * System property that quits once the title screen is up. The desktop build's AppCDS task
+     * uses it for its training and timing runs of the boot sequence.
+     */
+    public static final String EXIT_AFTER_BOOT_PROPERTY = "frog.exitAfterBoot";
 
     private static final String TITLE_STRIP_INTERNAL = "loading/GameLogo_animated.png";
     private static final int TITLE_FRAME_COUNT = 7;
@@ -127,6 +147,12 @@ public class LoadingScene implements Screen {
     private float progress;
     /** The amount of time to devote to loading assets (as opposed to on screen hints, etc.) */
     private int   budget;
+    /** The largest budget that still leaves {@link #DRAW_RESERVE_MS} of a display interval */
+    private int   maxBudget;
+    /** Seconds between display refreshes */
+    private float frameInterval;
+    /** Decodes the main directory's images ahead of the asset manager, until loading finishes */
+    private TextureDecodePool decoder;
 
     /** Whether or not this player mode is still active */
     private boolean active;
@@ -134,7 +160,12 @@ public class LoadingScene implements Screen {
     private SpriteStripAnimation titleAnimation;
     private float titleAnimTime;
 
-    private SoundEffect buttonPress;
+    /** Layout slots: the menu buttons use their MENU_* index, followed by the title */
+    private static final int SLOT_TITLE = MENU_BUTTON_COUNT;
+    private final MenuLayout layout = new MenuLayout(MENU_BUTTON_COUNT + 1);
+
+    /** Sound handle for the button press, registered once the main assets are in */
+    private int buttonPressHandle = SoundPlayer.NO_SOUND;
 
     private BitmapFont menuFont;
     private Texture pixel;
@@ -177,6 +208,9 @@ public class LoadingScene implements Screen {
      * 6 milliseconds to do something else. This is how game companies animate
      * their loading screens.
      *
+     * While loading, the budget adapts to frame slack (see {@link #adaptBudget}),
+     * so this only sets where it starts.
+     *
      * @param millis the budget in milliseconds
      */
     public void setBudget(int millis) {
@@ -250,8 +284,18 @@ public class LoadingScene implements Screen {
     public LoadingScene(String file, SpriteBatch batch, CanvasRender viewport, int millis) {
         initBoot(batch, viewport, millis);
         progress = 0;
+        BootTrace.begin("loading", "Main assets");
         assets = new AssetDirectory(file);
+        BootTrace.traceLoads(assets);
+        decoder = new TextureDecodePool();
+        assets.setLoader(Texture.class, ".png",
+                new PrefetchingTextureLoader(assets.getFileHandleResolver(), decoder));
+        assets.addParser(new TextureAtlasParser());
+        assets.addParser(new BakedFontParser());
+        decoder.prefetch(file);
         assets.loadAssets();
+        // Trims the soundtrack while the assets load, so the title music rarely has to wait for it
+        MusicScheduler.getInstance().cacheTrimmedTracks();
         active = true;
     }
 
@@ -264,6 +308,7 @@ public class LoadingScene implements Screen {
         assets = preloadedMainAssets;
         progress = 1.0f;
         mainAssetsFinalized = true;
+        registerSounds();
         active = true;
     }
 
@@ -271,23 +316,33 @@ public class LoadingScene implements Screen {
         this.batch = batch;
         this.viewport = viewport;
         budget = millis;
+        int refresh = Gdx.graphics.getDisplayMode().refreshRate;
+        frameInterval = 1f / (refresh > 0 ? refresh : 60);
+        maxBudget = Math.max(1, (int) (frameInterval * 1000) - DRAW_RESERVE_MS);
 
+        long start = BootTrace.start();
         internal = new AssetDirectory("loading/boot.json");
+        BootTrace.traceLoads(internal);
+        internal.addParser(new BakedFontParser());
         internal.loadAssets();
         internal.finishLoading();
+        BootTrace.span("loading", "Boot assets", start);
 
-        constants = internal.getEntry("constants", JsonValue.class);
+        constants = BootKeys.Jsons.CONSTANTS.get(internal);
         resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
         try {
-            titleAnimation = SpriteStripAnimation.loadHorizontalStrip(
-                    Gdx.files.internal(TITLE_STRIP_INTERNAL),
+            titleAnimation = TextureRegistry.getInstance().acquireStrip(
+                    TITLE_STRIP_INTERNAL,
                     TITLE_FRAME_COUNT,
                     Texture.TextureFilter.Nearest,
                     TITLE_DEFAULT_FRAME_SEC);
         } catch (RuntimeException e) {
             Gdx.app.error("LoadingScene", "Could not load title sprite strip: " + TITLE_STRIP_INTERNAL, e);
         }
+        // The first layout ran before the title existed; the menu stack hangs off the title.
+        layout.invalidate();
+        layout();
 
         Pixmap pm = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
         pm.setColor(Color.WHITE);
@@ -295,7 +350,7 @@ public class LoadingScene implements Screen {
         pixel = new Texture(pm);
         pm.dispose();
 
-        menuFont = internal.getEntry("menu", BitmapFont.class);
+        menuFont = BootKeys.Fonts.MENU.get(internal);
         menuFont.getData().setScale(0.45f * CanvasRender.layoutScale());
         optionsStubLayout.setFont(menuFont);
         optionsStubLayout.setAlignment(TextAlign.middleCenter);
@@ -307,7 +362,7 @@ public class LoadingScene implements Screen {
      */
     public void dispose() {
         if (titleAnimation != null) {
-            titleAnimation.dispose();
+            TextureRegistry.getInstance().release(titleAnimation);
             titleAnimation = null;
         }
         if (pixel != null) {
@@ -315,6 +370,10 @@ public class LoadingScene implements Screen {
             pixel = null;
         }
         if (optionsOverlay != null) { optionsOverlay.dispose(); optionsOverlay = null; }
+        if (decoder != null) {
+            decoder.dispose();
+            decoder = null;
+        }
 
         internal.unloadAssets();
         internal.dispose();
@@ -331,6 +390,7 @@ public class LoadingScene implements Screen {
      */
     private void update(float delta) {
         if (progress < 1.0f) {
+            adaptBudget(delta);
             assets.update(budget);
             this.progress = assets.getProgress();
             if (progress >= 1.0f) {
@@ -340,16 +400,46 @@ public class LoadingScene implements Screen {
         if (progress >= 1.0f && !mainAssetsFinalized) {
             assets.finishLoading();
             mainAssetsFinalized = true;
+            registerSounds();
+            BootTrace.end("loading", "Main assets");
+            if (decoder != null) {
+                decoder.report();
+                decoder.dispose();
+                decoder = null;
+            }
             optionsOverlay = new GameplayOptionsOverlay(assets, batch, viewport);
             optionsOverlay.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
-            GameAudio.startTitleMusic(assets);
+            MusicScheduler.getInstance().play(MusicScheduler.TITLE);
+            BootTrace.instant("loading", "Title screen interactive");
+            if (Boolean.getBoolean(EXIT_AFTER_BOOT_PROPERTY)) {
+                GameLog.info("LoadingScene", "Title screen ready, exiting ({})", EXIT_AFTER_BOOT_PROPERTY);
+                Gdx.app.exit();
+            } else if (Playthrough.isEnabled()) {
+                notifyPlayPressed();
+            }
         }
         titleAnimTime += delta;
-        GameAudio.updateTitleMusic();
         updateMainMenu();
     }
 
+    /**
+     * Adapts the loading budget to the measured frame slack.
+     *
+     * Image decoding runs on worker threads, so the budget mostly covers GL uploads.
+     * While frames arrive on time the budget grows by a millisecond per frame, up to
+     * the display interval less {@link #DRAW_RESERVE_MS}. A late frame halves it.
+     *
+     * @param delta Number of seconds since last animation frame
+     */
+    private void adaptBudget(float delta) {
+        if (delta > frameInterval * LATE_FRAME) {
+            budget = Math.max(1, budget / 2);
+        } else {
+            budget = Math.min(maxBudget, budget + 1);
+        }
+    }
+
     private void updateMainMenu() {
         if (optionsOverlay != null && optionsOverlay.isOpen()) {
             optionsOverlay.update();
@@ -428,7 +518,7 @@ public class LoadingScene implements Screen {
         batch.begin(camera);
         batch.setColor( Color.WHITE );
 
-        Texture texture = internal.getEntry( "mainMenuBackground", Texture.class );
+        Texture texture = BootKeys.Textures.MAIN_MENU_BACKGROUND.get(internal);
         batch.draw(texture, 0, 0, width, height);
 
         drawTitle();
@@ -455,7 +545,7 @@ public class LoadingScene implements Screen {
      * middle to represent the amount of progress.
      */
     private void drawTitle() {
-        Rectangle r = computeTitleCanvasRect();
+        Rectangle r = layout.get(SLOT_TITLE);
         if (r.width <= 0f) {
             return;
         }
@@ -464,15 +554,30 @@ public class LoadingScene implements Screen {
         batch.draw(tr, r.x, r.y, r.width, r.height);
     }
 
+    /**
+     * Recomputes the title quad and menu buttons if the canvas size changed.
+     */
+    private void layout() {
+        if (!layout.isStale(width, height)) {
+            return;
+        }
+        layoutTitle(layout.set(SLOT_TITLE, 0, 0, 0, 0));
+        for (int i = 0; i < MENU_BUTTON_COUNT; i++) {
+            layoutMenuButton(i, layout.get(i));
+        }
+        layout.validate(width, height);
+    }
+
     /**
      * Title quad in canvas space (bottom-left origin, y-up), matching {@link #drawTitle()}.
-     * Width/height are zero if there is no title.
+     * Width/height are left at zero if there is no title. Every frame of the strip has the same
+     * size, so the first frame fixes the quad.
      */
-    private Rectangle computeTitleCanvasRect() {
+    private void layoutTitle(Rectangle out) {
         if (titleAnimation == null || titleAnimation.getFrameCount() == 0) {
-            return new Rectangle(0, 0, 0, 0);
+            return;
         }
-        TextureRegion tr = titleAnimation.getKeyFrame(titleAnimTime);
+        TextureRegion tr = titleAnimation.getKeyFrame(0f);
         float rw = Math.max(1, tr.getRegionWidth());
         float rh = Math.max(1, tr.getRegionHeight());
         float maxW = width * TITLE_MAX_WIDTH_FRAC;
@@ -491,15 +596,15 @@ public class LoadingScene implements Screen {
         if (drawH <= height) {
             y = MathUtils.clamp(y, 0f, height - drawH);
         }
-        return new Rectangle(x, y, drawW, drawH);
+        out.set(x, y, drawW, drawH);
     }
 
-    private Rectangle getMenuButtonBounds(int index) {
-        Texture ref = internal.getEntry("menuPlay", Texture.class);
+    private void layoutMenuButton(int index, Rectangle out) {
+        Texture ref = BootKeys.Textures.MENU_PLAY.get(internal);
         int tw = ref.getWidth();
         int th = ref.getHeight();
-        float layout = CanvasRender.layoutScale();
-        Rectangle titleR = computeTitleCanvasRect();
+        float scale = CanvasRender.layoutScale();
+        Rectangle titleR = layout.get(SLOT_TITLE);
         float panelCap = width * MENU_BUTTON_PANEL_MAX_WIDTH_FRAC;
         float maxW = panelCap;
         if (titleR.width > 1f) {
@@ -512,9 +617,9 @@ public class LoadingScene implements Screen {
         float s = maxW / tw;
         float bw = tw * s;
         float bh = th * s;
-        float gapBelowTitle = MENU_GAP_BELOW_TITLE * layout;
-        float gapBetween = MENU_GAP_BETWEEN * layout;
-        float nudgeDown = MENU_BUTTON_EXTRA_DOWN_REF * layout;
+        float gapBelowTitle = MENU_GAP_BELOW_TITLE * scale;
+        float gapBetween = MENU_GAP_BETWEEN * scale;
+        float nudgeDown = MENU_BUTTON_EXTRA_DOWN_REF * scale;
         float yPlay;
         float yOptions;
         float yQuit;
@@ -562,30 +667,25 @@ public class LoadingScene implements Screen {
         } else {
             y = yQuit;
         }
-        return new Rectangle(x, y, bw, bh);
+        out.set(x, y, bw, bh);
     }
 
     private int getHoveredMenuIndex() {
         viewport.screenToCanvas(Gdx.input.getX(), Gdx.input.getY(), pointer);
-        for (int i = 0; i < MENU_BUTTON_COUNT; i++) {
-            if (getMenuButtonBounds(i).contains(pointer.x, pointer.y)) {
-                return i;
-            }
-        }
-        return -1;
+        return layout.hit(pointer.x, pointer.y, MENU_PLAY, MENU_BUTTON_COUNT - 1);
     }
 
     private void drawMainMenu() {
-        Texture playTex = internal.getEntry("menuPlay", Texture.class);
-        Texture optionsTex = internal.getEntry("menuOptions", Texture.class);
-        Texture quitTex = internal.getEntry("menuQuit", Texture.class);
-        Texture focusRightTex = internal.getEntry("cameraFocusRight", Texture.class);
-        Texture focusLeftTex = internal.getEntry("cameraFocusLeft", Texture.class);
+        Texture playTex = BootKeys.Textures.MENU_PLAY.get(internal);
+        Texture optionsTex = BootKeys.Textures.MENU_OPTIONS.get(internal);
+        Texture quitTex = BootKeys.Textures.MENU_QUIT.get(internal);
+        Texture focusRightTex = BootKeys.Textures.CAMERA_FOCUS_RIGHT.get(internal);
+        Texture focusLeftTex = BootKeys.Textures.CAMERA_FOCUS_LEFT.get(internal);
 
 
         int mouseHover = getHoveredMenuIndex();
         for (int i = 0; i < MENU_BUTTON_COUNT; i++) {
-            Rectangle b = getMenuButtonBounds(i);
+            Rectangle b = layout.get(i);
             // Only the actual mouse position drives hover styling; keyboard focus uses default look.
             boolean hover = mouseHover == i;
             float tScale = hover ? 1f : MENU_MAIN_IDLE_SCALE;
@@ -628,34 +728,34 @@ public class LoadingScene implements Screen {
 
         // "3-patch" the background
         batch.setColor( Color.WHITE );
-        region1 = internal.getEntry( "progress.backleft", TextureRegion.class );
+        region1 = BootKeys.Regions.PROGRESS_BACKLEFT.get(internal);
         batch.draw(region1,cx-w/2, cy, scale*region1.getRegionWidth(), scale*region1.getRegionHeight());
 
-        region2 = internal.getEntry( "progress.backright", TextureRegion.class );
+        region2 = BootKeys.Regions.PROGRESS_BACKRIGHT.get(internal);
         batch.draw(region2,cx+w/2-scale*region2.getRegionWidth(), cy,
                 scale*region2.getRegionWidth(), scale*region2.getRegionHeight());
 
-        region3 = internal.getEntry( "progress.background", TextureRegion.class );
+        region3 = BootKeys.Regions.PROGRESS_BACKGROUND.get(internal);
         batch.draw(region3, cx-w/2+scale*region1.getRegionWidth(), cy,
                 w-scale*(region2.getRegionWidth()+region1.getRegionWidth()),
                 scale*region3.getRegionHeight());
 
         // "3-patch" the foreground
-        region1 = internal.getEntry( "progress.foreleft", TextureRegion.class );
+        region1 = BootKeys.Regions.PROGRESS_FORELEFT.get(internal);
         batch.draw(region1,cx-w/2, cy,scale*region1.getRegionWidth(), scale*region1.getRegionHeight());
 
         if (progress > 0) {
-            region2 = internal.getEntry( "progress.foreright", TextureRegion.class );
+            region2 = BootKeys.Regions.PROGRESS_FORERIGHT.get(internal);
             float span = progress*(w-scale*(region1.getRegionWidth()+region2.getRegionWidth()));
 
             batch.draw( region2,cx-w/2+scale*region1.getRegionWidth()+span, cy,
                     scale*region2.getRegionWidth(), scale*region2.getRegionHeight());
 
-            region3 = internal.getEntry( "progress.foreground", TextureRegion.class );
+            region3 = BootKeys.Regions.PROGRESS_FOREGROUND.get(internal);
             batch.draw(region3, cx-w/2+scale*region1.getRegionWidth(), cy,
                         span, scale*region3.getRegionHeight());
         } else {
-            region2 = internal.getEntry( "progress.foreright", TextureRegion.class );
+            region2 = BootKeys.Regions.PROGRESS_FORERIGHT.get(internal);
             batch.draw(region2, cx-w/2+scale*region1.getRegionWidth(), cy,
                     scale*region2.getRegionWidth(), scale*region2.getRegionHeight());
         }
@@ -703,18 +803,22 @@ public class LoadingScene implements Screen {
          } else {
             camera.setToOrtho( false, this.width, this.height  );
         }
+        layout();
         if (optionsOverlay != null) optionsOverlay.resize(width, height);
 
     }
 
+    /** Registers the menu sounds with the {@link SoundPlayer}; the main assets must be loaded. */
+    private void registerSounds() {
+        buttonPressHandle = SoundPlayer.getInstance().register(AssetKeys.Sounds.PLATFORM_BUTTON.get(assets),
+                SoundPlayer.UI, SoundPlayer.PRIORITY_NORMAL, 0f);
+    }
+
     /**
      * Plays button press
      */
     private void playButtonPress() {
-        buttonPress = assets.getEntry("platform-button", SoundEffect.class);
-        if (buttonPress != null) {
-            buttonPress.play(GameAudio.getSfxVolume());
-        }
+        SoundPlayer.getInstance().play(buttonPressHandle, GameAudio.getSfxVolume());
     }
 
     /**
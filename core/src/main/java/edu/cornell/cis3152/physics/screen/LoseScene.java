@@ -10,6 +10,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import edu.cornell.cis3152.physics.AssetKeys;
 import edu.cornell.cis3152.physics.CanvasRender;
 import edu.cornell.gdiac.graphics.SpriteBatch;
 import edu.cornell.gdiac.assets.AssetDirectory;
@@ -50,7 +51,7 @@ public class LoseScene implements Screen {
     public LoseScene(AssetDirectory assets, SpriteBatch batch, CanvasRender viewport) {
         this.viewport = viewport;
         this.batch = batch;
-        this.font = assets.getEntry("shared-nunito-extra-bold", BitmapFont.class);
+        this.font = AssetKeys.Fonts.SHARED_NUNITO_EXTRA_BOLD.get(assets);
         this.camera = new OrthographicCamera();
 
         Pixmap pm = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
@@ -0,0 +1,67 @@
+package edu.cornell.cis3152.physics.screen;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Retained geometry for a menu screen.
+ *
+ * <p>A menu owns one layout with a fixed number of slots (panel, buttons, arrows, ...), indexed by
+ * constants in the menu class. The menu fills the slots in a {@code layout()} method when
+ * {@link #isStale(int, int)} reports that the canvas size changed, and update and draw code only
+ * read them back, so hit-testing and rendering do no layout math and allocate nothing.
+ */
+final class MenuLayout {
+    private final Rectangle[] slots;
+    /** Canvas size the slots were computed for; -1 forces the first layout */
+    private int width = -1;
+    private int height = -1;
+
+    MenuLayout(int slotCount) {
+        slots = new Rectangle[slotCount];
+        for (int ii = 0; ii < slotCount; ii++) {
+            slots[ii] = new Rectangle();
+        }
+    }
+
+    /** Returns true if the slots must be recomputed for a canvas of this size. */
+    boolean isStale(int width, int height) {
+        return this.width != width || this.height != height;
+    }
+
+    /** Records that the slots now match a canvas of this size. */
+    void validate(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /** Forces the next {@link #isStale} check to return true (e.g. after a texture change). */
+    void invalidate() {
+        width = -1;
+        height = -1;
+    }
+
+    Rectangle get(int slot) {
+        return slots[slot];
+    }
+
+    Rectangle set(int slot, float x, float y, float w, float h) {
+        return slots[slot].set(x, y, w, h);
+    }
+
+    boolean contains(int slot, float x, float y) {
+        Rectangle r = slots[slot];
+        return r.width > 0f && r.contains(x, y);
+    }
+
+    /**
+     * Returns the first slot in {@code [first, last]} containing the point, or -1.
+     */
+    int hit(float x, float y, int first, int last) {
+        for (int ii = first; ii <= last; ii++) {
+            if (contains(ii, x, y)) {
+                return ii;
+            }
+        }
+        return -1;
+    }
+}
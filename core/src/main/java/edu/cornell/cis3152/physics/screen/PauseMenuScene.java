@@ -5,12 +5,14 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import edu.cornell.cis3152.physics.AssetKeys;
 import edu.cornell.cis3152.physics.CanvasRender;
+import edu.cornell.cis3152.physics.FrameScheduler;
+import edu.cornell.cis3152.physics.graphics.UiRegion;
 import edu.cornell.gdiac.assets.AssetDirectory;
 import edu.cornell.gdiac.graphics.SpriteBatch;
 import edu.cornell.gdiac.graphics.TextAlign;
@@ -25,6 +27,8 @@ public class PauseMenuScene implements Screen {
     public static final int RESTART = 1;
     public static final int QUIT = 2;
     public static final int HOW_TO_PLAY = 3;
+    /** Darkening of the level behind the menu; GameMode applies it when drawing the frozen level */
+    public static final float SCRIM_ALPHA = 0.55f;
 
     private static final int BTN_RESTART = 0;
     private static final int BTN_MENU = 1;
@@ -42,15 +46,14 @@ public class PauseMenuScene implements Screen {
     private SpriteBatch batch;
     private OrthographicCamera camera;
     private BitmapFont font;
-    private Texture pixel;
-    private final Texture pauseResume;
-    private final Texture pauseRestart;
-    private final Texture pauseHelp;
-    private final Texture pauseMenu;
-    private final Texture exitButton;
-
-    private final Texture pauseText;
-    private final Texture borderWooden;
+    private final TextureRegion pauseResume;
+    private final TextureRegion pauseRestart;
+    private final TextureRegion pauseHelp;
+    private final TextureRegion pauseMenu;
+    private final TextureRegion exitButton;
+
+    private final TextureRegion pauseText;
+    private final TextureRegion borderWooden;
     private boolean active;
 
     private int width;
@@ -88,28 +91,17 @@ public class PauseMenuScene implements Screen {
     public PauseMenuScene(AssetDirectory assets, SpriteBatch batch, CanvasRender viewport) {
         this.viewport = viewport;
         this.batch = batch;
-        this.font = assets.getEntry("shared-retro", BitmapFont.class);
-
-        this.pauseResume = assets.getEntry("shared-pause-resume", Texture.class);
-        this.pauseRestart = assets.getEntry("shared-pause-restart", Texture.class);
-        this.pauseHelp = assets.getEntry("shared-pause-help", Texture.class);
-        this.pauseMenu = assets.getEntry("shared-pause-menu", Texture.class);
-        this.pauseText = assets.getEntry("shared-pause-text", Texture.class);
-        this.exitButton = assets.getEntry("shared-exit-button-options", Texture.class);
-
-        this.borderWooden = assets.getEntry("shared-border-wooden", Texture.class);
-        for (Texture t : new Texture[] {pauseResume, pauseRestart, pauseHelp, pauseMenu}) {
-            if (t != null) {
-                t.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-            }
-        }
+        this.font = AssetKeys.Fonts.SHARED_RETRO.get(assets);
+
+        this.pauseResume = UiRegion.PAUSE_RESUME.get(assets);
+        this.pauseRestart = UiRegion.PAUSE_RESTART.get(assets);
+        this.pauseHelp = UiRegion.PAUSE_HELP.get(assets);
+        this.pauseMenu = UiRegion.PAUSE_MENU.get(assets);
+        this.pauseText = UiRegion.PAUSE_TEXT.get(assets);
+        this.exitButton = UiRegion.EXIT_BUTTON.get(assets);
+        this.borderWooden = UiRegion.BORDER_WOODEN.get(assets);
         this.camera = new OrthographicCamera();
 
-        Pixmap pm = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        pm.setColor(Color.WHITE);
-        pm.fill();
-        pixel = new Texture(pm);
-        pm.dispose();
         font.getData().setScale(0.5f * CanvasRender.layoutScale());
         titleLayout = new TextLayout();
         titleLayout.setFont(font);
@@ -123,7 +115,7 @@ public class PauseMenuScene implements Screen {
         resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
     }
 
-    private Texture textureForMenuIndex(int index) {
+    private TextureRegion regionForMenuIndex(int index) {
         return switch (index) {
             case BTN_RESTART -> pauseRestart;
             case BTN_MENU -> pauseMenu;
@@ -170,6 +162,8 @@ public class PauseMenuScene implements Screen {
         }
         update();
         draw();
+        // The menu and the frozen level under it only change on input.
+        FrameScheduler.getInstance().allowIdle(FrameScheduler.FOREVER);
     }
 
     private void update() {
@@ -228,10 +222,6 @@ public class PauseMenuScene implements Screen {
         viewport.apply();
         batch.begin(camera);
 
-        batch.setColor(new Color(0f, 0f, 0f, 0.55f));
-        batch.draw(pixel, 0, 0, width, height);
-
-
         drawMenuButtons(UI);
         drawExit();
 
@@ -252,9 +242,9 @@ public class PauseMenuScene implements Screen {
 
         if (pauseText != null) {
             float maxW = width * 0.3f;
-            float scale = maxW / pauseText.getWidth();
-            float tw = pauseText.getWidth() * scale;
-            float th = pauseText.getHeight() * scale;
+            float scale = maxW / pauseText.getRegionWidth();
+            float tw = pauseText.getRegionWidth() * scale;
+            float th = pauseText.getRegionHeight() * scale;
             batch.setColor(Color.WHITE);
             batch.draw(pauseText, (width - tw) / 2f, height * 0.7f, tw, th);
 
@@ -263,7 +253,7 @@ public class PauseMenuScene implements Screen {
         int mouseHover = getHoveredMenuIndex(UI);
         for (int i = 0; i < MENU_BUTTON_COUNT; i++) {
             Rectangle b = getMenuButtonBounds(i, UI);
-            Texture tex = textureForMenuIndex(i);
+            TextureRegion tex = regionForMenuIndex(i);
             if (tex == null) {
                 continue;
             }
@@ -290,7 +280,7 @@ public class PauseMenuScene implements Screen {
     }
 
     private Rectangle getMenuButtonBounds(int index, float UI) {
-        Texture tex = textureForMenuIndex(index);
+        TextureRegion tex = regionForMenuIndex(index);
         if (tex == null) {
             return new Rectangle(0, 0, 0, 0);
         }
@@ -300,9 +290,9 @@ public class PauseMenuScene implements Screen {
         float[] wArr = new float[MENU_BUTTON_COUNT];
         float totalH = 0f;
         for (int i = 0; i < MENU_BUTTON_COUNT; i++) {
-            Texture t = textureForMenuIndex(i);
-            float tw = t != null ? t.getWidth() : 1;
-            float th = t != null ? t.getHeight() : 1;
+            TextureRegion t = regionForMenuIndex(i);
+            float tw = t != null ? t.getRegionWidth() : 1;
+            float th = t != null ? t.getRegionHeight() : 1;
             float s = maxW / Math.max(1f, tw);
             wArr[i] = tw * s;
             hArr[i] = th * s;
@@ -332,7 +322,7 @@ public class PauseMenuScene implements Screen {
     private Rectangle getExitBounds() {
         Rectangle panel = getPanelBounds();
         float ew = panel.width * EXIT_W_FRAC;
-        float eh = (exitButton != null) ? ew * exitButton.getHeight() / Math.max(1, exitButton.getWidth()) : ew;
+        float eh = (exitButton != null) ? ew * exitButton.getRegionHeight() / Math.max(1, exitButton.getRegionWidth()) : ew;
         float ex = panel.x + panel.width - ew * 1.3f;
         float ey = panel.y + panel.height - eh * 0.9f;
         return new Rectangle(ex, ey, ew, eh);
@@ -367,6 +357,5 @@ public class PauseMenuScene implements Screen {
 
     @Override
     public void dispose() {
-        pixel.dispose();
     }
 }
@@ -1,6 +1,9 @@
 
 package edu.cornell.cis3152.physics.screen;
 
+import edu.cornell.cis3152.physics.AssetKeys;
+import edu.cornell.cis3152.physics.GameLog;
+import edu.cornell.cis3152.physics.graphics.CountingSpriteBatch;
 import java.util.Iterator;
 
 import com.badlogic.gdx.*;
@@ -252,7 +255,7 @@ public abstract class PhysicsScene implements Screen {
         bounds = new Rectangle(0,0,defaults.get("bounds").getFloat( 0 ), defaults.get("bounds").getFloat( 1 ));
         resize(Gdx.graphics.getWidth(),Gdx.graphics.getHeight());
 
-        displayFont = directory.getEntry( "shared-retro" ,BitmapFont.class);
+        displayFont = AssetKeys.Fonts.SHARED_RETRO.get(directory);
         goodMessage = new TextLayout();
         goodMessage.setFont( displayFont );
         goodMessage.setAlignment( TextAlign.middleCenter );
@@ -588,7 +591,13 @@ public abstract class PhysicsScene implements Screen {
                     postUpdate(delta);
                 }
             }
+            viewport.beginScene();
             draw(delta);
+            viewport.endScene(batch);
+            if (debug && batch instanceof CountingSpriteBatch counting) {
+                GameLog.info("PhysicsScene", "Frame: {} flushes, {} draw calls",
+                        counting.getFlushes(), counting.getDrawCalls());
+            }
         }
     }
 
@@ -7,9 +7,12 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import edu.cornell.cis3152.physics.AssetKeys;
 import edu.cornell.cis3152.physics.CanvasRender;
+import edu.cornell.cis3152.physics.graphics.UiRegion;
 import edu.cornell.gdiac.assets.AssetDirectory;
 import edu.cornell.gdiac.graphics.SpriteBatch;
 
@@ -38,21 +41,31 @@ public class WinScene implements Screen {
     private static final float BTN_Y_FRAC = 0.28f;
 
     private static final Color HOVER_TINT = new Color(0.75f, 0.75f, 0.75f, 1f);
+    private static final Color DIM_TINT = new Color(0f, 0f, 0f, 0.1f);
+
+    // Layout slots
+    private static final int SLOT_PANEL = 0;
+    private static final int SLOT_TITLE = 1;
+    private static final int SLOT_RESTART = 2;
+    private static final int SLOT_LEVELS = 3;
+    private static final int SLOT_NEXT = 4;
+    private static final int SLOT_LOTUS = 5;
+    private static final int SLOT_COUNT = SLOT_LOTUS + 3;
 
     private final CanvasRender viewport;
     private final SpriteBatch batch;
     private final OrthographicCamera camera;
     private final Texture pixel;
 
-    private final Texture borderWooden;
-    private final Texture ribbitText;
+    private final TextureRegion borderWooden;
+    private final TextureRegion ribbitText;
     private final Texture lotusOn;
     private final Texture lotusOff;
-    private final Texture btnRestart;
-    private final Texture btnLevels;
-    private final Texture btnNext;
-    private final Texture fly;
-    private final Texture polaroid;
+    private final TextureRegion btnRestart;
+    private final TextureRegion btnLevels;
+    private final TextureRegion btnNext;
+    private final TextureRegion fly;
+    private final TextureRegion polaroid;
 
     private boolean active;
     private int score = 0;
@@ -63,6 +76,7 @@ public class WinScene implements Screen {
 
     private int width;
     private int height;
+    private final MenuLayout layout = new MenuLayout(SLOT_COUNT);
 
     private int flyCount = 0;
     private int photosUsed = 0;
@@ -80,20 +94,20 @@ public class WinScene implements Screen {
         pixel = new Texture(pm);
         pm.dispose();
 
-        this.borderWooden = assets.getEntry("shared-full-border-wooden", Texture.class);
-        this.ribbitText = assets.getEntry("shared-ribbit-text", Texture.class);
-        this.lotusOn = assets.getEntry("shared-lotus", Texture.class);
-        this.lotusOff = assets.getEntry("shared-lily-gray", Texture.class);
-        this.btnRestart = assets.getEntry("shared-win-restart", Texture.class);
-        this.btnLevels = assets.getEntry("shared-win-levels", Texture.class);
-        this.btnNext = assets.getEntry("shared-win-next", Texture.class);
-        this.fly = assets.getEntry("shared-win-fly", Texture.class);
-        this.polaroid = assets.getEntry("shared-win-polaroid", Texture.class);
+        this.borderWooden = UiRegion.FULL_BORDER_WOODEN.get(assets);
+        this.ribbitText = UiRegion.RIBBIT_TEXT.get(assets);
+        this.lotusOn = AssetKeys.Textures.SHARED_LOTUS.get(assets);
+        this.lotusOff = AssetKeys.Textures.SHARED_LILY_GRAY.get(assets);
+        this.btnRestart = UiRegion.WIN_RESTART.get(assets);
+        this.btnLevels = UiRegion.WIN_LEVELS.get(assets);
+        this.btnNext = UiRegion.WIN_NEXT.get(assets);
+        this.fly = UiRegion.WIN_FLY.get(assets);
+        this.polaroid = UiRegion.WIN_POLAROID.get(assets);
         this.numbersBlack = new Texture[10];
         for (int i = 0; i < 10; i++) {
-            this.numbersBlack[i] = assets.getEntry("numbers-B" + i, Texture.class);
+            this.numbersBlack[i] = AssetKeys.Textures.NUMBERS_B.get(i).get(assets);
         }
-        setNearestFilter(borderWooden, ribbitText, lotusOn, lotusOff, btnRestart, btnLevels, btnNext);
+        setNearestFilter(lotusOn, lotusOff);
 
         resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
     }
@@ -131,6 +145,46 @@ public class WinScene implements Screen {
         this.width = (int) viewport.getWidth();
         this.height = (int) viewport.getHeight();
         camera.setToOrtho(false, this.width, this.height);
+        layout();
+    }
+
+    /** Recomputes the retained layout if the canvas size changed. */
+    private void layout() {
+        if (!layout.isStale(width, height)) {
+            return;
+        }
+        float pw = width * PANEL_W_FRAC;
+        float ph = height * PANEL_H_FRAC;
+        Rectangle panel = layout.set(SLOT_PANEL, (width - pw) / 2f, (height - ph) / 2f, pw, ph);
+
+        if (ribbitText != null) {
+            float maxW = panel.width * TITLE_MAX_W_FRAC;
+            float scale = maxW / ribbitText.getRegionWidth();
+            float tw = ribbitText.getRegionWidth() * scale;
+            float th = ribbitText.getRegionHeight() * scale;
+            float tx = panel.x + (panel.width - tw) / 2f;
+            float ty = panel.y + panel.height - panel.height * TITLE_TOP_INSET_FRAC - th;
+            layout.set(SLOT_TITLE, tx, ty, tw, th);
+        }
+
+        float lotusSize = panel.width * LOTUS_SIZE_FRAC;
+        float lotusGap = panel.width * LOTUS_GAP_FRAC;
+        float lotusTotalW = 3 * lotusSize + 2 * lotusGap;
+        float lotusStartX = panel.x + (panel.width - lotusTotalW) / 2f;
+        float lotusY = panel.y + panel.height * LOTUS_Y_FRAC - lotusSize / 2f;
+        for (int i = 0; i < 3; i++) {
+            layout.set(SLOT_LOTUS + i, lotusStartX + i * (lotusSize + lotusGap), lotusY, lotusSize, lotusSize);
+        }
+
+        float btnSize = panel.width * BTN_SIZE_FRAC * 0.5f;
+        float btnGap = panel.width * BTN_GAP_FRAC;
+        float btnTotalW = 3 * btnSize + 2 * btnGap;
+        float btnStartX = panel.x + (panel.width - btnTotalW) / 2f;
+        float btnY = panel.y + panel.height * BTN_Y_FRAC - btnSize / 2f;
+        for (int i = 0; i < 3; i++) {
+            layout.set(SLOT_RESTART + i, btnStartX + i * (btnSize + btnGap), btnY, btnSize, btnSize);
+        }
+        layout.validate(width, height);
     }
 
     @Override
@@ -144,12 +198,11 @@ public class WinScene implements Screen {
         viewport.screenToCanvas(Gdx.input.getX(), Gdx.input.getY(), pointer);
 
         if (clickPressed && !clickPrev) {
-            if (getRestartBounds().contains(pointer.x, pointer.y)) {
-                chosenOption = RESTART;
-            } else if (getLevelsBounds().contains(pointer.x, pointer.y)) {
-                chosenOption = QUIT;
-            } else if (getNextBounds().contains(pointer.x, pointer.y)) {
-                chosenOption = NEXT_LEVEL;
+            switch (layout.hit(pointer.x, pointer.y, SLOT_RESTART, SLOT_NEXT)) {
+                case SLOT_RESTART -> chosenOption = RESTART;
+                case SLOT_LEVELS -> chosenOption = QUIT;
+                case SLOT_NEXT -> chosenOption = NEXT_LEVEL;
+                default -> { /* ignore */ }
             }
         }
 
@@ -161,11 +214,11 @@ public class WinScene implements Screen {
         viewport.apply();
         batch.begin(camera);
 
-        batch.setColor(new Color(0f, 0f, 0f, 0.1f));
+        batch.setColor(DIM_TINT);
         batch.draw(pixel, 0, 0, width, height);
         batch.setColor(Color.WHITE);
 
-        Rectangle panel = getPanelBounds();
+        Rectangle panel = layout.get(SLOT_PANEL);
         batch.draw(borderWooden, panel.x, panel.y, panel.width, panel.height);
 
         drawTitle(panel);
@@ -181,30 +234,18 @@ public class WinScene implements Screen {
 
     private void drawTitle(Rectangle panel) {
         if (ribbitText == null) return;
-        float maxW = panel.width * TITLE_MAX_W_FRAC;
-        float scale = maxW / ribbitText.getWidth();
-        float tw = ribbitText.getWidth() * scale;
-        float th = ribbitText.getHeight() * scale;
-        float tx = panel.x + (panel.width - tw) / 2f;
-        float ty = panel.y + panel.height - panel.height * TITLE_TOP_INSET_FRAC - th;
+        Rectangle t = layout.get(SLOT_TITLE);
         batch.setColor(Color.WHITE);
-        batch.draw(ribbitText, tx, ty, tw, th);
+        batch.draw(ribbitText, t.x, t.y, t.width, t.height);
     }
 
     private void drawLotus(Rectangle panel) {
-        float lotusSize = panel.width * LOTUS_SIZE_FRAC;
-        float lotusGap = panel.width * LOTUS_GAP_FRAC;
-        float totalW = 3 * lotusSize + 2 * lotusGap;
-        float startX = panel.x + (panel.width - totalW) / 2f;
-        float cy = panel.y + panel.height * LOTUS_Y_FRAC;
-
         for (int i = 0; i < 3; i++) {
-            float sx = startX + i * (lotusSize + lotusGap);
-            float sy = cy - lotusSize / 2f;
             Texture t = (i < score) ? lotusOn : lotusOff;
             if (t != null) {
+                Rectangle r = layout.get(SLOT_LOTUS + i);
                 batch.setColor(Color.WHITE);
-                batch.draw(t, sx, sy, lotusSize, lotusSize);
+                batch.draw(t, r.x, r.y, r.width, r.height);
             }
         }
     }
@@ -212,16 +253,12 @@ public class WinScene implements Screen {
     private void drawButtons(Rectangle panel) {
         viewport.screenToCanvas(Gdx.input.getX(), Gdx.input.getY(), pointer);
 
-        Rectangle rb = getRestartBounds();
-        Rectangle lb = getLevelsBounds();
-        Rectangle nb = getNextBounds();
-
-        drawBtn(btnRestart, rb);
-        drawBtn(btnLevels, lb);
-        drawBtn(btnNext, nb);
+        drawBtn(btnRestart, layout.get(SLOT_RESTART));
+        drawBtn(btnLevels, layout.get(SLOT_LEVELS));
+        drawBtn(btnNext, layout.get(SLOT_NEXT));
     }
 
-    private void drawBtn(Texture tex, Rectangle b) {
+    private void drawBtn(TextureRegion tex, Rectangle b) {
         if (tex == null) return;
         boolean hov = b.contains(pointer.x, pointer.y);
         batch.setColor(hov ? HOVER_TINT : Color.WHITE);
@@ -230,28 +267,6 @@ public class WinScene implements Screen {
     }
 
 
-    private Rectangle getPanelBounds() {
-        float pw = width * PANEL_W_FRAC;
-        float ph = height * PANEL_H_FRAC;
-        return new Rectangle((width - pw) / 2f, (height - ph) / 2f, pw, ph);
-    }
-
-    private Rectangle getRestartBounds() { return getButtonBounds(0); }
-    private Rectangle getLevelsBounds() { return getButtonBounds(1); }
-    private Rectangle getNextBounds() { return getButtonBounds(2); }
-
-    private Rectangle getButtonBounds(int index) {
-        Rectangle panel = getPanelBounds();
-        float btnSize = panel.width * BTN_SIZE_FRAC * 0.5f;
-        float btnGap = panel.width * BTN_GAP_FRAC;
-        float totalW = 3 * btnSize + 2 * btnGap;
-        float startX = panel.x + (panel.width - totalW) / 2f;
-        float cy = panel.y + panel.height * BTN_Y_FRAC;
-        float bx = startX + index * (btnSize + btnGap);
-        float by = cy - btnSize / 2f;
-        return new Rectangle(bx, by, btnSize, btnSize);
-    }
-
     private static void setNearestFilter(Texture... textures) {
         for (Texture t : textures) {
             if (t != null) {
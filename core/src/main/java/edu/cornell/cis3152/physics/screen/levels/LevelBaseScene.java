@@ -18,18 +18,21 @@ import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.ObjectSet;
+import edu.cornell.cis3152.physics.AssetKey;
+import edu.cornell.cis3152.physics.AssetKeys;
 import edu.cornell.cis3152.physics.graphics.SpriteStripAnimation;
+import edu.cornell.cis3152.physics.graphics.TextureRegistry;
 import edu.cornell.cis3152.physics.world.FlyCollectible;
-import java.util.ArrayList;
 import edu.cornell.cis3152.physics.CanvasRender;
+import edu.cornell.cis3152.physics.GameLog;
 import edu.cornell.cis3152.physics.GameAudio;
 import edu.cornell.cis3152.physics.InputController;
+import edu.cornell.cis3152.physics.SoundPlayer;
 import edu.cornell.cis3152.physics.screen.PhysicsScene;
 import edu.cornell.cis3152.physics.screen.WorldState;
 import edu.cornell.cis3152.physics.world.*;
 import edu.cornell.gdiac.assets.AssetDirectory;
 import edu.cornell.gdiac.audio.SoundEffect;
-import edu.cornell.gdiac.audio.SoundEffectManager;
 import edu.cornell.gdiac.graphics.SpriteBatch;
 import edu.cornell.gdiac.physics2.ObstacleSprite;
 import java.util.List;
@@ -57,18 +60,14 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
     private static final float UI = CanvasRender.layoutScale();
     private static final float CAMERA_ZOOM = 0.75f;
     private static final float PULLEY_ROPE_WHEEL_INSET = 2.0f / 16.0f;
-    private static final String[] PARALLAX_TEXTURE_KEYS = {
-            "shared-parallax-demon-woods-bg",
-            "shared-parallax-demon-woods-far-trees",
-            "shared-parallax-demon-woods-mid-trees",
-            "shared-parallax-demon-woods-close-trees"
-    };
-    private static final String[] PARALLAX_TEXTURE_PATHS = {
-            "shared/parallax-demon-woods-bg.png",
-            "shared/parallax-demon-woods-far-trees.png",
-            "shared/parallax-demon-woods-mid-trees.png",
-            "shared/parallax-demon-woods-close-trees.png"
-    };
+    /** Fly line-of-sight sample points as (x, y) multiples of the half sample spread: centre then corners. */
+    private static final float[] FLY_SAMPLE_OFFSETS = { 0, 0, -1, -1, 1, -1, -1, 1, 1, 1 };
+    private static final List<AssetKey<Texture>> PARALLAX_TEXTURE_KEYS = List.of(
+            AssetKeys.Textures.SHARED_PARALLAX_DEMON_WOODS_BG,
+            AssetKeys.Textures.SHARED_PARALLAX_DEMON_WOODS_FAR_TREES,
+            AssetKeys.Textures.SHARED_PARALLAX_DEMON_WOODS_MID_TREES,
+            AssetKeys.Textures.SHARED_PARALLAX_DEMON_WOODS_CLOSE_TREES
+    );
     private static final float PARALLAX_SCALE = 2.0f;
     private static final float[] PARALLAX_SPEEDS = {0.025f, 0.09f, 0.16f, 0.26f};
     private static final float CLOUD_SCROLL_SPEED = 7.5f;
@@ -103,6 +102,13 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
     private SoundEffect tongueSound;
     /** The default sound volume */
     private float volume;
+    /** {@link SoundPlayer} handles, assigned with the sounds above; no initializers, as that can run from the superclass constructor */
+    private int walkHandle;
+    private int hoverHandle;
+    private int deathHandle;
+    private int portalEnterHandle;
+    private int zukoEnterHandle;
+    private int tongueHandle;
 
     /** Reference to the character avatar */
     private Zuko avatar;
@@ -134,6 +140,19 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
     private SpriteStripAnimation sparkleFlyAnim;
     private SpriteStripAnimation iceAnim;
 
+    /** Set by {@link #flyRayCallback} when a solid fixture blocks the current fly ray. */
+    private boolean flyRayBlocked;
+    /** Reused for every fly line-of-sight ray so the per-frame check does not allocate. */
+    private final RayCastCallback flyRayCallback = (fixture, point, normal, fraction) -> {
+        if (fixture.isSensor()) return -1f;
+        if (fixture.getBody().getUserData() == avatar) return -1f;
+        flyRayBlocked = true;
+        return 0f;
+    };
+    /** Pulley rope polyline (left carry, left top, right top, right carry), rewritten every step. */
+    private final Vector2[] ropePath = { new Vector2(), new Vector2(), new Vector2(), new Vector2() };
+    private final float[] ropeSegmentLengths = new float[3];
+
     private float gooAnimPhaseTimer;
     private int gooAnimCycle;
     /** From {@code constants.json} {@code goo.frame_duration_sec}. */
@@ -188,27 +207,37 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
             sensorFixtures = new ObjectSet<Fixture>();
         }
         if (jumpSound == null) {
-            jumpSound = directory.getEntry("platform-jump", SoundEffect.class);
-            fireSound = directory.getEntry("platform-pew", SoundEffect.class);
-            plopSound = directory.getEntry("platform-plop", SoundEffect.class);
-            hoverSound = directory.getEntry("platform-hover", SoundEffect.class);
-            deathSound = directory.getEntry("platform-death", SoundEffect.class);
-            portalEnterSound = directory.getEntry("platform-portalenter", SoundEffect.class);
-            zukoEnterSound = directory.getEntry("platform-zukoenter", SoundEffect.class);
-            tongueSound = directory.getEntry("platform-tongue", SoundEffect.class);
+            jumpSound = AssetKeys.Sounds.PLATFORM_JUMP.get(directory);
+            fireSound = AssetKeys.Sounds.PLATFORM_PEW.get(directory);
+            plopSound = AssetKeys.Sounds.PLATFORM_PLOP.get(directory);
+            hoverSound = AssetKeys.Sounds.PLATFORM_HOVER.get(directory);
+            deathSound = AssetKeys.Sounds.PLATFORM_DEATH.get(directory);
+            portalEnterSound = AssetKeys.Sounds.PLATFORM_PORTALENTER.get(directory);
+            zukoEnterSound = AssetKeys.Sounds.PLATFORM_ZUKOENTER.get(directory);
+            tongueSound = AssetKeys.Sounds.PLATFORM_TONGUE.get(directory);
             volume = constants.getFloat("volume", 0.35f);
+
+            SoundPlayer player = SoundPlayer.getInstance();
+            walkHandle = player.register(jumpSound, SoundPlayer.MOVEMENT, SoundPlayer.PRIORITY_LOW, 0.2f);
+            hoverHandle = player.register(hoverSound, SoundPlayer.UI, SoundPlayer.PRIORITY_LOW, 0.05f);
+            tongueHandle = player.register(tongueSound, SoundPlayer.ACTION, SoundPlayer.PRIORITY_NORMAL, 0f);
+            deathHandle = player.register(deathSound, SoundPlayer.CUE, SoundPlayer.PRIORITY_HIGH, 0f);
+            portalEnterHandle = player.register(portalEnterSound, SoundPlayer.CUE, SoundPlayer.PRIORITY_HIGH, 0f);
+            zukoEnterHandle = player.register(zukoEnterSound, SoundPlayer.CUE, SoundPlayer.PRIORITY_HIGH, 0f);
         }
         if (parallaxTextures == null) {
-            parallaxTextures = new Texture[PARALLAX_TEXTURE_KEYS.length];
+            parallaxTextures = new Texture[PARALLAX_TEXTURE_KEYS.size()];
             for (int ii = 0; ii < parallaxTextures.length; ii++) {
-                parallaxTextures[ii] = requireTexture(PARALLAX_TEXTURE_KEYS[ii], PARALLAX_TEXTURE_PATHS[ii]);
+                parallaxTextures[ii] = requireTexture(PARALLAX_TEXTURE_KEYS.get(ii));
+                // Layers tile horizontally through UV wrap rather than repeated quads.
+                parallaxTextures[ii].setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
             }
         }
         if (settingsIconTexture == null) {
-            settingsIconTexture = requireTexture("platform-settings", "platform/settings_icon.png");
+            settingsIconTexture = requireTexture(AssetKeys.Textures.PLATFORM_SETTINGS);
         }
         if (pauseIconTexture == null) {
-            pauseIconTexture = requireTexture("platform-pause", "platform/pause_icon.png");
+            pauseIconTexture = requireTexture(AssetKeys.Textures.PLATFORM_PAUSE);
         }
         if (markerPixel == null) {
             Pixmap markerPixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
@@ -218,7 +247,7 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
             markerPixmap.dispose();
         }
         if (inventoryTexture == null) {
-            inventoryTexture = requireTexture("shared-inventory", "shared/inventory.png");
+            inventoryTexture = requireTexture(AssetKeys.Textures.SHARED_INVENTORY);
         }
 
         if (levelPopulation == null) {
@@ -245,29 +274,29 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
             }
             if (sparkleFlyAnim == null) {
                 try {
-                    sparkleFlyAnim = SpriteStripAnimation.loadSquareStrip(
-                            Gdx.files.internal("frogtographer_sparklefly_anim-sheet.png"),
-                            1f / 8f,
-                            Texture.TextureFilter.Nearest);
+                    sparkleFlyAnim = TextureRegistry.getInstance().acquireStrip(
+                            "frogtographer_sparklefly_anim-sheet.png", 0,
+                            Texture.TextureFilter.Nearest,
+                            1f / 8f);
                 } catch (Exception e) {
                     Gdx.app.error("LevelBaseScene", "Could not load sparkle fly sprite sheet", e);
                 }
             }
             if (iceAnim == null) {
                 try {
-                    iceAnim = SpriteStripAnimation.loadSquareStrip(
-                            Gdx.files.internal("platform/ice_anim.png"),
-                            1f / 3f,
-                            Texture.TextureFilter.Nearest);
+                    iceAnim = TextureRegistry.getInstance().acquireStrip(
+                            "platform/ice_anim.png", 0,
+                            Texture.TextureFilter.Nearest,
+                            1f / 3f);
                 } catch (Exception e) {
                     Gdx.app.error("LevelBaseScene", "Could not load ice animation", e);
                 }
             }
             if (lilyFlowerTexture == null){
-                lilyFlowerTexture = requireTexture("shared-lotus", "shared/lilyflower.png");
+                lilyFlowerTexture = requireTexture(AssetKeys.Textures.SHARED_LOTUS);
             }
             if (lilyFlowerGrayTexture == null){
-                lilyFlowerGrayTexture = requireTexture("shared-lily-gray", "shared/lilyflower_gray.png");
+                lilyFlowerGrayTexture = requireTexture(AssetKeys.Textures.SHARED_LILY_GRAY);
             }
 
             renderer = new LevelRenderer(
@@ -289,29 +318,27 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
         Obj[] vals = Obj.values();
         Texture[][] m = new Texture[vals.length][vals.length];
         m[Obj.CLOUD.ordinal()][Obj.HONEY.ordinal()] =
-                requireTexture("platform-picture-cloud-with-honey", "platform/picture_cloud_with_honey.png");
+                requireTexture(AssetKeys.Textures.PLATFORM_PICTURE_CLOUD_WITH_HONEY);
         m[Obj.CLOUD.ordinal()][Obj.ICE.ordinal()] =
-                requireTexture("platform-picture-cloud-with-ice", "platform/picture_cloud_with_ice.png");
+                requireTexture(AssetKeys.Textures.PLATFORM_PICTURE_CLOUD_WITH_ICE);
         m[Obj.HONEY.ordinal()][Obj.CLOUD.ordinal()] =
-                requireTexture("platform-picture-honey-with-cloud", "platform/picture_honey_with_cloud.png");
+                requireTexture(AssetKeys.Textures.PLATFORM_PICTURE_HONEY_WITH_CLOUD);
         m[Obj.HONEY.ordinal()][Obj.ICE.ordinal()] =
-                requireTexture("platform-picture-honey-with-ice", "platform/picture_honey_with_ice.png");
+                requireTexture(AssetKeys.Textures.PLATFORM_PICTURE_HONEY_WITH_ICE);
         m[Obj.ICE.ordinal()][Obj.CLOUD.ordinal()] =
-                requireTexture("platform-picture-ice-with-cloud", "platform/picture_ice_with_cloud.png");
+                requireTexture(AssetKeys.Textures.PLATFORM_PICTURE_ICE_WITH_CLOUD);
         m[Obj.ICE.ordinal()][Obj.HONEY.ordinal()] =
-                requireTexture("platform-picture-ice-with-honey", "platform/picture_ice_with_honey.png");
+                requireTexture(AssetKeys.Textures.PLATFORM_PICTURE_ICE_WITH_HONEY);
         return m;
     }
 
     /**
-     * Resolves a texture from the asset directory, with a direct file fallback for
-     * cases where the manifest key is temporarily out of sync.
+     * Resolves a level texture from the asset directory and sets it to nearest filtering with
+     * clamped edges. The build checks every key against assets.json, so a missing entry means the
+     * directory did not load and is an error.
      */
-    private Texture requireTexture(String key, String fallbackPath) {
-        Texture texture = directory.getEntry(key, Texture.class);
-        if (texture == null) {
-            texture = new Texture(Gdx.files.internal(fallbackPath));
-        }
+    private Texture requireTexture(AssetKey<Texture> key) {
+        Texture texture = key.get(directory);
         texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
         texture.setWrap(Texture.TextureWrap.ClampToEdge, Texture.TextureWrap.ClampToEdge);
 
@@ -338,9 +365,7 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
     protected void drawBackground(SpriteBatch batch) {
         drawParallaxBackground(batch);
         if (renderer != null && levelData != null) {
-            renderer.drawVines(batch, levelData);
-            renderer.drawLevelTiles(batch, levelData);
-            renderer.drawEnv(batch, levelData);
+            renderer.drawTileLayers(batch, camera);
         }
     }
 
@@ -348,6 +373,11 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
     protected void drawForeground(SpriteBatch batch) {
     }
 
+    /**
+     * Draws each parallax layer as one quad covering the visible area. The layer textures use
+     * {@link Texture.TextureWrap#Repeat}, so horizontal tiling and scrolling are expressed purely
+     * through the quad's UVs; cost is four draws regardless of zoom or level width.
+     */
     private void drawParallaxBackground(SpriteBatch batch) {
         if (parallaxTextures == null || camera == null) {
             return;
@@ -373,20 +403,13 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
             float xScroll = scrollX * PARALLAX_SPEEDS[ii] + (ii == 3 ? timeElapsed * CLOUD_SCROLL_SPEED : 0f);
             float xOffset = positiveMod(xScroll, layerWidth);
             float yOffset = positiveMod(scrollY * PARALLAX_VERTICAL_SPEEDS[ii], layerHeight);
-            float startX = visibleLeft - xOffset;
-            float startY = visibleBottom - yOffset;
 
-            while (startX > visibleLeft) {
-                startX -= layerWidth;
-            }
-            while (startY > visibleBottom) {
-                startY -= layerHeight;
-            }
-            for (float y = startY; y < visibleBottom + visibleHeight; y += layerHeight) {
-                for (float x = startX; x < visibleLeft + visibleWidth; x += layerWidth) {
-                    batch.draw(texture, x, y, layerWidth, layerHeight);
-                }
-            }
+            // (u, v) is the bottom-left corner; v runs top-down in texture space.
+            float u = xOffset / layerWidth;
+            float u2 = u + visibleWidth / layerWidth;
+            float v = 1f - yOffset / layerHeight;
+            float v2 = v - visibleHeight / layerHeight;
+            batch.draw(texture, visibleLeft, visibleBottom, visibleWidth, visibleHeight, u, v, u2, v2);
         }
     }
 
@@ -510,6 +533,7 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
             currentLevel = 1;
         }
         levelData = levelPopulation.populate(currentLevel, units, worldState, world);
+        renderer.prepareLevel(levelData);
         goalDoor = levelData.goalDoor;
         avatar = levelData.avatar;
         gooAnimPhaseTimer = 0f;
@@ -656,9 +680,9 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
                 && mouse.x >= settingsLeft && mouse.x <= settingsRight
                 && mouse.y >= (pauseTop - pauseHit) && mouse.y <= pauseTop;
         if (settingsIconHovered && !worldState.wasSettingsIconHovered())
-            SoundEffectManager.getInstance().play("hover", hoverSound, GameAudio.effectiveSfxVolume(volume * 0.4f));
+            SoundPlayer.getInstance().play(hoverHandle, GameAudio.effectiveSfxVolume(volume * 0.4f));
         if (pauseIconHovered && !worldState.wasPauseIconHovered())
-            SoundEffectManager.getInstance().play("hover", hoverSound, GameAudio.effectiveSfxVolume(volume * 0.4f));
+            SoundPlayer.getInstance().play(hoverHandle, GameAudio.effectiveSfxVolume(volume * 0.4f));
         worldState.setSettingsIconHovered(settingsIconHovered);
         worldState.setSettingsIconWasHovered(settingsIconHovered);
         worldState.setPauseIconHovered(pauseIconHovered);
@@ -675,7 +699,7 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
             if (introTimer >= INTRO_HOLD + INTRO_PAN && !spawnSequenceActive) {
                 avatar.setDrawVisible(true);
                 avatar.startSpawnAnimation();
-                SoundEffectManager.getInstance().play("zuko-enter", zukoEnterSound, GameAudio.effectiveSfxVolume(volume * 0.5f));
+                SoundPlayer.getInstance().play(zukoEnterHandle, GameAudio.effectiveSfxVolume(volume * 0.5f));
                 spawnSequenceActive = true;
             }
             if (introTimer >= INTRO_TOTAL) {
@@ -736,7 +760,7 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
         InputController input = InputController.getInstance();
         if (spawnSequenceActive) {
             photoSystem.updateHighlights(avatar, sprites, world);
-            renderer.setInRangeFlies(new ArrayList<>(), new ArrayList<>());
+            renderer.clearInRangeFlies();
             photoSystem.applyLiftSprings(sprites);
             avatar.applyForce();
             return;
@@ -772,7 +796,7 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
             FlyCollectible clickedFly = findFlyUnderCrosshair(crosshair, units);
             if (clickedFly != null && flyInRange(clickedFly) && flyHasLineOfSight(clickedFly)) {
                 avatar.startTongueAnimation(clickedFly.getObstacle().getX(), clickedFly.getObstacle().getY());
-                tongueSound.play(GameAudio.getSfxVolume());
+                SoundPlayer.getInstance().play(tongueHandle, GameAudio.getSfxVolume());
                 pendingFlyCollection = clickedFly;
                 flyClicked = true;
             }
@@ -793,23 +817,19 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
 
         // Update in-range fly list. In-range flies suppress their own draw so the
         // sparkle animation in LevelRenderer is the sole visual for those flies.
-        ArrayList<FlyCollectible> inRangeFlies = new ArrayList<>();
-        ArrayList<float[]> inRangeFlyPositions = new ArrayList<>();
+        renderer.clearInRangeFlies();
         if (levelData != null) {
             for (FlyCollectible fly : levelData.flies) {
                 if (fly.isCollected()) continue;
                 boolean inRange = flyInRange(fly) && flyHasLineOfSight(fly);
                 fly.setInRange(inRange);
                 if (inRange) {
-                    inRangeFlies.add(fly);
-                    inRangeFlyPositions.add(new float[]{
+                    renderer.addInRangeFly(fly,
                         fly.getObstacle().getX() * scale.x,
-                        fly.getObstacle().getY() * scale.y
-                    });
+                        fly.getObstacle().getY() * scale.y);
                 }
             }
         }
-        renderer.setInRangeFlies(inRangeFlies, inRangeFlyPositions);
 
         photoSystem.applyLiftSprings(sprites);
         avatar.applyForce();
@@ -822,19 +842,19 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
                 && Math.abs(avatar.getObstacle().getVX()) > 0.1f
                 && !avatar.isJumping();
 
-        SoundEffectManager sounds = SoundEffectManager.getInstance();
+        SoundPlayer sounds = SoundPlayer.getInstance();
 
         if (isWalking) {
             // NEW: play immediately when walking starts
             if (!wasWalking) {
-                sounds.play("walk", jumpSound, GameAudio.effectiveSfxVolume(volume * 0.5f));
+                sounds.play(walkHandle, GameAudio.effectiveSfxVolume(volume * 0.5f));
                 walkSoundTimer = 0f;
             }
 
             walkSoundTimer += dt;
 
             if (walkSoundTimer >= WALK_SOUND_INTERVAL) {
-                sounds.play("walk", jumpSound, GameAudio.effectiveSfxVolume(volume * 0.5f));
+                sounds.play(walkHandle, GameAudio.effectiveSfxVolume(volume * 0.5f));
                 walkSoundTimer = 0f;
             }
         } else {
@@ -879,16 +899,11 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
         float tx = fly.getObstacle().getX();
         float ty = fly.getObstacle().getY();
         float half = FlyCollectible.FLY_SIZE * 0.4f;
-        Vector2[] samples = {
-            new Vector2(tx,        ty),
-            new Vector2(tx - half, ty - half),
-            new Vector2(tx + half, ty - half),
-            new Vector2(tx - half, ty + half),
-            new Vector2(tx + half, ty + half),
-        };
         int visible = 0;
-        for (Vector2 sample : samples) {
-            if (isPathToFlyClear(ox, oy, sample.x, sample.y)) {
+        for (int ii = 0; ii < FLY_SAMPLE_OFFSETS.length; ii += 2) {
+            float sx = tx + FLY_SAMPLE_OFFSETS[ii] * half;
+            float sy = ty + FLY_SAMPLE_OFFSETS[ii + 1] * half;
+            if (isPathToFlyClear(ox, oy, sx, sy)) {
                 if (++visible >= 3) return true;
             }
         }
@@ -896,14 +911,9 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
     }
 
     private boolean isPathToFlyClear(float ox, float oy, float tx, float ty) {
-        final boolean[] blocked = {false};
-        world.rayCast((fixture, point, normal, fraction) -> {
-            if (fixture.isSensor()) return -1f;
-            if (fixture.getBody().getUserData() == avatar) return -1f;
-            blocked[0] = true;
-            return 0f;
-        }, ox, oy, tx, ty);
-        return !blocked[0];
+        flyRayBlocked = false;
+        world.rayCast(flyRayCallback, ox, oy, tx, ty);
+        return !flyRayBlocked;
     }
 
     /**
@@ -924,25 +934,24 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
 
         Vector2 leftCarryPos = levelData.pulleyCarries.get(0).getObstacle().getPosition();
         Vector2 leftOffset = levelData.pulleyCarryAnchorOffsets.get(0);
-        Vector2 leftCarryAnchor = new Vector2(leftCarryPos.x + leftOffset.x, leftCarryPos.y + leftOffset.y);
+        ropePath[0].set(leftCarryPos.x + leftOffset.x, leftCarryPos.y + leftOffset.y);
 
         Vector2 rightCarryPos = levelData.pulleyCarries.get(1).getObstacle().getPosition();
         Vector2 rightOffset = levelData.pulleyCarryAnchorOffsets.get(1);
-        Vector2 rightCarryAnchor = new Vector2(rightCarryPos.x + rightOffset.x, rightCarryPos.y + rightOffset.y);
+        ropePath[3].set(rightCarryPos.x + rightOffset.x, rightCarryPos.y + rightOffset.y);
 
-        Vector2 leftTopAnchor = levelData.pulleyGroundAnchors.get(0);
-        Vector2 rightTopAnchor = levelData.pulleyGroundAnchors.get(1);
+        ropePath[1].set(levelData.pulleyGroundAnchors.get(0));
+        ropePath[2].set(levelData.pulleyGroundAnchors.get(1));
         if (!levelData.pulleyWheelCenters.isEmpty() && !levelData.pulleyWheelRadii.isEmpty()) {
             Vector2 wheelCenter = levelData.pulleyWheelCenters.get(0);
             float wheelRadius = levelData.pulleyWheelRadii.get(0);
             float ropeRadius = Math.max(0.0f, wheelRadius - PULLEY_ROPE_WHEEL_INSET);
             float ropeY = wheelCenter.y;
-            leftTopAnchor = new Vector2(wheelCenter.x - ropeRadius, ropeY);
-            rightTopAnchor = new Vector2(wheelCenter.x + ropeRadius, ropeY);
+            ropePath[1].set(wheelCenter.x - ropeRadius, ropeY);
+            ropePath[2].set(wheelCenter.x + ropeRadius, ropeY);
         }
 
-        Vector2[] ropePath = new Vector2[] { leftCarryAnchor, leftTopAnchor, rightTopAnchor, rightCarryAnchor };
-        float[] segmentLengths = new float[ropePath.length - 1];
+        float[] segmentLengths = ropeSegmentLengths;
         float totalLength = 0.0f;
         for (int ii = 0; ii < segmentLengths.length; ii++) {
             segmentLengths[ii] = ropePath[ii].dst(ropePath[ii + 1]);
@@ -999,7 +1008,7 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
                 if (!hazardTriggered && !pendingHazardRestart) {
                     hazardTriggered = true;
                     hazardTimer = 0f;
-                    deathSound.play(GameAudio.getSfxVolume());
+                    SoundPlayer.getInstance().play(deathHandle, GameAudio.getSfxVolume());
                     avatar.startDeathMeltAnimation();
                     avatar.setMovement(0f);
                     avatar.setJumping(false);
@@ -1026,7 +1035,7 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
                 }
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            GameLog.error("LevelBaseScene", "beginContact failed", e);
         }
     }
 
@@ -1081,6 +1090,52 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
         return dx <= centerHalfSpan && dy <= goalDoor.getSize();
     }
 
+    /** Playthrough only: takes and sticks a photo (see {@link PhotoSystem#playthroughPhoto}). */
+    public void playthroughPhoto() {
+        if (avatar != null) {
+            photoSystem.playthroughPhoto(avatar, sprites);
+        }
+    }
+
+    /**
+     * Scripted only: takes a photo and holds it, so the level draws in photo mode (see
+     * {@link PhotoSystem#holdPhoto}). Returns false if no photo could be taken.
+     */
+    public boolean holdPhoto() {
+        return avatar != null && photoSystem.holdPhoto(avatar, sprites) != null;
+    }
+
+    /** Scripted only: shows or hides the take and stick range rings, as the range key does. */
+    public void setShowRange(boolean showRange) {
+        worldState.setShowRange(showRange);
+    }
+
+    /**
+     * Scripted only: moves Zuko just beside the first fly not yet eaten and turns off his
+     * gravity, so the fly stays in range. Returns false if there is no such fly.
+     */
+    public boolean holdAvatarAtFly() {
+        if (avatar == null || levelData == null) {
+            return false;
+        }
+        for (FlyCollectible fly : levelData.flies) {
+            if (!fly.isCollected()) {
+                avatar.getObstacle().setPosition(fly.getObstacle().getX() - 0.5f, fly.getObstacle().getY());
+                avatar.stopMotion();
+                avatar.setGravityScale(0f);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Playthrough only: sends Zuko through the goal door wherever he is. */
+    public void playthroughWin() {
+        if (avatar != null && !isComplete()) {
+            triggerPortalEntry();
+        }
+    }
+
     private void triggerPortalEntry() {
         if (portalTriggered) return;
         portalTriggered = true;
@@ -1088,7 +1143,7 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
         avatar.setJumping(false);
         avatar.stopMotion();
         avatar.startPortalAnimation();
-        SoundEffectManager.getInstance().play("portal-enter", portalEnterSound, GameAudio.effectiveSfxVolume(volume * 0.5f));
+        SoundPlayer.getInstance().play(portalEnterHandle, GameAudio.effectiveSfxVolume(volume * 0.5f));
     }
 
     /**
@@ -1132,18 +1187,25 @@ public class LevelBaseScene extends PhysicsScene implements ContactListener {
     }
 
     public void pause() {
-        SoundEffectManager sounds = SoundEffectManager.getInstance();
-        sounds.stop("plop");
-        sounds.stop("fire");
-        sounds.stop("jump");
+        SoundPlayer sounds = SoundPlayer.getInstance();
+        sounds.stopCategory(SoundPlayer.ACTION);
+        sounds.stopCategory(SoundPlayer.MOVEMENT);
     }
 
     @Override
     public void dispose() {
+        if (renderer != null) {
+            renderer.dispose();
+        }
         if (markerPixel != null) {
             markerPixel.dispose();
             markerPixel = null;
         }
+        TextureRegistry registry = TextureRegistry.getInstance();
+        registry.release(sparkleFlyAnim);
+        registry.release(iceAnim);
+        sparkleFlyAnim = null;
+        iceAnim = null;
         super.dispose();
     }
 
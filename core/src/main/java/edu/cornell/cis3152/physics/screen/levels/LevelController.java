@@ -1,6 +1,9 @@
 package edu.cornell.cis3152.physics.screen.levels;
 import com.badlogic.gdx.utils.JsonValue;
+import edu.cornell.cis3152.physics.AssetKeys;
 import edu.cornell.cis3152.physics.CanvasRender;
+import edu.cornell.cis3152.physics.GameLog;
+import edu.cornell.cis3152.physics.Playthrough;
 import edu.cornell.cis3152.physics.screen.PhysicsScene;
 import edu.cornell.gdiac.assets.AssetDirectory;
 import edu.cornell.gdiac.graphics.SpriteBatch;
@@ -51,7 +54,8 @@ public class LevelController {
         totalLevels = countLevels(assets);
 
         loadLevel(currentLevel);
-        levelProgress = new LevelProgress(totalLevels, "assets/save_game.json", assets.getEntry("platform-constants", JsonValue.class));
+        String saveFile = Playthrough.isEnabled() ? Playthrough.SAVE_FILE : "assets/save_game.json";
+        levelProgress = new LevelProgress(totalLevels, saveFile, AssetKeys.Jsons.PLATFORM_CONSTANTS.get(assets));
     }
 
     /**
@@ -62,7 +66,7 @@ public class LevelController {
      * @return number of levels found
      */
     private static int countLevels(AssetDirectory assets) {
-        JsonValue constants = assets.getEntry("platform-constants", JsonValue.class);
+        JsonValue constants = AssetKeys.Jsons.PLATFORM_CONSTANTS.get(assets);
         int count = 0;
         while (constants.get("level" + (count + 1)) != null) {
             count++;
@@ -83,7 +87,7 @@ public class LevelController {
 
             currentScene = new LevelBaseScene(assets);
         } else {
-            System.out.println("no level");
+            GameLog.warn("LevelController", "No level {}", level);
             return;
         }
 
@@ -164,6 +168,7 @@ public class LevelController {
             currentScene.dispose();
             currentScene = null;
         }
+        levelProgress.dispose();
     }
 
 
@@ -11,6 +11,8 @@ import com.badlogic.gdx.physics.box2d.joints.PulleyJointDef;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonWriter;
+import edu.cornell.cis3152.physics.AssetKey;
+import edu.cornell.cis3152.physics.AssetKeys;
 import edu.cornell.cis3152.physics.screen.WorldState;
 import edu.cornell.cis3152.physics.world.*;
 import edu.cornell.gdiac.physics2.ObstacleSprite;
@@ -21,8 +23,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Builds all physics objects, terrain, and tiles for a given level number from JSON data.
@@ -34,7 +36,7 @@ class LevelPopulation {
 
     private static final int TILE_PX = 16;
     private static final float SPAWN_DROP_TILES = 0.0f;
-    private static final int GOO_FRAME_COUNT = 3;
+    private static final int GOO_FRAME_COUNT = AssetKeys.Textures.SHARED_GOO.size();
     /** Default if {@code constants.goo.surface_line_from_bottom} is absent (5px / 16px tile). */
     private static final float GOO_SURFACE_LINE_FROM_BOTTOM_DEFAULT = 5f / 16f;
     private static final float OBJECT_SIZE = 1.0f;
@@ -82,11 +84,11 @@ class LevelPopulation {
     float TERRAIN_BLOCK_SIZE = 1.5f;
 
     private final JsonValue constants;
-    private final BiFunction<String, String, Texture> textureResolver;
+    private final Function<AssetKey<Texture>, Texture> textureResolver;
     private final Consumer<ObstacleSprite> spriteAdder;
 
     LevelPopulation(JsonValue constants,
-                    BiFunction<String, String, Texture> textureResolver,
+                    Function<AssetKey<Texture>, Texture> textureResolver,
                     Consumer<ObstacleSprite> spriteAdder) {
         this.constants = constants;
         this.textureResolver = textureResolver;
@@ -104,23 +106,23 @@ class LevelPopulation {
         JsonValue objectLocations = level.get("objectLocations");
         JsonValue levelPlayerSettings = level.get("playerSettings");
 
-        Texture texture = textureResolver.apply("shared-goal", "platform/walltile.png");
+        Texture texture = textureResolver.apply(AssetKeys.Textures.SHARED_GOAL);
         JsonValue goal = objectLocations.get("goal");
         result.goalDoor = new Door(units, goal);
         result.goalDoor.setAnimatedTexture(texture);
         result.goalDoor.getObstacle().setName("goal");
         spriteAdder.accept(result.goalDoor);
 
-        Texture tilesetTexture = textureResolver.apply("platform-tileset", "platform/tileset.png");
+        Texture tilesetTexture = textureResolver.apply(AssetKeys.Textures.PLATFORM_TILESET);
         parseTileLayer(level.get("tilemap"), tilesetTexture, units, result.tileRegions, result.tilePositions);
 
-        Texture vinesTexture = textureResolver.apply("platform-vines", "platform/vines.png");
+        Texture vinesTexture = textureResolver.apply(AssetKeys.Textures.PLATFORM_VINES);
         parseTileLayer(level.get("vines"), vinesTexture, units, result.vineRegions, result.vinePositions);
 
-        Texture envTexture = textureResolver.apply("platform-env", "platform/env.png");
+        Texture envTexture = textureResolver.apply(AssetKeys.Textures.PLATFORM_ENV);
         parseTileLayer(level.get("env"), envTexture, units, result.envRegions, result.envPositions);
 
-        Texture borderTexture = textureResolver.apply("shared-wall", "shared/treetile.png");
+        Texture borderTexture = textureResolver.apply(AssetKeys.Textures.SHARED_WALL);
         JsonValue walls = level.get("walls");
         JsonValue wallPositions = walls.get("positions");
         for (int ii = 0; ii < wallPositions.size; ii++) {
@@ -139,7 +141,7 @@ class LevelPopulation {
             spriteAdder.accept(platform);
         }
 
-        Texture floorTexture = textureResolver.apply("shared-floor", "shared/floortile.png");
+        Texture floorTexture = textureResolver.apply(AssetKeys.Textures.SHARED_FLOOR);
         JsonValue floors = level.get("floors");
         if (floors != null) {
             JsonValue renderedFloors = buildScaledTileSettings(floors, FLOOR_TILE_SCALE);
@@ -155,16 +157,16 @@ class LevelPopulation {
         }
         addTilemapColliders(level, floors, units);
 
-        Texture zukoTexture  = textureResolver.apply("platform-traci",  "platform/traci.png");
-        Texture tongueSprite  = textureResolver.apply("platform-tonguesprite",  "platform/zukotonguetexture.png");
-        Texture walkSheet    = textureResolver.apply("platform-updatedwalk",   "platform/zukowalk.png");
-        Texture photoSheet   = textureResolver.apply("platform-camera", "platform/cameraflash.png");
-        Texture jumpSheet    = textureResolver.apply("platform-jumpupdated",   "platform/zukojumpupdated.png");
-        Texture tongueTexture =  textureResolver.apply("platform-tongue",   "platform/zukotonguechunk.png");
-        Texture deathMeltSheet = textureResolver.apply("platform-deathmelt",   "platform/zukodeathmelt.png");
-        Texture idleSheet = textureResolver.apply("platform-idle", "platform/zukoidle.png");
-        Texture portalSheet = textureResolver.apply("platform-portal", "platform/zukoportal.png");
-        Texture spawnSheet = textureResolver.apply("platform-spawn", "platform/zukospawn.png");
+        Texture zukoTexture  = textureResolver.apply(AssetKeys.Textures.PLATFORM_TRACI);
+        Texture tongueSprite  = textureResolver.apply(AssetKeys.Textures.PLATFORM_TONGUESPRITE);
+        Texture walkSheet    = textureResolver.apply(AssetKeys.Textures.PLATFORM_UPDATEDWALK);
+        Texture photoSheet   = textureResolver.apply(AssetKeys.Textures.PLATFORM_CAMERA);
+        Texture jumpSheet    = textureResolver.apply(AssetKeys.Textures.PLATFORM_UPDATEDJUMP);
+        Texture tongueTexture =  textureResolver.apply(AssetKeys.Textures.PLATFORM_TONGUE);
+        Texture deathMeltSheet = textureResolver.apply(AssetKeys.Textures.PLATFORM_DEATHMELT);
+        Texture idleSheet = textureResolver.apply(AssetKeys.Textures.PLATFORM_IDLE);
+        Texture portalSheet = textureResolver.apply(AssetKeys.Textures.PLATFORM_PORTAL);
+        Texture spawnSheet = textureResolver.apply(AssetKeys.Textures.PLATFORM_SPAWN);
 
 
         JsonValue posJson = level.get("objectLocations").get("zukoPos");
@@ -194,7 +196,7 @@ class LevelPopulation {
 
         float objectWidth = OBJECT_SIZE;
 
-        Texture honeyTexture = textureResolver.apply("platform-honey", "platform/honey.png");
+        Texture honeyTexture = textureResolver.apply(AssetKeys.Textures.PLATFORM_HONEY);
         float honeyHeight = objectWidth * ((float) honeyTexture.getHeight() / honeyTexture.getWidth());
         JsonValue honeyPositions = objectLocations.get("honey");
         for (int ii = 0; ii < honeyPositions.size; ii++) {
@@ -211,7 +213,7 @@ class LevelPopulation {
             result.honeys.add(honey);
         }
 
-        Texture iceTexture = textureResolver.apply("platform-ice", "platform/ice.png");
+        Texture iceTexture = textureResolver.apply(AssetKeys.Textures.PLATFORM_ICE);
         float iceHeight = objectWidth * ((float) iceTexture.getHeight() / iceTexture.getWidth());
         JsonValue icePositions = objectLocations.get("ice");
         for (int ii = 0; ii < icePositions.size; ii++) {
@@ -229,7 +231,7 @@ class LevelPopulation {
         }
 
         float cloudSize = OBJECT_SIZE;
-        Texture cloudTexture = textureResolver.apply("platform-cloud", "platform/cloud.png");
+        Texture cloudTexture = textureResolver.apply(AssetKeys.Textures.PLATFORM_CLOUD);
         JsonValue cloudPositions = objectLocations.get("cloud");
         float minCloudHeight = 1000;
         float maxCloudHeight = -1000;
@@ -264,7 +266,7 @@ class LevelPopulation {
             cloud.tintCloud(minCloudHeight, maxCloudHeight);
         }
 
-        Texture flyTexture = textureResolver.apply("shared-fly", "shared/frogtographer_flies_anim.png");
+        Texture flyTexture = textureResolver.apply(AssetKeys.Textures.SHARED_FLY);
         JsonValue flyPositions = objectLocations.get("fly");
         if (flyPositions != null) {
             for (int ii = 0; ii < flyPositions.size; ii++) {
@@ -331,10 +333,7 @@ class LevelPopulation {
 
         TextureRegion[] gooFrames = new TextureRegion[GOO_FRAME_COUNT];
         for (int f = 0; f < GOO_FRAME_COUNT; f++) {
-            Texture t = textureResolver.apply(
-                    "shared-goo-" + f,
-                    "shared/goo_" + f + ".png"
-            );
+            Texture t = textureResolver.apply(AssetKeys.Textures.SHARED_GOO.get(f));
             gooFrames[f] = new TextureRegion(t);
         }
         result.gooFrames = gooFrames;
@@ -422,7 +421,7 @@ class LevelPopulation {
         JsonValue pulleySettings = objectLocations.get("pulley_settings");
         JsonValue groundAnchorsJson = pulleySettings == null ? null : pulleySettings.get("groundAnchors");
 
-        Texture topTexture = textureResolver.apply("shared-pulley-top", "shared/pulley_top.png");
+        Texture topTexture = textureResolver.apply(AssetKeys.Textures.SHARED_PULLEY_TOP);
         JsonValue pulleyTop = objectLocations.get("pulley_top");
         readPulleyTopGeometry(result, pulleyTop);
 
@@ -431,7 +430,7 @@ class LevelPopulation {
             result.pulleyGroundAnchors.add(readVector(groundAnchorsJson.get(1)));
         }
 
-        Texture carryTexture = textureResolver.apply("shared-pulley-carry", "shared/pulley_carry.png");
+        Texture carryTexture = textureResolver.apply(AssetKeys.Textures.SHARED_PULLEY_CARRY);
         JsonValue pulleyCarries = objectLocations.get("pulley_carry");
         List<BoxSprite> carries = new ArrayList<>();
         List<Vector2> carryAnchors = new ArrayList<>();
@@ -477,7 +476,7 @@ class LevelPopulation {
             }
         }
 
-        Texture stringTexture = textureResolver.apply("shared-pulley-string", "shared/pulley_string.png");
+        Texture stringTexture = textureResolver.apply(AssetKeys.Textures.SHARED_PULLEY_STRING);
         JsonValue pulleyStrings = objectLocations.get("pulley_strings");
         if (pulleyStrings == null || pulleyStrings.size == 0) {
             addGeneratedPulleyRopeDecor(result, carryAnchors, units, stringTexture);
@@ -486,7 +485,7 @@ class LevelPopulation {
         }
         addPulleyTopDecor(pulleyTop, units, topTexture);
 
-        Texture blockTexture = textureResolver.apply("platform-rock", "platform/rock.png");
+        Texture blockTexture = textureResolver.apply(AssetKeys.Textures.PLATFORM_ROCK);
         JsonValue pulleyBlocks = objectLocations.get("pulley_block");
         if (pulleyBlocks != null) {
             for (int ii = 0; ii < pulleyBlocks.size; ii++) {
@@ -5,6 +5,9 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.JsonWriter;
+import edu.cornell.cis3152.physics.GameLog;
+
+import java.io.File;
 
 public class LevelProgress {
 
@@ -27,22 +30,54 @@ public class LevelProgress {
             goalPhotos = 3;
         }
 
+        /** Records a win, keeping the best result for each statistic. */
+        void merge(int photosUsed, int flyCount, float timeElapsed) {
+            complete = true;
+            if ((minPhotosUsed == -1) || photosUsed < minPhotosUsed) {minPhotosUsed = photosUsed;}
+            if (this.flyCount == 0 || this.flyCount < flyCount) {this.flyCount = flyCount;}
+            if (bestTime == 0 || (bestTime > timeElapsed)){bestTime = timeElapsed;}
+        }
+
+        /** Clears results but keeps the goal settings. */
+        void clearResults() {
+            complete = false;
+            stars = 0;
+            minPhotosUsed = -1;
+            flyCount = 0;
+            bestTime = 0;
+        }
+
+        LevelData copy() {
+            LevelData data = new LevelData();
+            data.complete = complete;
+            data.stars = stars;
+            data.minPhotosUsed = minPhotosUsed;
+            data.flyCount = flyCount;
+            data.bestTime = bestTime;
+            data.goalPhotos = goalPhotos;
+            data.jsonGoalPhotos = jsonGoalPhotos;
+            return data;
+        }
     }
 
     public final int numLevels;
+    /** Longest time {@link #dispose()} waits for the save to reach disk */
+    private static final long SAVE_FLUSH_MILLIS = 1000;
 
     public Array<LevelData> levels;
 
     private final String saveGameFile;
     private JsonValue directory;
+    /** Writes the save off the game thread; see {@link SaveWriter} */
+    private SaveWriter saveWriter;
 
+    /**
+     * Records a win. The result is applied in memory immediately and journaled on a background
+     * thread, so this never blocks the frame.
+     */
     public void beatLevel(int level, int photosUsed, int flyCount, float timeElapsed) {
-        LevelData currLevel = levels.get(level - 1);
-        currLevel.complete = true;
-        if ((currLevel.minPhotosUsed == -1) || photosUsed < currLevel.minPhotosUsed) {currLevel.minPhotosUsed = photosUsed;}
-        if (currLevel.flyCount == 0 || currLevel.flyCount < flyCount) {currLevel.flyCount = flyCount;}
-        if (currLevel.bestTime == 0 || (currLevel.bestTime > timeElapsed)){currLevel.bestTime = timeElapsed;}
-        saveGame();
+        levels.get(level - 1).merge(photosUsed, flyCount, timeElapsed);
+        saveWriter.recordResult(level, photosUsed, flyCount, timeElapsed);
     }
 
     public boolean isBeaten(int level) {return levels.get(level - 1).complete;}
@@ -80,26 +115,28 @@ public class LevelProgress {
         loadGame();
     }
 
+    /** Asks the background writer to rewrite the snapshot. Returns immediately. */
     public void saveGame() {
-        Json js = new Json();
-        js.setOutputType(JsonWriter.OutputType.json);
-        try {
-            String pretty = js.prettyPrint(js.toJson(levels, Array.class, LevelData.class));
-            Gdx.files.local(saveGameFile).writeString(pretty, false);
-        } catch (Exception e) {
-            System.out.println("Error saving game");
-        }
+        saveWriter.requestCompaction();
     }
 
+    /**
+     * Loads the snapshot and replays the journal over it. A missing or unreadable snapshot starts
+     * a new save, keeping any journaled results.
+     */
     public void loadGame(){
+        File snapshot = Gdx.files.local(saveGameFile).file();
         Json js = new Json();
         js.setOutputType(JsonWriter.OutputType.json);
         try {
             String content = Gdx.files.local(saveGameFile).readString();
             levels = js.fromJson(Array.class, LevelData.class, content);
+            if (levels == null) {
+                throw new IllegalStateException("empty save");
+            }
         } catch (Exception e) {
-            System.out.println("Error loading game");
-            resetSaveGame();
+            GameLog.warn("LevelProgress", "Could not load {}, starting a new save", saveGameFile);
+            levels = new Array<LevelData>(numLevels);
         }
         // Pad if save file has fewer levels than the current level count
         for (int i = levels.size + 1; i <= numLevels; i++) {
@@ -107,20 +144,34 @@ public class LevelProgress {
             levels.add(nl);
         }
         // Restore goalPhotos from directory (not persisted in save file)
-        for (int i = 1; i <= levels.size; i++) {
-            if (i > numLevels) {return;}
+        for (int i = 1; i <= levels.size && i <= numLevels; i++) {
             levels.get(i - 1).goalPhotos = directory.get("level" + i).get("playerSettings").getInt("goal_num_photos");
         }
+        int replayed = SaveWriter.replay(snapshot, levels);
+        if (replayed > 0) {
+            GameLog.info("LevelProgress", "Recovered {} journaled results", replayed);
+        }
+        if (saveWriter != null) {
+            saveWriter.close(SAVE_FLUSH_MILLIS);
+        }
+        saveWriter = new SaveWriter(snapshot, levels, replayed);
+        if (replayed >= SaveWriter.COMPACT_EVERY) {
+            saveWriter.requestCompaction();
+        }
     }
 
     public void resetSaveGame(){
-        levels = new Array<LevelData>(numLevels);
-        for (int i = 1; i <= numLevels; i++) {
-            LevelData nl = new LevelData();
-            nl.goalPhotos = directory.get("level"+i).get("playerSettings").getInt("goal_num_photos");
-            levels.add(nl);
+        for (LevelData data : levels) {
+            data.clearResults();
+        }
+        saveWriter.recordReset();
+    }
+
+    /** Writes any pending results and a final snapshot, waiting briefly for the writer. */
+    public void dispose() {
+        if (saveWriter != null) {
+            saveWriter.close(SAVE_FLUSH_MILLIS);
         }
-        saveGame();
     }
 
     public int calculateScore(boolean beaten, int flies, int photosUsed, int goalPhotos, float time){
@@ -6,6 +6,8 @@ import com.badlogic.gdx.math.Affine2;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
 import edu.cornell.cis3152.physics.CanvasRender;
 import edu.cornell.cis3152.physics.graphics.SpriteStripAnimation;
 import edu.cornell.cis3152.physics.screen.WorldState;
@@ -15,15 +17,16 @@ import edu.cornell.cis3152.physics.world.Obj;
 import edu.cornell.cis3152.physics.world.Picture;
 import edu.cornell.cis3152.physics.world.Zuko;
 import edu.cornell.gdiac.graphics.SpriteBatch;
+import edu.cornell.gdiac.math.PathExtruder;
 import edu.cornell.gdiac.math.PathFactory;
+import edu.cornell.gdiac.math.Poly2;
 import edu.cornell.gdiac.physics2.Obstacle;
 import java.util.ArrayList;
 import java.util.IdentityHashMap;
-import java.util.HashSet;
 
 /**
  * Responsible for all non-physics rendering: HUD inventory bar, stuck-picture overlays (surface-with-photo combo art),
- * highlight outlines, range indicators, pause icon, and level tile backgrounds.
+ * highlight outlines, range indicators, pause icon, and level tile backgrounds (via {@link TileLayerCache}).
  * <p>
  * Uses screen-space coordinates for HUD elements.
  */
@@ -46,6 +49,10 @@ class LevelRenderer {
     private static final float MAX_SLOT_SIZE = 40.0f * UI;
     /** Flat strip behind the inventory row (not gray — avoids a second “border”). */
     private static final Color INVENTORY_BAR_BACK = new Color(0.1f, 0.08f, 0.07f, 0f);
+    /** Off-white mat between the black border and the tinted inner square of a stuck picture. */
+    private static final Color STUCK_PICTURE_MAT = new Color(0.96f, 0.95f, 0.91f, 1.0f);
+    /** Batch colour saved across {@link #bindOutlineTexture}. */
+    private final Color outlineColorCache = new Color();
     private final WorldState worldState;
     /** Empty slots, and frame overlay on filled slots ({@code shared/inventory.png}). */
     private final Texture inventoryTexture;
@@ -57,20 +64,51 @@ class LevelRenderer {
     private final float stickDistance;
     private final float takeDistance;
     private final Affine2 highlightTransform = new Affine2();
-    private ArrayList<FlyCollectible> inRangeFlies = new ArrayList<>();
-    /** World-pixel positions [x, y] for each in-range fly, computed with scale.x/scale.y. */
-    private ArrayList<float[]> inRangeFlyPositions = new ArrayList<>();
+    /** Band width of highlight outlines in world pixels; matches the old ±1px offset redraws. */
+    private static final float HIGHLIGHT_STROKE = 3.0f;
+    /** Extruded outline band per obstacle, built on first highlight and dropped on level reload. */
+    private final IdentityHashMap<Obstacle, Poly2> highlightBands = new IdentityHashMap<>();
+    private final PathExtruder highlightExtruder = new PathExtruder();
+    /** Range ring dash and gap lengths, in degrees. */
+    private static final float RANGE_DASH_SIZE = 20f;
+    private static final float RANGE_GAP_SIZE = 10f;
+    /** Dashed range rings centred on the origin; rebuilt when the level or physics units change. */
+    private Poly2 stickRangeRing;
+    private Poly2 takeRangeRing;
+    private float rangeRingUnits;
+    private final ArrayList<FlyCollectible> inRangeFlies = new ArrayList<>();
+    /** World-pixel positions, packed x0, y0, x1, y1, ... for each in-range fly. */
+    private final FloatArray inRangeFlyPositions = new FloatArray();
     private final SpriteStripAnimation sparkleFlyAnim;
     private float flyAnimTime;
     private final SpriteStripAnimation iceAnim;
-    /** Elapsed freeze time per stuck ice picture, keyed by object identity. Removed when picture is gone. */
-    private final IdentityHashMap<Picture, Float>      iceElapsed = new IdentityHashMap<>();
-    /** Last known target per ice picture — used to detect block changes and restart the animation. */
-    private final IdentityHashMap<Picture, GameObject> iceTargets = new IdentityHashMap<>();
-
-    void setInRangeFlies(ArrayList<FlyCollectible> flies, ArrayList<float[]> positions) {
-        this.inRangeFlies   = flies     != null ? flies     : new ArrayList<>();
-        this.inRangeFlyPositions = positions != null ? positions : new ArrayList<>();
+    /** Freeze animation state per stuck ice picture, keyed by object identity. Removed when picture is gone. */
+    private final IdentityHashMap<Picture, IceState> iceStates = new IdentityHashMap<>();
+    /** Keys of {@link #iceStates}, so stale entries can be pruned without an iterator. */
+    private final Array<Picture> iceTracked = new Array<>();
+    private int iceTick;
+    /** Vines, tilemap, and env layers baked once per level. */
+    private final TileLayerCache tileCache = new TileLayerCache();
+
+    /** Per-picture ice animation progress. */
+    private static final class IceState {
+        /** Last known target — used to detect block changes and restart the animation. */
+        GameObject target;
+        float elapsed;
+        /** Value of {@link #iceTick} when the picture was last seen stuck. */
+        int seen;
+    }
+
+    /** Empties the in-range fly list; call before re-adding this frame's flies. */
+    void clearInRangeFlies() {
+        inRangeFlies.clear();
+        inRangeFlyPositions.clear();
+    }
+
+    /** Adds a fly to sparkle this frame, at world-pixel position ({@code x}, {@code y}). */
+    void addInRangeFly(FlyCollectible fly, float x, float y) {
+        inRangeFlies.add(fly);
+        inRangeFlyPositions.add(x, y);
     }
 
     LevelRenderer(WorldState worldState,
@@ -118,15 +156,17 @@ class LevelRenderer {
             drawHighlight(batch, go);
         }
 
-        for (int fi = 0; fi < inRangeFlies.size(); fi++) {
-            float[] pos = fi < inRangeFlyPositions.size() ? inRangeFlyPositions.get(fi) : null;
-            if (pos != null) drawFlyHighlight(batch, inRangeFlies.get(fi), pos[0], pos[1], fi * 0.08f);
-        }
-
+        // The rings share the marker texture with the highlights, so they go before the fly
+        // sparkles rather than after; a sparkle now sits on top of a ring it crosses.
         if (worldState.isShowRange()) {
             drawRanges(batch, avatar);
         }
 
+        for (int fi = 0; fi < inRangeFlies.size(); fi++) {
+            drawFlyHighlight(batch, inRangeFlies.get(fi),
+                    inRangeFlyPositions.get(fi * 2), inRangeFlyPositions.get(fi * 2 + 1), fi * 0.08f);
+        }
+
         drawPlacedPictures(batch);
         batch.end();
         viewport.reset();
@@ -171,12 +211,12 @@ class LevelRenderer {
         if (markerPixel == null) {
             return;
         }
-        Color original = new Color(batch.getColor());
+        outlineColorCache.set(batch.getColor());
         batch.setColor(1f, 1f, 1f, 0f);
         // Ensure the outline pass uses a neutral bound texture instead of the last
         // world texture, which can vary by level (e.g. vines overlay).
         batch.draw(markerPixel, -10000f, -10000f, 1f, 1f);
-        batch.setColor(original);
+        batch.setColor(outlineColorCache);
     }
 
     /**
@@ -201,6 +241,10 @@ class LevelRenderer {
 
     /**
      * Draws a thick colored outline around a highlighted object.
+     * <p>
+     * The outline is a cached triangle band (see {@link #getHighlightBand}) filled with the same
+     * texture and draw mode as the rest of the pass, so every highlight shares one batch and costs
+     * a single fill instead of four line passes.
      */
     private void drawHighlight(SpriteBatch batch, GameObject go) {
         // Set highlight to orange by default
@@ -226,27 +270,25 @@ class LevelRenderer {
         float units = obj.getPhysicsUnits();
         float angle = obj.getAngle();
         Vector2 position = obj.getPosition();
-        // This block is drawn over by the loops, doesn't do anything
-        // FIXME
-//        highlightTransform.idt();
-//        highlightTransform.preRotate((float) (angle * 180.0f / Math.PI));
-//        highlightTransform.preTranslate(position.x * units, position.y * units);
-//        batch.outline(obj.getOutline(), highlightTransform);
-
-        for (int offset = -1; offset <= 1; offset++) {
-            if (offset == 0) continue;
-            highlightTransform.idt();
-            highlightTransform.preRotate((float) (angle * 180.0f / Math.PI));
-            highlightTransform.preTranslate(position.x * units + offset, position.y * units);
-            batch.outline(obj.getOutline(), highlightTransform);
-        }
-        for (int offset = -1; offset <= 1; offset++) {
-            if (offset == 0) continue;
-            highlightTransform.idt();
-            highlightTransform.preRotate((float) (angle * 180.0f / Math.PI));
-            highlightTransform.preTranslate(position.x * units, position.y * units + offset);
-            batch.outline(obj.getOutline(), highlightTransform);
+        highlightTransform.idt();
+        highlightTransform.preRotate((float) (angle * 180.0f / Math.PI));
+        highlightTransform.preTranslate(position.x * units, position.y * units);
+        batch.fill(getHighlightBand(obj), highlightTransform);
+    }
+
+    /**
+     * Returns the object's outline extruded into a filled band, building it on first use.
+     * Obstacles never change shape after population, so the band is reused until the level reloads.
+     */
+    private Poly2 getHighlightBand(Obstacle obj) {
+        Poly2 band = highlightBands.get(obj);
+        if (band == null) {
+            highlightExtruder.set(obj.getOutline());
+            highlightExtruder.calculate(HIGHLIGHT_STROKE);
+            band = highlightExtruder.getPolygon();
+            highlightBands.put(obj, band);
         }
+        return band;
     }
 
     private void drawFlyHighlight(SpriteBatch batch, FlyCollectible fly, float cx, float cy, float phaseOffset) {
@@ -265,31 +307,49 @@ class LevelRenderer {
 
     /**
      * Draws dashed circles showing take and stick ranges around Zuko.
+     * <p>
+     * The rings are tessellated once per level (see {@link #buildRangeRing}) and only translated
+     * to Zuko's position here, so showing ranges adds no per-frame allocation.
      */
     private void drawRanges(SpriteBatch batch, Zuko avatar) {
         Obstacle obj = avatar.getObstacle();
         Vector2 position = obj.getPosition();
         float units = obj.getPhysicsUnits();
-        float cx = position.x * units;
-        float cy = position.y * units;
-        float dashSize = 20f;
-        float gapSize = 10f;
-        float total = dashSize + gapSize;
-        PathFactory factory = new PathFactory();
+        if (stickRangeRing == null || takeRangeRing == null || rangeRingUnits != units) {
+            stickRangeRing = buildRangeRing(stickDistance * units * 2);
+            takeRangeRing = buildRangeRing(takeDistance * units * 2);
+            rangeRingUnits = units;
+        }
 
-        highlightTransform.idt();
+        highlightTransform.setToTranslation(position.x * units, position.y * units);
         batch.setColor(Color.LIME);
-        for (float angle = 0; angle < 360; angle += total) {
-            batch.outline(factory.makeArc(cx, cy, (stickDistance * units * 2) - 1, angle, dashSize, false), highlightTransform);
-            batch.outline(factory.makeArc(cx, cy, (stickDistance * units * 2), angle, dashSize, false), highlightTransform);
-            batch.outline(factory.makeArc(cx, cy, (stickDistance * units * 2) - 2, angle, dashSize, false), highlightTransform);
-        }
+        batch.fill(stickRangeRing, highlightTransform);
         batch.setColor(Color.CORAL);
-        for (float angle = 0; angle < 360; angle += total) {
-            batch.outline(factory.makeArc(cx, cy, (takeDistance * units * 2) - 1, angle, dashSize, false), highlightTransform);
-            batch.outline(factory.makeArc(cx, cy, (takeDistance * units * 2), angle, dashSize, false), highlightTransform);
-            batch.outline(factory.makeArc(cx, cy, (takeDistance * units * 2) - 2, angle, dashSize, false), highlightTransform);
+        batch.fill(takeRangeRing, highlightTransform);
+    }
+
+    /**
+     * Tessellates a dashed ring centred on the origin into a single polygon. Each dash is the arc
+     * at {@code radius - 1} extruded to the same three-pixel band the old {@code r, r-1, r-2}
+     * outlines covered, and all dashes are merged so the ring is one fill.
+     */
+    private Poly2 buildRangeRing(float radius) {
+        PathFactory factory = new PathFactory();
+        Poly2 ring = new Poly2();
+        Poly2 dash = new Poly2();
+        for (float angle = 0; angle < 360; angle += RANGE_DASH_SIZE + RANGE_GAP_SIZE) {
+            highlightExtruder.set(factory.makeArc(0, 0, radius - 1, angle, RANGE_DASH_SIZE, false));
+            highlightExtruder.calculate(HIGHLIGHT_STROKE);
+            // getPolygon appends, so empty the buffer or every earlier dash is added again
+            dash.clear();
+            highlightExtruder.getPolygon(dash);
+            int base = ring.vertices.size / 2;
+            ring.vertices.addAll(dash.vertices);
+            for (int ii = 0; ii < dash.indices.size; ii++) {
+                ring.indices.add((short) (base + dash.indices.get(ii)));
+            }
         }
+        return ring;
     }
 
     /**
@@ -352,7 +412,7 @@ class LevelRenderer {
             float mid = stickerInner;
             float innerTint = Math.max(4f * UI, stickerInner - (STUCK_PICTURE_INNER_PADDING * 2.0f * k));
             drawStuckPictureLayer(batch, centerX, centerY, outer, Color.BLACK, rotation);
-            drawStuckPictureLayer(batch, centerX, centerY, mid, new Color(0.96f, 0.95f, 0.91f, 1.0f), rotation);
+            drawStuckPictureLayer(batch, centerX, centerY, mid, STUCK_PICTURE_MAT, rotation);
             drawStuckPictureLayer(batch, centerX, centerY, innerTint, picture.getColor(), rotation);
 
             Texture subjectTexture = picture.getTexture();
@@ -382,7 +442,8 @@ class LevelRenderer {
 
     private void drawIceOverlay(SpriteBatch batch, float centerX, float centerY, float rotation, float stickerInner, Picture picture) {
         if (iceAnim == null) return;
-        float elapsed = iceElapsed.getOrDefault(picture, 0f);
+        IceState state = iceStates.get(picture);
+        float elapsed = state != null ? state.elapsed : 0f;
         float clampedTime = Math.min(elapsed, iceAnim.getLoopDurationSeconds() - 0.001f);
         TextureRegion frame = iceAnim.getKeyFrame(clampedTime);
         float sz = stickerInner * (34f / STUCK_PICTURE_REF_INNER) * 1.64f;
@@ -404,25 +465,35 @@ class LevelRenderer {
         if (iceAnim == null) return;
         float maxTime = iceAnim.getLoopDurationSeconds();
 
-        HashSet<Picture> active = new HashSet<>();
+        iceTick++;
         for (Picture p : worldState.getPictures()) {
             if (p.getTarget() != null && p.getSubjectType() == Obj.ICE) {
-                active.add(p);
+                IceState state = iceStates.get(p);
+                if (state == null) {
+                    state = new IceState();
+                    iceStates.put(p, state);
+                    iceTracked.add(p);
+                }
 
                 // Reset if the picture was moved to a different block.
                 GameObject currentTarget = p.getTarget();
-                if (iceTargets.get(p) != currentTarget) {
-                    iceElapsed.put(p, 0f);
-                    iceTargets.put(p, currentTarget);
+                if (state.target != currentTarget) {
+                    state.elapsed = 0f;
+                    state.target = currentTarget;
                 }
 
-                float prev = iceElapsed.getOrDefault(p, 0f);
-                iceElapsed.put(p, Math.min(prev + dt, maxTime));
+                state.elapsed = Math.min(state.elapsed + dt, maxTime);
+                state.seen = iceTick;
             }
         }
         // Remove entries for pictures that were unstuck or removed.
-        iceElapsed.keySet().removeIf(p -> !active.contains(p));
-        iceTargets.keySet().removeIf(p -> !active.contains(p));
+        for (int ii = iceTracked.size - 1; ii >= 0; ii--) {
+            Picture p = iceTracked.get(ii);
+            if (iceStates.get(p).seen != iceTick) {
+                iceStates.remove(p);
+                iceTracked.removeIndex(ii);
+            }
+        }
     }
 
     /** Assets follow {@code picture_<surface>_with_<photographed type>.png} — index [target][subject]. */
@@ -498,43 +569,36 @@ class LevelRenderer {
     }
 
     /**
-     * Renders the tilemap background tiles.
+     * Rebuilds per-level render caches for a freshly populated level: re-bakes the static tile
+     * layers and drops highlight bands and range rings built for the previous level.
      */
-    void drawLevelTiles(SpriteBatch batch, LevelPopulation.Result levelData) {
-        drawTileLayer(batch, levelData == null ? null : levelData.tileRegions,
-                levelData == null ? null : levelData.tilePositions);
+    void prepareLevel(LevelPopulation.Result levelData) {
+        tileCache.rebuild(levelData);
+        highlightBands.clear();
+        stickRangeRing = null;
+        takeRangeRing = null;
     }
 
     /**
-     * Renders decorative vine overlay tiles.
+     * Renders the cached vine, tilemap, and environment layers.
+     * <p>
+     * Must be called while {@code batch} is drawing with {@code camera}; the batch is flushed
+     * around the cached draw so layering with the parallax and sprites is preserved.
      */
-    void drawVines(SpriteBatch batch, LevelPopulation.Result levelData) {
-        drawTileLayer(batch, levelData == null ? null : levelData.vineRegions,
-                levelData == null ? null : levelData.vinePositions);
+    void drawTileLayers(SpriteBatch batch, com.badlogic.gdx.graphics.OrthographicCamera camera) {
+        if (tileCache.isEmpty()) {
+            return;
+        }
+        batch.end();
+        tileCache.draw(camera);
+        batch.begin(camera);
     }
 
     /**
-     * Renders decorative environmental tiles.
+     * Releases the baked tile geometry and cached outlines.
      */
-    void drawEnv(SpriteBatch batch, LevelPopulation.Result levelData) {
-        drawTileLayer(batch, levelData == null ? null : levelData.envRegions,
-                levelData == null ? null : levelData.envPositions);
-    }
-
-
-    private void drawTileLayer(SpriteBatch batch, java.util.List<TextureRegion> regions,
-                               java.util.List<int[]> positions) {
-        if (regions == null || regions.isEmpty() || positions == null) {
-            return;
-        }
-
-        batch.setColor(Color.WHITE);
-        for (int ii = 0; ii < regions.size(); ii++) {
-            TextureRegion region = regions.get(ii);
-            int[] pos = positions.get(ii);
-            // Match the editor: snap to whole pixels and slightly overdraw by 1px to hide seams.
-            // i changed this to .25
-            batch.draw(region, pos[0], pos[1], pos[2] + 0.25f, pos[3] + 0.25f);
-        }
+    void dispose() {
+        tileCache.dispose();
+        highlightBands.clear();
     }
 }
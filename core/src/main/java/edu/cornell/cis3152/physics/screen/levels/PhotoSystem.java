@@ -4,17 +4,19 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.RayCastCallback;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.JsonValue;
 import edu.cornell.cis3152.physics.GameAudio;
 import edu.cornell.cis3152.physics.InputController;
+import edu.cornell.cis3152.physics.SoundPlayer;
 import edu.cornell.cis3152.physics.screen.WorldState;
 import edu.cornell.cis3152.physics.world.GameObject;
+import edu.cornell.cis3152.physics.world.Obj;
 import edu.cornell.cis3152.physics.world.Picture;
 import edu.cornell.cis3152.physics.world.Quality;
 import edu.cornell.cis3152.physics.world.Zuko;
 import edu.cornell.gdiac.audio.SoundEffect;
-import edu.cornell.gdiac.audio.SoundEffectManager;
 import edu.cornell.gdiac.physics2.Obstacle;
 import edu.cornell.gdiac.physics2.ObstacleSprite;
 import edu.cornell.gdiac.util.PooledList;
@@ -32,6 +34,9 @@ class PhotoSystem {
     private final float volume;
     private final SoundEffect fireSound;
     private final SoundEffect plopSound;
+    /** {@link SoundPlayer} handles for the two sounds above */
+    private final int fireHandle;
+    private final int plopHandle;
 
     private float STICK_PICTURE_DISTANCE = 9.0f;
     private float TAKE_PICTURE_DISTANCE = 9.0f;
@@ -42,6 +47,25 @@ class PhotoSystem {
     /** One-frame flag consumed by the scene to play the shutter sound. */
     private boolean pictureTaken;
 
+    // Scratch state for line-of-sight checks, which run for every candidate every frame.
+    private final Vector2 losCenter = new Vector2();
+    private final Vector2 losEyes = new Vector2();
+    private final Vector2[] losSamples = { new Vector2(), new Vector2(), new Vector2(), new Vector2(), new Vector2() };
+    private final Rectangle losBounds = new Rectangle();
+    private final RaycastHit losHit = new RaycastHit();
+    /** Avatar whose own fixtures the current ray ignores. */
+    private Zuko losAvatar;
+    private final RayCastCallback losCallback = (fixture, point, normal, fraction) -> {
+        if (shouldIgnoreRaycastFixture(fixture, losAvatar)) {
+            return -1.0f;
+        }
+        if (fraction < losHit.fraction) {
+            losHit.fixture = fixture;
+            losHit.fraction = fraction;
+        }
+        return 1.0f;
+    };
+
     public PhotoSystem (WorldState worldState,
                 float stickDistance,
                 float takeDistance,
@@ -56,6 +80,8 @@ class PhotoSystem {
         this.volume = volume;
         this.fireSound = fireSound;
         this.plopSound = plopSound;
+        this.fireHandle = SoundPlayer.getInstance().register(fireSound, SoundPlayer.ACTION, SoundPlayer.PRIORITY_NORMAL, 0.05f);
+        this.plopHandle = SoundPlayer.getInstance().register(plopSound, SoundPlayer.ACTION, SoundPlayer.PRIORITY_NORMAL, 0.05f);
         this.pictureLimit = data.getInt("picture_cooldown", 10);
         this.pictureCooldown = 0;
         this.pictureTaken = false;
@@ -260,15 +286,22 @@ class PhotoSystem {
             return;
         }
 
-        takePicture();
         Vector2 mousePosition = input.getCrossHair();
-        Vector2 avatarPosition = avatar.getPosition();
-        avatar.startTakingPhoto(mousePosition.x > avatarPosition.x);
+        recordPicture(target, avatar, mousePosition.x > avatar.getPosition().x);
+    }
+
+    /**
+     * Records a new picture of {@code target} in {@link WorldState} and the inventory, plays the
+     * shutter, and starts the take-photo animation facing right or left.
+     */
+    private Picture recordPicture(GameObject target, Zuko avatar, boolean facingRight) {
+        takePicture();
+        avatar.startTakingPhoto(facingRight);
 
         Picture picture = new Picture(target);
         worldState.getPictures().add(picture);
         avatar.getPictureInventory().addPicture(picture);
-        SoundEffectManager.getInstance().play("plop", plopSound,
+        SoundPlayer.getInstance().play(plopHandle,
                 GameAudio.effectiveSfxVolume(Math.min(1.0f, volume * 1.75f)));
 
         // If the inventory is now full and nothing is selected, auto-select the first photo
@@ -279,6 +312,52 @@ class PhotoSystem {
                 worldState.setActivePicture(firstPicture);
             }
          }
+        return picture;
+    }
+
+    /**
+     * Scripted only: photographs the first object in the level and holds the photo, as if its
+     * hotbar slot had been clicked, skipping the range, line-of-sight and cooldown checks.
+     *
+     * @return the photo, or null if there was no free slot or nothing to photograph
+     */
+    Picture holdPhoto(Zuko avatar, PooledList<ObstacleSprite> sprites) {
+        if (avatar.getPictureInventory().getUnusedPicture() == null) {
+            return null;
+        }
+        GameObject subject = firstObject(avatar, sprites, null);
+        if (subject == null) {
+            return null;
+        }
+        Picture picture = recordPicture(subject, avatar, subject.getObstacle().getX() > avatar.getPosition().x);
+        worldState.setSelectedSlotIndex(picture.getId());
+        worldState.setActivePicture(picture);
+        return picture;
+    }
+
+    /**
+     * Playthrough only: {@linkplain #holdPhoto takes a photo} and sticks it on the first object
+     * of another type.
+     */
+    void playthroughPhoto(Zuko avatar, PooledList<ObstacleSprite> sprites) {
+        Picture picture = holdPhoto(avatar, sprites);
+        if (picture == null) {
+            return;
+        }
+        GameObject target = firstObject(avatar, sprites, picture.getSubjectType());
+        if (target != null) {
+            completeStickFromInventory(picture, target, avatar, picture.getId());
+        }
+    }
+
+    /** Returns the first object in the level, other than Zuko, whose type is not {@code skip}. */
+    private static GameObject firstObject(Zuko avatar, PooledList<ObstacleSprite> sprites, Obj skip) {
+        for (ObstacleSprite sprite : sprites) {
+            if (sprite != avatar && sprite instanceof GameObject go && go.getObjectType() != skip) {
+                return go;
+            }
+        }
+        return null;
     }
 
     /**
@@ -390,7 +469,7 @@ class PhotoSystem {
         }
 
         avatar.startTongueAnimation(target.getObstacle().getX(), target.getObstacle().getY());
-        SoundEffectManager.getInstance().play("fire", fireSound, GameAudio.effectiveSfxVolume(volume));
+        SoundPlayer.getInstance().play(fireHandle, GameAudio.effectiveSfxVolume(volume));
     }
 
     /**
@@ -412,7 +491,7 @@ class PhotoSystem {
             avatar.setCurrentPlatform(target);
         }
         avatar.startTongueAnimation(target.getObstacle().getX(), target.getObstacle().getY());
-        SoundEffectManager.getInstance().play("plop", plopSound, GameAudio.effectiveSfxVolume(volume));
+        SoundPlayer.getInstance().play(plopHandle, GameAudio.effectiveSfxVolume(volume));
     }
 
     /**
@@ -430,7 +509,7 @@ class PhotoSystem {
 
     private Vector2 getEyeOrigin(Zuko avatar) {
         float eyeOffsetY = avatar.getHeight() / 4f; // tune these once the debug renderer is on
-        return new Vector2(
+        return losEyes.set(
                 avatar.getObstacle().getX(),
                 avatar.getObstacle().getY() + eyeOffsetY
         );
@@ -444,7 +523,7 @@ class PhotoSystem {
         if (target == null || world == null) {
             return false;
         }
-        Vector2 center = new Vector2(avatar.getObstacle().getX(), avatar.getObstacle().getY());
+        Vector2 center = losCenter.set(avatar.getObstacle().getX(), avatar.getObstacle().getY());
         Vector2 eyes = getEyeOrigin(avatar);
         Vector2[] samples = getVisibilitySamples(target);
         int visibleCount = 0;
@@ -462,7 +541,7 @@ class PhotoSystem {
     }
 
     private Vector2[] getVisibilitySamples(GameObject target) {
-        Rectangle bounds = target.getMesh().computeBounds();
+        Rectangle bounds = target.getMesh().computeBounds(losBounds);
         float units = target.getObstacle().getPhysicsUnits();
         float centerX = target.getObstacle().getX();
         float centerY = target.getObstacle().getY();
@@ -471,13 +550,12 @@ class PhotoSystem {
         float sampleOffsetX = Math.max(halfWidth * 0.5f, 0.05f);
         float sampleOffsetY = Math.max(halfHeight * 0.5f, 0.05f);
 
-        return new Vector2[] {
-                new Vector2(centerX, centerY),
-                new Vector2(centerX - sampleOffsetX, centerY - sampleOffsetY),
-                new Vector2(centerX - sampleOffsetX, centerY + sampleOffsetY),
-                new Vector2(centerX + sampleOffsetX, centerY - sampleOffsetY),
-                new Vector2(centerX + sampleOffsetX, centerY + sampleOffsetY)
-        };
+        losSamples[0].set(centerX, centerY);
+        losSamples[1].set(centerX - sampleOffsetX, centerY - sampleOffsetY);
+        losSamples[2].set(centerX - sampleOffsetX, centerY + sampleOffsetY);
+        losSamples[3].set(centerX + sampleOffsetX, centerY - sampleOffsetY);
+        losSamples[4].set(centerX + sampleOffsetX, centerY + sampleOffsetY);
+        return losSamples;
     }
 
     private boolean isSampleVisible(GameObject target, Zuko avatar, World world, Vector2 sample, float maxDistance, Vector2 origin) {
@@ -489,17 +567,12 @@ class PhotoSystem {
             return false;
         }
 
-        RaycastHit hit = new RaycastHit();
-        world.rayCast((fixture, point, normal, fraction) -> {
-            if (shouldIgnoreRaycastFixture(fixture, avatar)) {
-                return -1.0f;
-            }
-            if (fraction < hit.fraction) {
-                hit.fixture = fixture;
-                hit.fraction = fraction;
-            }
-            return 1.0f;
-        }, originX, originY, sample.x, sample.y);
+        RaycastHit hit = losHit;
+        hit.fixture = null;
+        hit.fraction = Float.MAX_VALUE;
+        losAvatar = avatar;
+        world.rayCast(losCallback, originX, originY, sample.x, sample.y);
+        losAvatar = null;
 
         return hit.fixture != null && hit.fixture.getBody().getUserData() == target;
     }
@@ -0,0 +1,282 @@
+package edu.cornell.cis3152.physics.screen.levels;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+import edu.cornell.cis3152.physics.GameLog;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Background writer for {@link LevelProgress}.
+ *
+ * <p>The save is a compact JSON snapshot ({@code save_game.json}) plus an append-only journal
+ * ({@code save_game.json.journal}) of level results. The game thread only queues small records;
+ * a daemon thread appends them to the journal and keeps its own copy of the progress, which it
+ * writes out as a new snapshot every {@link #COMPACT_EVERY} results (or when asked). Records that
+ * arrive while the writer is busy are appended in one batch, and snapshot requests coalesce into
+ * one write.
+ *
+ * <p>Snapshots are written to a temporary file, synced, and renamed over the old one, so the
+ * snapshot on disk is always complete. The journal is deleted only after the rename, and replaying
+ * a result is idempotent (best values win), so a crash at any point loses at most the record being
+ * appended; {@link #replay} ignores a torn last line.
+ */
+final class SaveWriter {
+    /** Journal results between snapshot rewrites */
+    static final int COMPACT_EVERY = 16;
+
+    private final File snapshotFile;
+    private final File tempFile;
+    private final File journalFile;
+
+    private final Object lock = new Object();
+    /** Records waiting to be appended; guarded by {@link #lock} */
+    private final StringBuilder pending = new StringBuilder();
+    private int pendingResults;
+    private boolean pendingReset;
+    private boolean compactRequested;
+    private boolean busy;
+    private boolean running = true;
+    private Thread writer;
+
+    /** Writer-thread copy of the progress; only touched on the writer thread after construction */
+    private final Array<LevelProgress.LevelData> mirror;
+    private int journalResults;
+
+    SaveWriter(File snapshotFile, Array<LevelProgress.LevelData> levels, int journalResults) {
+        this.snapshotFile = snapshotFile;
+        this.tempFile = new File(snapshotFile.getPath() + ".tmp");
+        this.journalFile = journalFile(snapshotFile);
+        this.mirror = new Array<>(levels.size);
+        for (LevelProgress.LevelData data : levels) {
+            mirror.add(data.copy());
+        }
+        this.journalResults = journalResults;
+        if (tempFile.exists() && !tempFile.delete()) {
+            GameLog.warn("SaveWriter", "Could not remove stale {}", tempFile);
+        }
+    }
+
+    static File journalFile(File snapshotFile) {
+        return new File(snapshotFile.getPath() + ".journal");
+    }
+
+    /** Queues a level result; called from the game thread. */
+    void recordResult(int level, int photosUsed, int flyCount, float timeElapsed) {
+        synchronized (lock) {
+            pending.append("B ").append(level).append(' ').append(photosUsed).append(' ')
+                    .append(flyCount).append(' ').append(timeElapsed).append('\n');
+            pendingResults++;
+            wake();
+        }
+    }
+
+    /** Queues a reset to a blank save; called from the game thread. */
+    void recordReset() {
+        synchronized (lock) {
+            pending.setLength(0);
+            pendingResults = 0;
+            pendingReset = true;
+            compactRequested = true;
+            wake();
+        }
+    }
+
+    /** Asks for a snapshot rewrite; repeated requests before the writer runs coalesce. */
+    void requestCompaction() {
+        synchronized (lock) {
+            compactRequested = true;
+            wake();
+        }
+    }
+
+    /** Compacts, then waits up to {@code timeoutMillis} for the writer to finish and stops it. */
+    void close(long timeoutMillis) {
+        synchronized (lock) {
+            compactRequested = true;
+            running = false;
+            lock.notifyAll();
+            long deadline = System.currentTimeMillis() + timeoutMillis;
+            while (writer != null && (busy || hasWork())) {
+                long wait = deadline - System.currentTimeMillis();
+                if (wait <= 0) {
+                    GameLog.warn("SaveWriter", "Timed out flushing {}", snapshotFile);
+                    break;
+                }
+                try {
+                    lock.wait(wait);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    private boolean hasWork() {
+        return pending.length() > 0 || pendingReset || compactRequested;
+    }
+
+    /** Must hold {@link #lock}. */
+    private void wake() {
+        if (writer == null) {
+            writer = new Thread(this::drainLoop, "save-writer");
+            writer.setDaemon(true);
+            writer.start();
+        }
+        lock.notifyAll();
+    }
+
+    private void drainLoop() {
+        while (true) {
+            String records;
+            int results;
+            boolean reset;
+            boolean compact;
+            synchronized (lock) {
+                while (!hasWork() && running) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (!hasWork()) {
+                    lock.notifyAll();
+                    return;
+                }
+                records = pending.toString();
+                results = pendingResults;
+                reset = pendingReset;
+                compact = compactRequested;
+                pending.setLength(0);
+                pendingResults = 0;
+                pendingReset = false;
+                compactRequested = false;
+                busy = true;
+            }
+            try {
+                if (reset) {
+                    // Snapshot the blank save first so the old journal can never be replayed over it.
+                    for (LevelProgress.LevelData data : mirror) {
+                        data.clearResults();
+                    }
+                    writeSnapshot();
+                    journalResults = 0;
+                }
+                if (!records.isEmpty()) {
+                    applyRecords(records);
+                    appendJournal(records);
+                    journalResults += results;
+                }
+                if (compact || journalResults >= COMPACT_EVERY) {
+                    writeSnapshot();
+                    journalResults = 0;
+                }
+            } catch (IOException | RuntimeException e) {
+                GameLog.error("SaveWriter", "Error saving game to {}", snapshotFile, e);
+            } finally {
+                synchronized (lock) {
+                    busy = false;
+                    lock.notifyAll();
+                }
+            }
+        }
+    }
+
+    private void applyRecords(String records) {
+        int start = 0;
+        int end;
+        while ((end = records.indexOf('\n', start)) >= 0) {
+            applyLine(mirror, records.substring(start, end));
+            start = end + 1;
+        }
+    }
+
+    private void appendJournal(String records) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(journalFile, true)) {
+            out.write(records.getBytes(StandardCharsets.US_ASCII));
+            out.getFD().sync();
+        }
+    }
+
+    /** Writes the mirror to a temporary file, syncs it, renames it into place, then drops the journal. */
+    private void writeSnapshot() throws IOException {
+        Json js = new Json();
+        js.setOutputType(JsonWriter.OutputType.json);
+        String content = js.toJson(mirror, Array.class, LevelProgress.LevelData.class);
+        File parent = snapshotFile.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        try (FileOutputStream out = new FileOutputStream(tempFile, false)) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+            out.getFD().sync();
+        }
+        try {
+            Files.move(tempFile.toPath(), snapshotFile.toPath(),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (journalFile.exists() && !journalFile.delete()) {
+            GameLog.warn("SaveWriter", "Could not remove journal {}", journalFile);
+        }
+    }
+
+    /**
+     * Applies the journal (if any) on top of {@code levels}.
+     *
+     * @return the number of results replayed
+     */
+    static int replay(File snapshotFile, Array<LevelProgress.LevelData> levels) {
+        File journal = journalFile(snapshotFile);
+        if (!journal.exists()) {
+            return 0;
+        }
+        String content;
+        try {
+            content = new String(Files.readAllBytes(journal.toPath()), StandardCharsets.US_ASCII);
+        } catch (IOException e) {
+            GameLog.warn("SaveWriter", "Could not read journal {}", journal);
+            return 0;
+        }
+        int count = 0;
+        int start = 0;
+        int end;
+        // A line without its newline was torn by a crash mid-append and is skipped.
+        while ((end = content.indexOf('\n', start)) >= 0) {
+            if (applyLine(levels, content.substring(start, end))) {
+                count++;
+            }
+            start = end + 1;
+        }
+        return count;
+    }
+
+    /** Applies one journal line; returns false if it is malformed or out of range. */
+    private static boolean applyLine(Array<LevelProgress.LevelData> levels, String line) {
+        String[] parts = line.trim().split(" ");
+        if (parts.length != 5 || !parts[0].equals("B")) {
+            return false;
+        }
+        try {
+            int level = Integer.parseInt(parts[1]);
+            if (level < 1 || level > levels.size) {
+                return false;
+            }
+            levels.get(level - 1).merge(Integer.parseInt(parts[2]), Integer.parseInt(parts[3]),
+                    Float.parseFloat(parts[4]));
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
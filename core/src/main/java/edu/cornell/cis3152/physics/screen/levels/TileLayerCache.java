@@ -0,0 +1,117 @@
+package edu.cornell.cis3152.physics.screen.levels;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import java.util.List;
+
+/**
+ * Static tile geometry (vines, tilemap, env) baked once per level into a {@link SpriteCache}.
+ * <p>
+ * Tiles never move after {@link LevelPopulation#populate}, so each layer is uploaded to the GPU
+ * when the level is built and replayed as a single draw call per frame. The cache is rebuilt only
+ * by {@link #rebuild(LevelPopulation.Result)}, which the scene calls on level load (a resize also
+ * repopulates the level, so it rebuilds through the same path).
+ */
+class TileLayerCache implements Disposable {
+    /** Initial sprite capacity; grown on rebuild if a level needs more. */
+    private static final int DEFAULT_CAPACITY = 1024;
+    /** Match the editor: slightly overdraw each tile to hide seams. */
+    private static final float TILE_OVERDRAW = 0.25f;
+    /** Marks a layer with no tiles for the current level. */
+    private static final int NO_CACHE = -1;
+
+    private SpriteCache cache;
+    private int capacity;
+    private int vinesId = NO_CACHE;
+    private int tilesId = NO_CACHE;
+    private int envId = NO_CACHE;
+
+    /**
+     * Discards the previous level's geometry and bakes all three tile layers of {@code levelData}.
+     */
+    void rebuild(LevelPopulation.Result levelData) {
+        vinesId = NO_CACHE;
+        tilesId = NO_CACHE;
+        envId = NO_CACHE;
+        if (levelData == null) {
+            return;
+        }
+
+        int needed = levelData.vineRegions.size() + levelData.tileRegions.size() + levelData.envRegions.size();
+        if (needed == 0) {
+            return;
+        }
+        if (cache == null || needed > capacity) {
+            if (cache != null) {
+                cache.dispose();
+            }
+            capacity = Math.max(DEFAULT_CAPACITY, needed);
+            cache = new SpriteCache(capacity, true);
+        } else {
+            cache.clear();
+        }
+        cache.setColor(Color.WHITE);
+
+        vinesId = bakeLayer(levelData.vineRegions, levelData.vinePositions);
+        tilesId = bakeLayer(levelData.tileRegions, levelData.tilePositions);
+        envId = bakeLayer(levelData.envRegions, levelData.envPositions);
+    }
+
+    private int bakeLayer(List<TextureRegion> regions, List<int[]> positions) {
+        if (regions == null || regions.isEmpty() || positions == null) {
+            return NO_CACHE;
+        }
+        cache.beginCache();
+        for (int ii = 0; ii < regions.size(); ii++) {
+            int[] pos = positions.get(ii);
+            cache.add(regions.get(ii), pos[0], pos[1], pos[2] + TILE_OVERDRAW, pos[3] + TILE_OVERDRAW);
+        }
+        return cache.endCache();
+    }
+
+    /** Returns true if the current level has any cached tiles to draw. */
+    boolean isEmpty() {
+        return vinesId == NO_CACHE && tilesId == NO_CACHE && envId == NO_CACHE;
+    }
+
+    /**
+     * Draws the cached layers in back-to-front order (vines, tiles, env) with the world camera.
+     * Must be called outside of a {@code SpriteBatch} begin/end pair.
+     */
+    void draw(OrthographicCamera camera) {
+        if (cache == null || isEmpty()) {
+            return;
+        }
+        // SpriteCache does not manage blend state itself.
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.setProjectionMatrix(camera.combined);
+        cache.begin();
+        if (vinesId != NO_CACHE) {
+            cache.draw(vinesId);
+        }
+        if (tilesId != NO_CACHE) {
+            cache.draw(tilesId);
+        }
+        if (envId != NO_CACHE) {
+            cache.draw(envId);
+        }
+        cache.end();
+    }
+
+    @Override
+    public void dispose() {
+        if (cache != null) {
+            cache.dispose();
+            cache = null;
+        }
+        vinesId = NO_CACHE;
+        tilesId = NO_CACHE;
+        envId = NO_CACHE;
+    }
+}
@@ -8,6 +8,7 @@ import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.utils.JsonValue;
+import edu.cornell.cis3152.physics.GameLog;
 import edu.cornell.gdiac.physics2.BoxObstacle;
 import edu.cornell.gdiac.physics2.ObstacleSprite;
 
@@ -43,7 +44,7 @@ public class GameObject extends ObstacleSprite {
     /** Rest position for spring-based float motion */
     private final Vector2 floatHome = new Vector2();
     /** Percentage gray for clouds based on height. Only defined for clouds. */
-    private Color cloudColor = Color.WHITE;
+    private final Color cloudColor = new Color(Color.WHITE);
 
     private boolean hasPicture = false;
 
@@ -178,17 +179,16 @@ public class GameObject extends ObstacleSprite {
     }
 
     public void setCloudColor(Color c) {
-        cloudColor = c;
+        cloudColor.set(c);
     }
 
     public void tintCloud(float minCloudHeight, float maxCloudHeight) {
         // Set gray level of cloud
         float cloudLerp = MathUtils.clamp((floatHome.y - minCloudHeight) / (maxCloudHeight - minCloudHeight), 0.0f, 1.0f) * 0.5f + 0.5f;
-        Color tint = new Color(cloudLerp, cloudLerp, MathUtils.clamp(cloudLerp + 0.1f, 0.0f, 1.0f), 1f);
-        setCloudColor(tint);
+        cloudColor.set(cloudLerp, cloudLerp, MathUtils.clamp(cloudLerp + 0.1f, 0.0f, 1.0f), 1f);
         for (int i = 0; i < 3; i++)
         {
-            mesh.setColor(i, tint);
+            mesh.setColor(i, cloudColor);
         };
     }
 
@@ -223,9 +223,11 @@ public class GameObject extends ObstacleSprite {
         hasPicture = true;
         ObjectEffect sourceEffect = source.getEffect();
         if (sourceEffect != null) {
-            System.out.println("in here: putting " + source.getName() + " on " + this.getName());
+            GameLog.debug("GameObject", "putting {} on {}", source.getName(), this.getName());
             sourceEffect.apply(source, this);
-            System.out.println("friction: " + this.getFriction());
+            if (GameLog.isDebugEnabled()) {
+                GameLog.debug("GameObject", "{} friction now {}", this.getName(), this.getFriction());
+            }
         }
     }
 
@@ -252,11 +254,12 @@ public class GameObject extends ObstacleSprite {
         applyRotationConstraint();
         this.body.setAngularVelocity(0.0f);
 
-        System.out.println("here: friction: " + this.body.getFriction());
+        if (GameLog.isDebugEnabled()) {
+            GameLog.debug("GameObject", "{} synced, friction {}", this.getName(), this.body.getFriction());
+        }
 
         Body physicsBody = this.body.getBody();
         if (physicsBody != null) {
-            System.out.println("here");
             physicsBody.setType(baseBodyType);
             physicsBody.setGravityScale(gravityScale);
             physicsBody.setFixedRotation(shouldLockRotation());
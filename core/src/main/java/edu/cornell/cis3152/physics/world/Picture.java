@@ -16,6 +16,9 @@ import edu.cornell.gdiac.physics2.ObstacleSprite;
  * instances are not added to the physics world.</p>
  */
 public class Picture extends ObstacleSprite {
+    /** Polaroid accent tint; shared, so callers must not modify it */
+    private static final Color LIGHT_GREEN = new Color(0.47f,0.75f,0.33f,1);
+
     /** The GameObject subject of this picture */
     GameObject subject;
 
@@ -140,8 +143,7 @@ public class Picture extends ObstacleSprite {
      * Tint used when drawing this picture in the HUD or overlays (Polaroid accent).
      */
     public Color getColor() {
-        Color lightGreen = new Color(0.47f,0.75f,0.33f,1);
-        return lightGreen;
+        return LIGHT_GREEN;
     }
 
 
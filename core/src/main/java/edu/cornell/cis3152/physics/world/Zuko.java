@@ -333,6 +333,8 @@ public class Zuko extends ObstacleSprite {
      * @param batch destination batch
      */
     private boolean drawVisible = true;
+    /** Unsnapped position saved across {@link #draw}, reused every frame */
+    private final Vector2 drawPosCache = new Vector2();
 
     public void setDrawVisible(boolean visible) { this.drawVisible = visible; }
 
@@ -342,7 +344,7 @@ public class Zuko extends ObstacleSprite {
 
         // Snap position to pixels to avoid "lines"
         float units = obstacle.getPhysicsUnits();
-        Vector2 originalPos = new Vector2(obstacle.getPosition());
+        Vector2 originalPos = drawPosCache.set(obstacle.getPosition());
         float snappedX = (float)Math.round(originalPos.x * units) / units;
         float snappedY = (float)Math.round(originalPos.y * units) / units;
         obstacle.setPosition(snappedX, snappedY);
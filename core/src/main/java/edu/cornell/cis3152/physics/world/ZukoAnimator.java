@@ -6,6 +6,7 @@ import com.badlogic.gdx.physics.box2d.*;
 
 import edu.cornell.gdiac.graphics.SpriteBatch;
 import edu.cornell.gdiac.graphics.SpriteSheet;
+import edu.cornell.cis3152.physics.graphics.TextureRegistry;
 
 import edu.cornell.gdiac.physics2.*;
 
@@ -82,8 +83,12 @@ public class ZukoAnimator {
     private float tongueProgress = 0f;
     /** The speed of the tongue */
     private float tongueSpeed = 7f;
+    /** Thickness of the tongue in world pixels (the old raster drew two 1px rows) */
+    private static final float TONGUE_WIDTH = 2f;
     /** The sticking target */
     private Vector2 tongueTarget = new Vector2();
+    /** Scratch result of {@link #getMouthPosition}, reused every frame */
+    private final Vector2 mouthCache = new Vector2();
 //    /** The offset of the tongue on Zuko's sprite */
 //    private Vector2 tongueMouthOffset = new Vector2(0.1f, 0f);
     /** The state of Zuko's tongue. 0 = idle, 1 = extending, 2 = retracting */
@@ -131,7 +136,7 @@ public class ZukoAnimator {
      * @param cols
      */
     public void setPhotoAnimation(Texture sheet, int rows, int cols, int size) {
-        photoSheet = new SpriteSheet(sheet, rows, cols, size);
+        photoSheet = TextureRegistry.getInstance().sheet(sheet, rows, cols, size);
     }
 
     /**
@@ -149,7 +154,7 @@ public class ZukoAnimator {
      * @param cols
      */
     public void setJumpAnimation(Texture sheet, int rows, int cols, int size) {
-        jumpSheet = new SpriteSheet(sheet, rows, cols, size);
+        jumpSheet = TextureRegistry.getInstance().sheet(sheet, rows, cols, size);
     }
 
     /**
@@ -159,7 +164,7 @@ public class ZukoAnimator {
      * @param cols
      */
     public void setWalkAnimation(Texture sheet, int rows, int cols, int size) {
-        walkSheet = new SpriteSheet(sheet, rows, cols, size);
+        walkSheet = TextureRegistry.getInstance().sheet(sheet, rows, cols, size);
     }
 
     /**
@@ -204,7 +209,7 @@ public class ZukoAnimator {
      * @param cols
      */
     public void setDeathMeltAnimation(Texture sheet, int rows, int cols, int size) {
-        deathMeltSheet = new SpriteSheet(sheet, rows, cols, size);
+        deathMeltSheet = TextureRegistry.getInstance().sheet(sheet, rows, cols, size);
     }
 
     /**
@@ -214,7 +219,7 @@ public class ZukoAnimator {
      * @param cols
      */
     public void setPortalAnimation(Texture sheet, int rows, int cols, int size) {
-        portalSheet = new SpriteSheet(sheet, rows, cols, size);
+        portalSheet = TextureRegistry.getInstance().sheet(sheet, rows, cols, size);
         portalFinished = false;
     }
 
@@ -225,7 +230,7 @@ public class ZukoAnimator {
      * @param cols
      */
     public void setSpawnAnimation(Texture sheet, int rows, int cols, int size) {
-        spawnSheet = new SpriteSheet(sheet, rows, cols, size);
+        spawnSheet = TextureRegistry.getInstance().sheet(sheet, rows, cols, size);
         spawnFinished = false;
     }
 
@@ -236,7 +241,7 @@ public class ZukoAnimator {
      * @param cols
      */
     public void setIdleAnimation(Texture sheet, int rows, int cols, int size) {
-        idleSheet = new SpriteSheet(sheet, rows, cols, size);
+        idleSheet = TextureRegistry.getInstance().sheet(sheet, rows, cols, size);
     }
 
     /**
@@ -272,14 +277,19 @@ public class ZukoAnimator {
 
     /**
      * Separate draw method for the tongue. Draws incrementally based on progress.
+     * <p>
+     * The body is a single quad stretched from the mouth to the tip and rotated along the
+     * tongue direction, plus one square cap at the tip, so the cost is two quads per frame
+     * regardless of tongue length. The segment texture is a solid colour, so stretching it
+     * matches the old pixel-by-pixel look at the design resolution.
      */
     public void drawTongue(SpriteBatch batch, boolean faceRight, float zukoX, float zukoY, float units) {
         if (tongueState == 0 || tongueSegment == null) return;
 
-        // Use the same mouth position as startTongueAnimation
+        // Use the same mouth position as startTongueAnimation, snapped to whole pixels
         Vector2 mouth = getMouthPosition(zukoX, zukoY, faceRight, units);
-        float mx = mouth.x;
-        float my = mouth.y;
+        float mx = (float)Math.round(mouth.x);
+        float my = (float)Math.round(mouth.y);
 
         // Current tip position based on progress
         float tipX = mx + (tongueTarget.x - mx) * tongueProgress;
@@ -291,34 +301,28 @@ public class ZukoAnimator {
 
         if (len <= 0f) return;
 
-// Compute perpendicular ONCE for the whole tongue
-        float px = -dy / len;
-        float py = dx / len;
-
-        float pixelSize = 1f;
-        float step = 1f;
-        float tongueWidth = 1.3f;
-
-        int i = 0;
-        for (float d = 0; d <= len; d += step, i++) {
-            float t = d / len;
-            float sx = (float)Math.round((mx + dx * t) / step) * step;
-            float sy = (float)Math.round((my + dy * t) / step) * step;
-
-            float halfW = tongueWidth / 2;
-            for (float w = -halfW; w <= halfW; w++) {
-                float wx = (float)Math.round(sx + px * w);
-                float wy = (float)Math.round(sy + py * w);
-                batch.draw(tongueSegment, wx - pixelSize / 2f, wy - pixelSize / 2f, pixelSize, pixelSize);
-            }
-        }
+        float rotation = MathUtils.atan2(dy, dx) * MathUtils.radiansToDegrees;
+        float halfW = TONGUE_WIDTH / 2f;
+        int srcW = tongueSegment.getWidth();
+        int srcH = tongueSegment.getHeight();
+
+        // Body: one quad anchored at the mouth, rotated about its left-middle edge
+        batch.draw(tongueSegment, mx, my - halfW, 0f, halfW, len, TONGUE_WIDTH,
+                1f, 1f, rotation, 0, 0, srcW, srcH, false, false);
+
+        // Tip: a square cap centred on the tip so the end reads as a blob, not a cut
+        float tx = (float)Math.round(tipX);
+        float ty = (float)Math.round(tipY);
+        batch.draw(tongueSegment, tx - halfW, ty - halfW, halfW, halfW, TONGUE_WIDTH, TONGUE_WIDTH,
+                1f, 1f, rotation, 0, 0, srcW, srcH, false, false);
     }
 
+    /** Writes the mouth position into {@link #mouthCache}, which is returned (no per-frame allocation). */
     private Vector2 getMouthPosition(float zukoX, float zukoY, boolean faceRight, float units) {
         float mouthOffsetX = 0.2f;  // was 0.3f
         float mouthOffsetY = -0.1f;  // was -0.2f, pushed it too low
 
-        return new Vector2(
+        return mouthCache.set(
                 zukoX * units + (faceRight ? mouthOffsetX : -mouthOffsetX) * units,
                 zukoY * units + mouthOffsetY * units
         );
@@ -0,0 +1,162 @@
+package edu.cornell.cis3152.physics;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.utils.JsonValue;
+import edu.cornell.cis3152.physics.graphics.BakedFontParser;
+import edu.cornell.cis3152.physics.graphics.CountingSpriteBatch;
+import edu.cornell.cis3152.physics.graphics.TextureAtlasParser;
+import edu.cornell.cis3152.physics.screen.levels.LevelBaseScene;
+import edu.cornell.gdiac.assets.AssetDirectory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that the level update/draw loop does not allocate once it has warmed up.
+ *
+ * <p>Each level is set up the way {@code LevelController.loadLevel} does it and rendered headless
+ * (see {@link HeadlessGL} and {@link SilentAudio}) for {@value #WARM_UP_FRAMES} frames, which covers
+ * the intro. The {@link Scenario} is then set up and run for {@value #SETTLE_FRAMES} more frames, so
+ * that pools fill and lazily built buffers exist. The bytes the test thread allocates over the next
+ * {@value #MEASURED_FRAMES} frames, read from the JVM's per-thread allocation counter, must be zero.
+ */
+class LevelLoopAllocationTest {
+    private static final int WIDTH = 1280;
+    private static final int HEIGHT = 720;
+    private static final float STEP = 1 / 60f;
+    private static final int WARM_UP_FRAMES = 300;
+    private static final int SETTLE_FRAMES = 60;
+    private static final int MEASURED_FRAMES = 600;
+
+    private static HeadlessApplication application;
+    private static AssetDirectory assets;
+    private static CountingSpriteBatch batch;
+    private static CanvasRender viewport;
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    static void loadAssets() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        // The test drives the frames itself
+        config.updatesPerSecond = -1;
+        application = new HeadlessApplication(new ApplicationAdapter() { }, config);
+        Gdx.gl = Gdx.gl20 = new HeadlessGL();
+        Gdx.audio = new SilentAudio();
+
+        assets = new AssetDirectory("assets.json");
+        assets.addParser(new TextureAtlasParser());
+        assets.addParser(new BakedFontParser());
+        assets.loadAssets();
+        assets.finishLoading();
+
+        batch = new CountingSpriteBatch();
+        viewport = new CanvasRender();
+        viewport.resize(WIDTH, HEIGHT);
+
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            threads = bean;
+        }
+    }
+
+    @AfterAll
+    static void dispose() {
+        if (viewport != null) {
+            viewport.dispose();
+        }
+        if (batch != null) {
+            batch.dispose();
+        }
+        if (assets != null) {
+            assets.unloadAssets();
+            assets.dispose();
+        }
+        if (application != null) {
+            application.exit();
+        }
+    }
+
+    /** What the level is doing while it is measured */
+    enum Scenario {
+        /** Zuko stands where he landed; objects near him are highlighted */
+        IDLE,
+        /** Zuko floats beside a fly, so its sparkle replaces it */
+        FLY_IN_RANGE,
+        /** Zuko holds a photo, with the photo-mode highlights and the range rings showing */
+        PHOTO_MODE
+    }
+
+    /** Returns every scenario for each of the levels 1..N in the platform constants */
+    static Stream<Arguments> levels() {
+        JsonValue constants = AssetKeys.Jsons.PLATFORM_CONSTANTS.get(assets);
+        int count = 0;
+        while (constants.get("level" + (count + 1)) != null) {
+            count++;
+        }
+        return IntStream.rangeClosed(1, count).boxed()
+                .flatMap(level -> Arrays.stream(Scenario.values()).map(scenario -> Arguments.of(level, scenario)));
+    }
+
+    @ParameterizedTest(name = "level {0}, {1}")
+    @MethodSource("levels")
+    void steadyStateFramesDoNotAllocate(int level, Scenario scenario) {
+        assumeTrue(threads != null, "This JVM does not count allocated bytes per thread");
+
+        LevelBaseScene scene = new LevelBaseScene(assets);
+        try {
+            scene.setBatch(batch);
+            scene.setViewport(viewport);
+            scene.show();
+            scene.resize(WIDTH, HEIGHT);
+            scene.setLevel(level);
+
+            for (int ii = 0; ii < WARM_UP_FRAMES; ii++) {
+                frame(scene);
+            }
+            switch (scenario) {
+                case IDLE -> { }
+                case FLY_IN_RANGE -> assumeTrue(scene.holdAvatarAtFly(), "Level " + level + " has no flies");
+                case PHOTO_MODE -> {
+                    assertTrue(scene.holdPhoto(), "Level " + level + " has nothing to photograph");
+                    scene.setShowRange(true);
+                }
+            }
+            for (int ii = 0; ii < SETTLE_FRAMES; ii++) {
+                frame(scene);
+            }
+
+            long thread = Thread.currentThread().getId();
+            long before = threads.getThreadAllocatedBytes(thread);
+            for (int ii = 0; ii < MEASURED_FRAMES; ii++) {
+                frame(scene);
+            }
+            long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+            assertEquals(0, allocated, "Level " + level + " (" + scenario + ") allocated " + allocated
+                    + " bytes over " + MEASURED_FRAMES + " frames after warm-up");
+        } finally {
+            scene.dispose();
+        }
+    }
+
+    /** One frame, as {@code FrogRoot.render} runs it */
+    private static void frame(LevelBaseScene scene) {
+        batch.resetCounts();
+        scene.render(STEP);
+    }
+}
@@ -0,0 +1,44 @@
+package edu.cornell.cis3152.physics;
+
+import com.badlogic.gdx.audio.AudioDevice;
+import com.badlogic.gdx.audio.AudioRecorder;
+import com.badlogic.gdx.files.FileHandle;
+import edu.cornell.gdiac.audio.AudioEngine;
+import edu.cornell.gdiac.audio.AudioSource;
+import edu.cornell.gdiac.audio.EffectFactory;
+import edu.cornell.gdiac.audio.MusicQueue;
+import edu.cornell.gdiac.audio.SoundEffect;
+
+/**
+ * Audio engine stand-in for the headless tests.
+ *
+ * <p>Sound loads succeed with silent sources, so that the asset directory loads as it does in
+ * the game; music is left unsupported.
+ */
+public class SilentAudio implements AudioEngine {
+    @Override
+    public AudioSource newSource(FileHandle file) {
+        return new SilentSource(file);
+    }
+
+    @Override
+    public SoundEffect newSound(FileHandle file) {
+        return new SilentSound(file);
+    }
+
+    @Override
+    public SoundEffect newSoundEffect(AudioSource source) {
+        return new SilentSound(source.getFile());
+    }
+
+    @Override public MusicQueue newMusic(FileHandle file) { return null; }
+    @Override public MusicQueue newMusicQueue(boolean isMono, int sampleRate) { return null; }
+    @Override public AudioDevice newAudioDevice(int samplingRate, boolean isMono) { return null; }
+    @Override public AudioRecorder newAudioRecorder(int samplingRate, boolean isMono) { return null; }
+    @Override public EffectFactory getEffectFactory() { return null; }
+    @Override public int getCapacity() { return 0; }
+    @Override public void pause() { }
+    @Override public void resume() { }
+    @Override public boolean switchOutputDevice(String deviceIdentifier) { return false; }
+    @Override public String[] getAvailableOutputDevices() { return new String[0]; }
+}
@@ -0,0 +1,54 @@
+package edu.cornell.cis3152.physics;
+
+import com.badlogic.gdx.files.FileHandle;
+import edu.cornell.gdiac.audio.EffectFilter;
+import edu.cornell.gdiac.audio.SoundEffect;
+
+/**
+ * A sound for {@link SilentAudio} that plays nothing.
+ *
+ * <p>Every play returns instance 0, and no instance is ever playing, so callers that track their
+ * voices see each one finish right away.
+ */
+public class SilentSound implements SoundEffect {
+    private final FileHandle file;
+
+    public SilentSound(FileHandle file) {
+        this.file = file;
+    }
+
+    @Override public FileHandle getFile() { return file; }
+    @Override public boolean isMono() { return true; }
+    @Override public int getSampleRate() { return 44100; }
+    @Override public float getDuration() { return 0; }
+    @Override public void setOnCompletionListener(OnCompletionListener listener) { }
+
+    @Override public long play() { return 0; }
+    @Override public long play(float volume) { return 0; }
+    @Override public long play(float volume, float pitch, float pan) { return 0; }
+    @Override public long loop() { return 0; }
+    @Override public long loop(float volume) { return 0; }
+    @Override public long loop(float volume, float pitch, float pan) { return 0; }
+    @Override public void stop() { }
+    @Override public void pause() { }
+    @Override public void resume() { }
+    @Override public void stop(long soundId) { }
+    @Override public void pause(long soundId) { }
+    @Override public void resume(long soundId) { }
+    @Override public void dispose() { }
+
+    @Override public boolean isPlaying(long soundId) { return false; }
+    @Override public float getVolume(long soundId) { return 0; }
+    @Override public void setVolume(long soundId, float volume) { }
+    @Override public boolean getLooping(long soundId) { return false; }
+    @Override public void setLooping(long soundId, boolean looping) { }
+    @Override public float getPitch(long soundId) { return 1; }
+    @Override public void setPitch(long soundId, float pitch) { }
+    @Override public float getPan(long soundId) { return 0; }
+    @Override public void setPan(long soundId, float pan) { }
+    @Override public void setPan(long soundId, float pan, float volume) { }
+    @Override public float getPosition(long soundId) { return 0; }
+    @Override public void setPosition(long soundId, float seconds) { }
+    @Override public void addEffect(long soundId, EffectFilter effect) { }
+    @Override public void removeEffect(long soundId, EffectFilter effect) { }
+}
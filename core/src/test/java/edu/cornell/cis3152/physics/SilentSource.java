@@ -0,0 +1,24 @@
+package edu.cornell.cis3152.physics;
+
+import com.badlogic.gdx.files.FileHandle;
+import edu.cornell.gdiac.audio.AudioSource;
+import edu.cornell.gdiac.audio.AudioStream;
+
+import java.nio.ByteBuffer;
+
+/** An empty audio source for {@link SilentAudio}: no samples and no stream. */
+public class SilentSource implements AudioSource {
+    private final FileHandle file;
+
+    public SilentSource(FileHandle file) {
+        this.file = file;
+    }
+
+    @Override public FileHandle getFile() { return file; }
+    @Override public int getChannels() { return 1; }
+    @Override public int getSampleRate() { return 44100; }
+    @Override public float getDuration() { return 0; }
+    @Override public AudioStream getStream() { return null; }
+    @Override public ByteBuffer getData() { return null; }
+    @Override public void dispose() { }
+}
@@ -16,6 +16,7 @@
  */
 package edu.cornell.cis3152.physics.lwjgl3;
 
+import edu.cornell.cis3152.physics.BootTrace;
 import edu.cornell.cis3152.physics.DesktopDisplayLayout;
 import edu.cornell.cis3152.physics.FrogRoot;
 import edu.cornell.gdiac.backend.*;
@@ -38,11 +39,18 @@ public class DesktopLauncher {
      * @param arg Command line arguments
      */
     public static void main(String[] args) {
+        BootTrace.markMain();
+        long start = BootTrace.start();
         // This handles macOS support and helps on Windows.
         if (StartupHelper.startNewJvmIfRequired()) {
             return;
         }
-        new GDXApp(new FrogRoot(), configureApplication());
+        BootTrace.span("launcher", "StartupHelper", start);
+        FrogRoot root = new FrogRoot();
+        root.setPlatformSetup(() -> DesktopWindowListener.install(root));
+        // Window and GL context creation, up to FrogRoot.create
+        BootTrace.begin("launcher", "GDXApp startup");
+        new GDXApp(root, configureApplication());
     }
 
     /**
@@ -74,6 +82,10 @@ public class DesktopLauncher {
         config.vSyncEnabled = true;
         // Limits FPS to 60 frames a second (so we can match physics engine)
         config.foregroundFPS = 60;
+        // How often the loop polls input while FrameScheduler has rendering stopped, which
+        // bounds the input latency of idle menus. It does not draw frames.
+        config.backgroundFPS = 60;
+        config.pauseWhenMinimized = true;
 
         return config;
     }
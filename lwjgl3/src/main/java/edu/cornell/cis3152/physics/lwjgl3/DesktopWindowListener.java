@@ -0,0 +1,62 @@
+/*
+ * DesktopWindowListener.java
+ *
+ * Forwards desktop window focus and minimize events to the frame scheduler.
+ */
+package edu.cornell.cis3152.physics.lwjgl3;
+
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Graphics;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3WindowAdapter;
+import edu.cornell.cis3152.physics.FrameScheduler;
+
+/**
+ * Window listener that throttles rendering while the game window is in the background.
+ *
+ * The backend only pauses the game when the window is minimized. This listener also pauses it
+ * when the window loses focus (so a level in progress opens its pause menu), and tells the
+ * {@link FrameScheduler} which state the window is in. The backend delivers these events on the
+ * render thread.
+ */
+public class DesktopWindowListener extends Lwjgl3WindowAdapter {
+    private final ApplicationListener root;
+
+    private DesktopWindowListener(ApplicationListener root) {
+        this.root = root;
+    }
+
+    /**
+     * Installs a listener on the current window. Called from {@code create()}.
+     *
+     * @param root the application listener to pause and resume on focus changes
+     */
+    public static void install(ApplicationListener root) {
+        if (Gdx.graphics instanceof Lwjgl3Graphics graphics) {
+            graphics.getWindow().setWindowListener(new DesktopWindowListener(root));
+        }
+    }
+
+    @Override
+    public void iconified(boolean isIconified) {
+        FrameScheduler.getInstance().setMinimized(isIconified);
+    }
+
+    @Override
+    public void focusLost() {
+        FrameScheduler.getInstance().setForeground(false);
+        root.pause();
+    }
+
+    @Override
+    public void focusGained() {
+        FrameScheduler.getInstance().setForeground(true);
+        root.resume();
+    }
+
+    @Override
+    public void refreshRequested() {
+        // The OS needs the window redrawn (e.g. uncovered) even if no scene changed.
+        Gdx.graphics.requestRendering();
+    }
+}
@@ -16,6 +16,7 @@
 
 package edu.cornell.cis3152.physics.lwjgl3;
 
+import edu.cornell.cis3152.physics.BootTrace;
 import org.lwjgl.system.macosx.LibC;
 
 import java.io.BufferedReader;
@@ -116,6 +117,10 @@ public class StartupHelper {
         jvmArgs.add("-XstartOnFirstThread");
         jvmArgs.add("-D" + JVM_RESTARTED_ARG + "=true");
         jvmArgs.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        // Lets the boot trace of the new JVM start at this one's launch
+        if (BootTrace.isEnabled()) {
+            jvmArgs.add("-D" + BootTrace.ORIGIN_PROPERTY + "=" + BootTrace.originMillis());
+        }
         jvmArgs.add("-cp");
         jvmArgs.add(System.getProperty("java.class.path"));
         String mainClass = System.getenv("JAVA_MAIN_CLASS_" + pid);